@@ -0,0 +1,39 @@
+package kr.co.zerobase.account.domain;
+
+import static kr.co.zerobase.account.type.AccountStatus.IN_USE;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AccountBenchmark {
+
+    private static final long AMOUNT = 1000L;
+
+    private Account account;
+
+    @Setup
+    public void setUp() {
+        account = Account.builder()
+            .accountNumber("1000000000")
+            .accountStatus(IN_USE)
+            .balance(10000L)
+            .build();
+    }
+
+    // 사용과 취소를 짝지어 잔액이 반복 중에 바뀌지 않도록 한다.
+    @Benchmark
+    public Long useAndCancelBalance() {
+        account.useBalance(AMOUNT);
+        account.cancelBalance(AMOUNT);
+        return account.getBalance();
+    }
+}
@@ -0,0 +1,88 @@
+package kr.co.zerobase.account.dto;
+
+import static kr.co.zerobase.account.type.AccountStatus.IN_USE;
+import static kr.co.zerobase.account.type.TransactionResultType.S;
+import static kr.co.zerobase.account.type.TransactionType.USE;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import kr.co.zerobase.account.domain.Account;
+import kr.co.zerobase.account.domain.AccountUser;
+import kr.co.zerobase.account.domain.Transaction;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DtoMappingBenchmark {
+
+    private Account account;
+    private Transaction transaction;
+    private TransactionDto transactionDto;
+    private AccountDto accountDto;
+
+    @Setup
+    public void setUp() {
+        account = Account.builder()
+            .accountUser(AccountUser.builder().id(1L).name("Pobi").build())
+            .accountNumber("1000000000")
+            .accountStatus(IN_USE)
+            .balance(9000L)
+            .registeredAt(LocalDateTime.now())
+            .build();
+
+        transaction = Transaction.builder()
+            .account(account)
+            .transactionType(USE)
+            .transactionResultType(S)
+            .transactionId("transactionId")
+            .transactedAt(LocalDateTime.now())
+            .amount(1000L)
+            .balanceSnapshot(9000L)
+            .build();
+
+        transactionDto = TransactionDto.fromEntity(transaction);
+        accountDto = AccountDto.fromEntity(account);
+    }
+
+    @Benchmark
+    public TransactionDto transactionDtoFromEntity() {
+        return TransactionDto.fromEntity(transaction);
+    }
+
+    @Benchmark
+    public AccountDto accountDtoFromEntity() {
+        return AccountDto.fromEntity(account);
+    }
+
+    @Benchmark
+    public UseBalance.ResponseDto useBalanceResponse() {
+        return UseBalance.ResponseDto.from(transactionDto);
+    }
+
+    @Benchmark
+    public CancelBalance.ResponseDto cancelBalanceResponse() {
+        return CancelBalance.ResponseDto.from(transactionDto);
+    }
+
+    @Benchmark
+    public GetTransaction.ResponseDto getTransactionResponse() {
+        return GetTransaction.ResponseDto.from(transactionDto);
+    }
+
+    @Benchmark
+    public CreateAccount.ResponseDto createAccountResponse() {
+        return CreateAccount.ResponseDto.from(accountDto);
+    }
+
+    @Benchmark
+    public GetAccounts.AccountInfoDto getAccountsResponse() {
+        return GetAccounts.AccountInfoDto.from(accountDto);
+    }
+}
@@ -0,0 +1,43 @@
+package kr.co.zerobase.account.service;
+
+import java.lang.reflect.Proxy;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import kr.co.zerobase.account.repository.AccountRepository;
+import kr.co.zerobase.account.repository.AccountUserRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AccountServiceBenchmark {
+
+    private AccountService accountService;
+
+    @Setup
+    public void setUp() {
+        // 중복 계좌가 없는 저장소로 번호 생성 자체의 비용만 측정
+        AccountRepository accountRepository = (AccountRepository) Proxy.newProxyInstance(
+            AccountRepository.class.getClassLoader(),
+            new Class<?>[]{AccountRepository.class},
+            (proxy, method, args) -> Optional.empty());
+
+        accountService = new AccountService(accountRepository,
+            (AccountUserRepository) Proxy.newProxyInstance(
+                AccountUserRepository.class.getClassLoader(),
+                new Class<?>[]{AccountUserRepository.class},
+                (proxy, method, args) -> null),
+            null, null);
+    }
+
+    @Benchmark
+    public String generateAccountNumber() {
+        return accountService.generateAccountNumber();
+    }
+}
@@ -0,0 +1,56 @@
+package kr.co.zerobase.account.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import kr.co.zerobase.account.metrics.LockMetrics;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.redisson.Redisson;
+import org.redisson.api.RedissonClient;
+import org.redisson.config.Config;
+import redis.embedded.RedisServer;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LockServiceBenchmark {
+
+    // 로컬 실행 중인 서버(6379)와 겹치지 않는 포트 사용
+    private static final int REDIS_PORT = 6390;
+    private static final String LOCK_KEY = "ModifyAccountLock:1000000000";
+
+    private RedisServer redisServer;
+    private RedissonClient redissonClient;
+    private LockService lockService;
+
+    @Setup
+    public void setUp() throws IOException {
+        redisServer = new RedisServer(REDIS_PORT);
+        redisServer.start();
+
+        Config config = new Config();
+        config.useSingleServer().setAddress("redis://127.0.0.1:" + REDIS_PORT);
+        redissonClient = Redisson.create(config);
+
+        lockService = new LockService(redissonClient, new LockMetrics(new SimpleMeterRegistry()));
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        redissonClient.shutdown();
+        redisServer.stop();
+    }
+
+    @Benchmark
+    public void lockAndUnlock() throws InterruptedException {
+        lockService.lock(LOCK_KEY);
+        lockService.unlock(LOCK_KEY);
+    }
+}
@@ -2,12 +2,18 @@ package kr.co.zerobase.account;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
 
 @SpringBootApplication
 public class AccountApplication {
 
+    private static final int STARTUP_STEP_CAPACITY = 2048;
+
     public static void main(String[] args) {
-        SpringApplication.run(AccountApplication.class, args);
+        SpringApplication application = new SpringApplication(AccountApplication.class);
+        // 단계별 기동 시간은 /actuator/startup 으로 확인
+        application.setApplicationStartup(new BufferingApplicationStartup(STARTUP_STEP_CAPACITY));
+        application.run(args);
     }
 
 }
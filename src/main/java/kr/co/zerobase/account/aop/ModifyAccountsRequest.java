@@ -0,0 +1,8 @@
+package kr.co.zerobase.account.aop;
+
+import java.util.List;
+
+public interface ModifyAccountsRequest {
+
+    List<String> getAccountNumbers();
+}
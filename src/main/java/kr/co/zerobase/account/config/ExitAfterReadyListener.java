@@ -0,0 +1,18 @@
+package kr.co.zerobase.account.config;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+// AppCDS 아카이브 생성용: 기동이 끝나면 바로 종료해 로드된 클래스를 덤프한다.
+@Component
+@ConditionalOnProperty(name = "account.startup.exit-after-ready", havingValue = "true")
+public class ExitAfterReadyListener {
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void exit(ApplicationReadyEvent event) {
+        System.exit(SpringApplication.exit(event.getApplicationContext()));
+    }
+}
@@ -1,14 +1,18 @@
 package kr.co.zerobase.account.config;
 
 import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import javax.annotation.PostConstruct;
 import javax.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
 import redis.embedded.RedisServer;
 
 @Slf4j
+@Profile("local")
 @Configuration
 public class LocalRedisConfig {
 
@@ -17,19 +21,31 @@ public class LocalRedisConfig {
 
     private RedisServer redisServer;
 
+    private CompletableFuture<Void> started;
+
+    // 컨텍스트 초기화를 막지 않도록 별도 스레드에서 기동하고, 필요한 쪽에서 awaitStarted 로 기다린다.
     @PostConstruct
-    public void startRedis() throws IOException {
-        redisServer = new RedisServer(redisPort);
-        try {
-            redisServer.start();
-            log.info("embedded redis started!");
-        } catch (Exception e) {
-            log.error("", e);
-        }
+    public void startRedis() {
+        started = CompletableFuture.runAsync(() -> {
+            long startedAt = System.nanoTime();
+            try {
+                redisServer = new RedisServer(redisPort);
+                redisServer.start();
+                log.info("embedded redis started! ({} ms)",
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+            } catch (Exception e) {
+                log.error("", e);
+            }
+        });
+    }
+
+    public void awaitStarted() {
+        started.join();
     }
 
     @PreDestroy
     public void stopRedis() throws IOException {
+        awaitStarted();
         if (redisServer != null) {
             redisServer.stop();
         }
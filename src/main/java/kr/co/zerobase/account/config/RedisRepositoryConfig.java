@@ -3,9 +3,11 @@ package kr.co.zerobase.account.config;
 import org.redisson.Redisson;
 import org.redisson.api.RedissonClient;
 import org.redisson.config.Config;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
 
 @Configuration
 public class RedisRepositoryConfig {
@@ -16,8 +18,12 @@ public class RedisRepositoryConfig {
     @Value("${spring.redis.port}")
     private int redisPort;
 
+    // 첫 사용 시점(RedissonHealthIndicator 의 비동기 연결)에 생성
+    @Lazy
     @Bean
-    public RedissonClient redissonClient() {
+    public RedissonClient redissonClient(ObjectProvider<LocalRedisConfig> localRedisConfig) {
+        localRedisConfig.ifAvailable(LocalRedisConfig::awaitStarted);
+
         Config config = new Config();
         config.useSingleServer().setAddress("redis://" + redisHost + ":" + redisPort);
         return Redisson.create(config);
@@ -0,0 +1,51 @@
+package kr.co.zerobase.account.config;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+// readiness 그룹에 포함되어 Redis 연결이 끝나기 전까지 트래픽을 받지 않는다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedissonHealthIndicator implements HealthIndicator {
+
+    private final ObjectProvider<RedissonClient> redissonClient;
+
+    private volatile CompletableFuture<Void> connection;
+
+    @EventListener(ApplicationStartedEvent.class)
+    public void connect() {
+        connection = CompletableFuture.runAsync(() -> {
+            long startedAt = System.nanoTime();
+            redissonClient.getObject().getNodesGroup().pingAll();
+            log.info("redisson connected ({} ms)",
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+        });
+    }
+
+    @Override
+    public Health health() {
+        if (connection == null || !connection.isDone()) {
+            return Health.down().withDetail("connection", "connecting").build();
+        }
+
+        if (connection.isCompletedExceptionally()) {
+            // 기동 시 연결에 실패했다면 다음 확인 때 다시 시도
+            connect();
+            return Health.down().withDetail("connection", "failed").build();
+        }
+
+        return redissonClient.getObject().getNodesGroup().pingAll()
+            ? Health.up().build()
+            : Health.down().withDetail("connection", "ping failed").build();
+    }
+}
@@ -0,0 +1,15 @@
+package kr.co.zerobase.account.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// 통합 테스트는 예약 작업이 측정 구간에 끼어들지 않도록 끈다.
+// 스케줄러 스레드 수(spring.task.scheduling.pool.size)는 예약 작업 수에 맞춘다.
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "account.scheduling.enabled", havingValue = "true",
+    matchIfMissing = true)
+public class SchedulingConfig {
+
+}
@@ -0,0 +1,184 @@
+package kr.co.zerobase.account.config;
+
+import static kr.co.zerobase.account.type.AccountStatus.IN_USE;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.LocalDateTime;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import kr.co.zerobase.account.controller.HoldController;
+import kr.co.zerobase.account.controller.TransactionController;
+import kr.co.zerobase.account.domain.Account;
+import kr.co.zerobase.account.domain.AccountUser;
+import kr.co.zerobase.account.dto.AuthorizeBalance;
+import kr.co.zerobase.account.dto.CancelBalance;
+import kr.co.zerobase.account.dto.DepositBalance;
+import kr.co.zerobase.account.dto.GetAccounts;
+import kr.co.zerobase.account.dto.GetTransaction;
+import kr.co.zerobase.account.dto.TransferBalance;
+import kr.co.zerobase.account.dto.UseBalance;
+import kr.co.zerobase.account.exception.AccountException;
+import kr.co.zerobase.account.metrics.MetricsSuppression;
+import kr.co.zerobase.account.repository.AccountRepository;
+import kr.co.zerobase.account.repository.AccountUserRepository;
+import kr.co.zerobase.account.service.AccountService;
+import kr.co.zerobase.account.service.TransactionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// ApplicationRunner 가 끝나야 readiness 가 ACCEPTING_TRAFFIC 으로 바뀌므로,
+// 사용/취소/입금/송금/홀드/조회 경로를 미리 실행해 JIT 컴파일과 커넥션 풀을 데운 뒤 트래픽을 받는다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "account.warm-up.enabled", havingValue = "true")
+public class WarmUpRunner implements ApplicationRunner {
+
+    private static final long WARM_UP_BALANCE = 1_000_000_000L;
+    private static final long WARM_UP_AMOUNT = 1_000L;
+
+    private final TransactionController transactionController;
+    private final HoldController holdController;
+    private final TransactionService transactionService;
+    private final AccountService accountService;
+    private final AccountUserRepository accountUserRepository;
+    private final AccountRepository accountRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final ObjectMapper objectMapper;
+
+    @Value("${account.warm-up.iterations}")
+    private int iterations;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long startedAt = System.nanoTime();
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        try {
+            // 합성 요청이 운영 메트릭과 JFR 이벤트에 섞이지 않도록 기록을 끈다.
+            MetricsSuppression.run(() -> {
+                for (int i = 0; i < iterations; i++) {
+                    // 합성 데이터는 모두 롤백한다.
+                    transactionTemplate.executeWithoutResult(status -> {
+                        status.setRollbackOnly();
+                        warmUp();
+                    });
+                }
+            });
+        } catch (Exception e) {
+            // 워밍업 실패로 기동을 막지는 않는다.
+            log.warn("warm-up stopped", e);
+        }
+
+        log.info("warm-up finished: {} iterations ({} ms)", iterations,
+            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+    }
+
+    private void warmUp() {
+        AccountUser accountUser = accountUserRepository.save(AccountUser.builder()
+            .name("warm-up")
+            .build());
+
+        Account account = createAccount(accountUser);
+        Account counterAccount = createAccount(accountUser);
+
+        UseBalance.ResponseDto used = transactionController.useBalance(
+            readValue(UseBalance.RequestDto.builder()
+                .userId(accountUser.getId())
+                .accountNumber(account.getAccountNumber())
+                .amount(WARM_UP_AMOUNT)
+                .build(), UseBalance.RequestDto.class));
+        writeValue(used);
+
+        writeValue(transactionController.cancelBalance(used.getTransactionId(),
+            readValue(CancelBalance.RequestDto.builder()
+                .accountNumber(account.getAccountNumber())
+                .amount(WARM_UP_AMOUNT)
+                .build(), CancelBalance.RequestDto.class)));
+
+        writeValue(transactionController.depositBalance(
+            readValue(DepositBalance.RequestDto.builder()
+                .accountNumber(account.getAccountNumber())
+                .amount(WARM_UP_AMOUNT)
+                .build(), DepositBalance.RequestDto.class)));
+
+        writeValue(transactionController.transferBalance(
+            readValue(TransferBalance.RequestDto.builder()
+                .userId(accountUser.getId())
+                .fromAccountNumber(account.getAccountNumber())
+                .toAccountNumber(counterAccount.getAccountNumber())
+                .amount(WARM_UP_AMOUNT)
+                .build(), TransferBalance.RequestDto.class)));
+
+        // 홀드 승인 후 확정/취소
+        AuthorizeBalance.RequestDto authorizeRequest = readValue(
+            AuthorizeBalance.RequestDto.builder()
+                .userId(accountUser.getId())
+                .accountNumber(account.getAccountNumber())
+                .amount(WARM_UP_AMOUNT)
+                .build(), AuthorizeBalance.RequestDto.class);
+        writeValue(holdController.captureBalance(
+            holdController.authorizeBalance(authorizeRequest).getHoldId()));
+        writeValue(holdController.voidBalance(
+            holdController.authorizeBalance(authorizeRequest).getHoldId()));
+
+        transactionService.getTransactionETag(used.getTransactionId());
+        writeValue(GetTransaction.ResponseDto.from(
+            transactionService.queryTransaction(used.getTransactionId())));
+
+        accountService.getAccountsETag(accountUser.getId());
+        writeValue(accountService.getAccountsByUserId(accountUser.getId()).stream()
+            .map(GetAccounts.AccountInfoDto::from)
+            .collect(Collectors.toList()));
+
+        // 실패 거래 저장 경로
+        try {
+            transactionController.useBalance(UseBalance.RequestDto.builder()
+                .userId(accountUser.getId())
+                .accountNumber(account.getAccountNumber())
+                .amount(WARM_UP_BALANCE + 1)
+                .build());
+        } catch (AccountException ignored) {
+        }
+    }
+
+    // AccountService.createAccount 와 같은 방식으로 계좌를 만든다.
+    // 실제 계좌번호는 숫자로만 이루어지므로 겹치지 않는다.
+    private Account createAccount(AccountUser accountUser) {
+        return accountRepository.save(Account.builder()
+            .accountUser(accountUser)
+            .accountNumber(String.format("W%09d",
+                ThreadLocalRandom.current().nextInt(1_000_000_000)))
+            .accountStatus(IN_USE)
+            .balance(WARM_UP_BALANCE)
+            .initialBalance(WARM_UP_BALANCE)
+            .heldBalance(0L)
+            .registeredAt(LocalDateTime.now())
+            .build());
+    }
+
+    private <T> T readValue(T value, Class<T> type) {
+        try {
+            return objectMapper.readValue(objectMapper.writeValueAsString(value), type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void writeValue(Object value) {
+        try {
+            objectMapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
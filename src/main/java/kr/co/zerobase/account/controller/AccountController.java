@@ -1,14 +1,39 @@
 package kr.co.zerobase.account.controller;
 
+import static kr.co.zerobase.account.type.BulkheadType.EXPORT;
+import static kr.co.zerobase.account.type.BulkheadType.READ;
+import static kr.co.zerobase.account.type.BulkheadType.WRITE;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 import javax.validation.Valid;
+import kr.co.zerobase.account.aop.Bulkhead;
 import kr.co.zerobase.account.aop.CreateAccountLock;
+import kr.co.zerobase.account.aop.ModifyAccountLock;
 import kr.co.zerobase.account.dto.CreateAccount;
 import kr.co.zerobase.account.dto.DeleteAccount;
+import kr.co.zerobase.account.dto.GetAccountTransactions;
 import kr.co.zerobase.account.dto.GetAccounts;
+import kr.co.zerobase.account.dto.GetBalanceAt;
+import kr.co.zerobase.account.dto.GetDailySummaries;
+import kr.co.zerobase.account.dto.GetTransactionSummary;
+import kr.co.zerobase.account.dto.ShardAccountBalance;
+import kr.co.zerobase.account.exception.AccountException;
 import kr.co.zerobase.account.service.AccountService;
+import kr.co.zerobase.account.service.BalanceShardService;
+import kr.co.zerobase.account.service.BulkheadService;
+import kr.co.zerobase.account.service.DailySummaryService;
+import kr.co.zerobase.account.service.TransactionHistoryService;
+import kr.co.zerobase.account.type.ExportFormat;
+import kr.co.zerobase.account.type.TransactionResultType;
+import kr.co.zerobase.account.type.TransactionType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.format.annotation.DateTimeFormat.ISO;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -17,6 +42,8 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/accounts")
@@ -24,8 +51,13 @@ import org.springframework.web.bind.annotation.RestController;
 public class AccountController {
 
     private final AccountService accountService;
+    private final BalanceShardService balanceShardService;
+    private final TransactionHistoryService transactionHistoryService;
+    private final DailySummaryService dailySummaryService;
+    private final BulkheadService bulkheadService;
 
     @PostMapping
+    @Bulkhead(WRITE)
     @CreateAccountLock
     public CreateAccount.ResponseDto createAccount(
         @RequestBody @Valid CreateAccount.RequestDto request) {
@@ -37,6 +69,7 @@ public class AccountController {
     }
 
     @DeleteMapping("{accountNumber}")
+    @Bulkhead(WRITE)
     public DeleteAccount.ResponseDto deleteAccount(
         @PathVariable String accountNumber,
         @RequestBody @Valid DeleteAccount.RequestDto request) {
@@ -55,12 +88,125 @@ public class AccountController {
         );
     }
 
+    @PostMapping("balance-shards")
+    @Bulkhead(WRITE)
+    @ModifyAccountLock
+    public ShardAccountBalance.ResponseDto shardAccountBalance(
+        @RequestBody @Valid ShardAccountBalance.RequestDto request) {
+        return ShardAccountBalance.ResponseDto.from(
+            balanceShardService.shardBalance(
+                request.getUserId(),
+                request.getAccountNumber(),
+                request.getShardCount())
+        );
+    }
+
     @GetMapping
+    @Bulkhead(READ)
     public List<GetAccounts.AccountInfoDto> getAccounts(
-        @RequestParam(name = "user_id") long userId) {
+        @RequestParam(name = "user_id") long userId,
+        WebRequest webRequest) {
+        String eTag = accountService.getAccountsETag(userId);
+        if (eTag != null && webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+
         return accountService.getAccountsByUserId(userId)
             .stream()
             .map(GetAccounts.AccountInfoDto::from)
             .collect(Collectors.toList());
     }
+
+    @GetMapping("{accountNumber}/transactions")
+    @Bulkhead(READ)
+    public GetAccountTransactions.ResponseDto getAccountTransactions(
+        @PathVariable String accountNumber,
+        @RequestParam(name = "transaction_type", required = false)
+        TransactionType transactionType,
+        @RequestParam(name = "transaction_result", required = false)
+        TransactionResultType transactionResultType,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = "20") int size) {
+        return GetAccountTransactions.ResponseDto.from(
+            transactionHistoryService.getTransactions(
+                accountNumber,
+                transactionType,
+                transactionResultType,
+                cursor,
+                size)
+        );
+    }
+
+    @GetMapping("{accountNumber}/transactions/summary")
+    @Bulkhead(READ)
+    public GetTransactionSummary.ResponseDto getTransactionSummary(
+        @PathVariable String accountNumber,
+        @RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE_TIME) LocalDateTime from,
+        @RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE_TIME) LocalDateTime to) {
+        return GetTransactionSummary.ResponseDto.from(
+            transactionHistoryService.getTransactionSummary(
+                accountNumber,
+                from,
+                to)
+        );
+    }
+
+    @GetMapping("{accountNumber}/balance")
+    @Bulkhead(READ)
+    public GetBalanceAt.ResponseDto getBalanceAt(
+        @PathVariable String accountNumber,
+        @RequestParam @DateTimeFormat(iso = ISO.DATE_TIME) LocalDateTime at) {
+        return GetBalanceAt.ResponseDto.from(
+            transactionHistoryService.getBalanceAt(
+                accountNumber,
+                at)
+        );
+    }
+
+    @GetMapping("{accountNumber}/daily-summaries")
+    @Bulkhead(READ)
+    public List<GetDailySummaries.DailySummaryInfoDto> getDailySummaries(
+        @PathVariable String accountNumber,
+        @RequestParam @DateTimeFormat(iso = ISO.DATE) LocalDate from,
+        @RequestParam @DateTimeFormat(iso = ISO.DATE) LocalDate to) {
+        return dailySummaryService.getDailySummaries(accountNumber, from, to)
+            .stream()
+            .map(GetDailySummaries.DailySummaryInfoDto::from)
+            .collect(Collectors.toList());
+    }
+
+    @GetMapping("{accountNumber}/transactions/export")
+    @Bulkhead(READ)
+    public ResponseEntity<StreamingResponseBody> exportAccountTransactions(
+        @PathVariable String accountNumber,
+        @RequestParam(defaultValue = "NDJSON") ExportFormat format,
+        @RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE_TIME) LocalDateTime from,
+        @RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE_TIME) LocalDateTime to) {
+        // 응답을 쓰기 시작한 뒤에는 상태 코드를 바꿀 수 없으므로 계좌는 먼저 확인한다.
+        Long accountId = transactionHistoryService.getAccountId(accountNumber);
+
+        return ResponseEntity.ok()
+            .contentType(format.getMediaType())
+            .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\""
+                + accountNumber + "-transactions." + format.getExtension() + "\"")
+            .body(outputStream -> {
+                // @Bulkhead 는 메서드가 반환하면 풀리므로 스트리밍하는 동안은 내보내기 허용량을 잡는다.
+                acquireExportBulkhead();
+                try {
+                    transactionHistoryService.exportTransactions(
+                        accountId, accountNumber, from, to, format, outputStream);
+                } finally {
+                    bulkheadService.release(EXPORT);
+                }
+            });
+    }
+
+    private void acquireExportBulkhead() {
+        try {
+            bulkheadService.acquire(EXPORT);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AccountException(EXPORT.getErrorCode());
+        }
+    }
 }
@@ -0,0 +1,48 @@
+package kr.co.zerobase.account.controller;
+
+import static kr.co.zerobase.account.type.BulkheadType.WRITE;
+
+import javax.validation.Valid;
+import kr.co.zerobase.account.aop.Bulkhead;
+import kr.co.zerobase.account.dto.AuthorizeBalance;
+import kr.co.zerobase.account.dto.UseBalance;
+import kr.co.zerobase.account.dto.VoidHold;
+import kr.co.zerobase.account.service.HoldService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/holds")
+@RequiredArgsConstructor
+public class HoldController {
+
+    private final HoldService holdService;
+
+    @PostMapping
+    @Bulkhead(WRITE)
+    public AuthorizeBalance.ResponseDto authorizeBalance(
+        @RequestBody @Valid AuthorizeBalance.RequestDto request) {
+        return AuthorizeBalance.ResponseDto.from(
+            holdService.authorizeBalance(
+                request.getUserId(),
+                request.getAccountNumber(),
+                request.getAmount())
+        );
+    }
+
+    @PostMapping("/{holdId}/capture")
+    @Bulkhead(WRITE)
+    public UseBalance.ResponseDto captureBalance(@PathVariable String holdId) {
+        return UseBalance.ResponseDto.from(holdService.captureBalance(holdId));
+    }
+
+    @PostMapping("/{holdId}/void")
+    @Bulkhead(WRITE)
+    public VoidHold.ResponseDto voidBalance(@PathVariable String holdId) {
+        return VoidHold.ResponseDto.from(holdService.voidBalance(holdId));
+    }
+}
@@ -1,12 +1,20 @@
 package kr.co.zerobase.account.controller;
 
+import static kr.co.zerobase.account.type.BulkheadType.READ;
+import static kr.co.zerobase.account.type.BulkheadType.WRITE;
 import static kr.co.zerobase.account.type.TransactionType.CANCEL;
+import static kr.co.zerobase.account.type.TransactionType.DEPOSIT;
+import static kr.co.zerobase.account.type.TransactionType.TRANSFER_WITHDRAW;
 import static kr.co.zerobase.account.type.TransactionType.USE;
 
 import javax.validation.Valid;
+import kr.co.zerobase.account.aop.Bulkhead;
 import kr.co.zerobase.account.aop.ModifyAccountLock;
+import kr.co.zerobase.account.aop.ModifyAccountsLock;
 import kr.co.zerobase.account.dto.CancelBalance;
+import kr.co.zerobase.account.dto.DepositBalance;
 import kr.co.zerobase.account.dto.GetTransaction;
+import kr.co.zerobase.account.dto.TransferBalance;
 import kr.co.zerobase.account.dto.UseBalance;
 import kr.co.zerobase.account.exception.AccountException;
 import kr.co.zerobase.account.service.TransactionService;
@@ -17,6 +25,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/transactions")
@@ -26,6 +35,7 @@ public class TransactionController {
     private final TransactionService transactionService;
 
     @PostMapping("use")
+    @Bulkhead(WRITE)
     @ModifyAccountLock
     public UseBalance.ResponseDto useBalance(
         @RequestBody @Valid UseBalance.RequestDto request) {
@@ -49,6 +59,7 @@ public class TransactionController {
     }
 
     @PostMapping("/{transactionId}/cancel")
+    @Bulkhead(WRITE)
     @ModifyAccountLock
     public CancelBalance.ResponseDto cancelBalance(
         @PathVariable String transactionId,
@@ -72,8 +83,63 @@ public class TransactionController {
         }
     }
 
+    @PostMapping("deposit")
+    @Bulkhead(WRITE)
+    public DepositBalance.ResponseDto depositBalance(
+        @RequestBody @Valid DepositBalance.RequestDto request) {
+        try {
+            return DepositBalance.ResponseDto.from(
+                transactionService.depositBalance(
+                    request.getAccountNumber(),
+                    request.getAmount())
+            );
+        } catch (AccountException e) {
+            transactionService.saveFailedUseTransaction(
+                DEPOSIT,
+                request.getAccountNumber(),
+                request.getAmount(),
+                e.getErrorCode()
+            );
+
+            throw e;
+        }
+    }
+
+    @PostMapping("transfer")
+    @Bulkhead(WRITE)
+    @ModifyAccountsLock
+    public TransferBalance.ResponseDto transferBalance(
+        @RequestBody @Valid TransferBalance.RequestDto request) {
+        try {
+            return TransferBalance.ResponseDto.from(
+                transactionService.transferBalance(
+                    request.getUserId(),
+                    request.getFromAccountNumber(),
+                    request.getToAccountNumber(),
+                    request.getAmount())
+            );
+        } catch (AccountException e) {
+            transactionService.saveFailedUseTransaction(
+                TRANSFER_WITHDRAW,
+                request.getFromAccountNumber(),
+                request.getAmount(),
+                e.getErrorCode()
+            );
+
+            throw e;
+        }
+    }
+
     @GetMapping("{transactionId}")
-    public GetTransaction.ResponseDto getTransaction(@PathVariable String transactionId) {
+    @Bulkhead(READ)
+    public GetTransaction.ResponseDto getTransaction(
+        @PathVariable String transactionId,
+        WebRequest webRequest) {
+        String eTag = transactionService.getTransactionETag(transactionId);
+        if (eTag != null && webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+
         return GetTransaction.ResponseDto.from(transactionService.queryTransaction(transactionId));
     }
 }
@@ -1,10 +1,13 @@
 package kr.co.zerobase.account.domain;
 
 import static kr.co.zerobase.account.type.AccountStatus.UNREGISTERED;
+import static kr.co.zerobase.account.type.ErrorCode.ACCOUNT_BALANCE_ALREADY_SHARDED;
 import static kr.co.zerobase.account.type.ErrorCode.AMOUNT_EXCEED_BALANCE;
 import static kr.co.zerobase.account.type.ErrorCode.INVALID_REQUEST;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.EnumType;
@@ -36,6 +39,15 @@ public class Account extends BaseEntity {
 
     private Long balance;
 
+    // 원장 대사 기준이 되는 개설 시 잔액
+    private Long initialBalance;
+
+    // 승인(authorize) 후 아직 캡처/취소되지 않은 금액
+    private Long heldBalance;
+
+    // 잔액 분할 계좌이면 샤드 수, balance 는 샤드에 나눠 담지 않은 나머지 잔액
+    private Integer balanceShardCount;
+
     private LocalDateTime registeredAt;
 
     private LocalDateTime unregisteredAt;
@@ -45,14 +57,48 @@ public class Account extends BaseEntity {
         unregisteredAt = LocalDateTime.now();
     }
 
+    public long getAvailableBalance() {
+        return balance - (heldBalance == null ? 0L : heldBalance);
+    }
+
+    public boolean isBalanceSharded() {
+        return balanceShardCount != null;
+    }
+
+    // 가용 잔액을 샤드 수만큼 고르게 나눠 샤드별 초기 잔액을 돌려준다.
+    public List<Long> shardBalance(int shardCount) {
+        if (isBalanceSharded()) {
+            throw new AccountException(ACCOUNT_BALANCE_ALREADY_SHARDED);
+        }
+
+        long availableBalance = getAvailableBalance();
+        List<Long> shardBalances = new ArrayList<>(shardCount);
+        for (int i = 0; i < shardCount; i++) {
+            shardBalances.add(
+                availableBalance / shardCount + (i < availableBalance % shardCount ? 1 : 0));
+        }
+
+        balance -= availableBalance;
+        balanceShardCount = shardCount;
+        return shardBalances;
+    }
+
     public void useBalance(Long amount) {
-        if (amount > balance) {
+        if (amount > getAvailableBalance()) {
             throw new AccountException(AMOUNT_EXCEED_BALANCE);
         }
 
         balance -= amount;
     }
 
+    public void depositBalance(Long amount) {
+        if (amount <= 0) {
+            throw new AccountException(INVALID_REQUEST);
+        }
+
+        balance += amount;
+    }
+
     public void cancelBalance(Long amount) {
         if (amount < 0) {
             throw new AccountException(INVALID_REQUEST);
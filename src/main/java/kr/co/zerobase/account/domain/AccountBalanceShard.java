@@ -0,0 +1,28 @@
+package kr.co.zerobase.account.domain;
+
+import javax.persistence.Entity;
+import javax.persistence.ManyToOne;
+import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+@Getter
+@SuperBuilder
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_account_balance_shard_account_index",
+    columnNames = {"account_id", "shard_index"}))
+public class AccountBalanceShard extends BaseEntity {
+
+    @ManyToOne
+    private Account account;
+
+    private Integer shardIndex;
+
+    private Long balance;
+}
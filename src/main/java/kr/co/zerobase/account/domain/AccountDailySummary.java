@@ -0,0 +1,47 @@
+package kr.co.zerobase.account.domain;
+
+import java.time.LocalDate;
+import javax.persistence.Entity;
+import javax.persistence.FetchType;
+import javax.persistence.ManyToOne;
+import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+// 계좌별 일별 거래 집계, 거래 저장과 같은 트랜잭션에서 원자적으로 누적한다.
+@Getter
+@SuperBuilder
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_account_daily_summary_account_date",
+    columnNames = {"account_id", "summary_date"}))
+public class AccountDailySummary extends BaseEntity {
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    private Account account;
+
+    private LocalDate summaryDate;
+
+    // 그날 첫 거래 직전 잔액
+    private Long openingBalance;
+
+    // 그날 마지막 거래 직후 잔액
+    private Long closingBalance;
+
+    // 잔액을 줄인 성공 거래(사용, 송금 출금)
+    private Long debitAmount;
+
+    private Long debitCount;
+
+    // 잔액을 늘린 성공 거래(취소, 입금, 송금 입금)
+    private Long creditAmount;
+
+    private Long creditCount;
+
+    private Long failureCount;
+}
@@ -0,0 +1,71 @@
+package kr.co.zerobase.account.domain;
+
+import java.time.LocalDateTime;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.FetchType;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.ManyToOne;
+import javax.persistence.Table;
+import kr.co.zerobase.account.type.ErrorCode;
+import kr.co.zerobase.account.type.TransactionResultType;
+import kr.co.zerobase.account.type.TransactionType;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 보관 기간이 지난 거래, transaction 테이블에서 id 그대로 옮겨 오며 수정하지 않는다.
+// 옮겨진 거래끼리의 참조는 id 로만 남긴다.
+@Getter
+@Builder
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "transaction_archive", indexes = @Index(
+    name = "idx_transaction_archive_account_id_transacted_at_id",
+    columnList = "account_id, transacted_at, id"))
+public class ArchivedTransaction {
+
+    @Id
+    private Long id;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime updatedAt;
+
+    private Long version;
+
+    @Enumerated(EnumType.STRING)
+    private TransactionType transactionType;
+
+    @Enumerated(EnumType.STRING)
+    private TransactionResultType transactionResultType;
+
+    @Enumerated(EnumType.STRING)
+    private ErrorCode errorCode;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    private Account account;
+
+    private long amount;
+
+    private long balanceSnapshot;
+
+    @Column(unique = true)
+    private String transactionId;
+
+    private LocalDateTime transactedAt;
+
+    private Long transactionForCancelId;
+
+    private boolean isCanceled;
+
+    private Long linkedTransactionId;
+
+    private LocalDateTime archivedAt;
+}
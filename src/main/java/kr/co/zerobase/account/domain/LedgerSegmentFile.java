@@ -0,0 +1,27 @@
+package kr.co.zerobase.account.domain;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+// 봉인이 끝난 세그먼트 파일 목록. 보관 테이블에서 지우는 트랜잭션에서 함께 저장되므로
+// 여기에 없는 파일은 커밋되지 못한 봉인의 잔재이다.
+@Getter
+@SuperBuilder
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+public class LedgerSegmentFile extends BaseEntity {
+
+    @Column(unique = true, nullable = false)
+    private String fileName;
+
+    private Integer rowCount;
+
+    // 시작할 때 디렉토리가 봉인한 곳과 같은지 확인하는 데 쓴다.
+    private Long fileSize;
+}
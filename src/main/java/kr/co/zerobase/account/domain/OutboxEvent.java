@@ -0,0 +1,37 @@
+package kr.co.zerobase.account.domain;
+
+import java.time.LocalDateTime;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.Index;
+import javax.persistence.Table;
+import kr.co.zerobase.account.type.OutboxEventType;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+@Getter
+@SuperBuilder
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(indexes = @Index(name = "idx_outbox_event_published_at_id",
+    columnList = "published_at, id"))
+public class OutboxEvent extends BaseEntity {
+
+    @Enumerated(EnumType.STRING)
+    private OutboxEventType eventType;
+
+    // 계좌 이벤트는 계좌번호, 거래 이벤트는 거래 아이디
+    private String aggregateId;
+
+    @Column(length = 4000)
+    private String payload;
+
+    // null 이면 아직 발행되지 않은 이벤트
+    private LocalDateTime publishedAt;
+}
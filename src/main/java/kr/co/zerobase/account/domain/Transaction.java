@@ -3,15 +3,17 @@ package kr.co.zerobase.account.domain;
 import static kr.co.zerobase.account.type.ErrorCode.CANCEL_BALANCE_MUST_SUCCESS_TRANSACTION;
 import static kr.co.zerobase.account.type.ErrorCode.CANCEL_BALANCE_MUST_USE_TRANSACTION;
 import static kr.co.zerobase.account.type.TransactionResultType.F;
-import static kr.co.zerobase.account.type.TransactionType.CANCEL;
+import static kr.co.zerobase.account.type.TransactionType.USE;
 
 import java.time.LocalDateTime;
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.EnumType;
 import javax.persistence.Enumerated;
+import javax.persistence.Index;
 import javax.persistence.ManyToOne;
 import javax.persistence.OneToOne;
+import javax.persistence.Table;
 import kr.co.zerobase.account.exception.AccountException;
 import kr.co.zerobase.account.type.ErrorCode;
 import kr.co.zerobase.account.type.TransactionResultType;
@@ -27,6 +29,12 @@ import lombok.experimental.SuperBuilder;
 @AllArgsConstructor(access = AccessLevel.PROTECTED)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
+@Table(indexes = {
+    @Index(name = "idx_transaction_account_id_transacted_at_id",
+        columnList = "account_id, transacted_at, id"),
+    @Index(name = "idx_transaction_error_code_transacted_at",
+        columnList = "error_code, transacted_at")
+})
 public class Transaction extends BaseEntity {
 
     @Enumerated(EnumType.STRING)
@@ -55,9 +63,13 @@ public class Transaction extends BaseEntity {
 
     private boolean isCanceled;
 
+    // 송금 입금 거래 -> 출금 거래
+    @OneToOne
+    private Transaction linkedTransaction;
+
     public void cancel() {
         // TODO service에서 유효성 검사 하는데 entity method에서도 유효성 검사가 필요한가?
-        if (transactionType == CANCEL) {
+        if (transactionType != USE) {
             throw new AccountException(CANCEL_BALANCE_MUST_USE_TRANSACTION);
         }
 
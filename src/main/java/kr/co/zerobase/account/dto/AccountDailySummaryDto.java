@@ -0,0 +1,36 @@
+package kr.co.zerobase.account.dto;
+
+import java.time.LocalDate;
+import kr.co.zerobase.account.domain.AccountDailySummary;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class AccountDailySummaryDto {
+
+    private final LocalDate summaryDate;
+    private final Long openingBalance;
+    private final Long closingBalance;
+    private final Long debitAmount;
+    private final Long debitCount;
+    private final Long creditAmount;
+    private final Long creditCount;
+    private final Long failureCount;
+
+    public static AccountDailySummaryDto fromEntity(AccountDailySummary accountDailySummary) {
+        return AccountDailySummaryDto.builder()
+            .summaryDate(accountDailySummary.getSummaryDate())
+            .openingBalance(accountDailySummary.getOpeningBalance())
+            .closingBalance(accountDailySummary.getClosingBalance())
+            .debitAmount(accountDailySummary.getDebitAmount())
+            .debitCount(accountDailySummary.getDebitCount())
+            .creditAmount(accountDailySummary.getCreditAmount())
+            .creditCount(accountDailySummary.getCreditCount())
+            .failureCount(accountDailySummary.getFailureCount())
+            .build();
+    }
+}
@@ -15,14 +15,20 @@ public class AccountDto {
     private final Long userId;
     private final String accountNumber;
     private final Long balance;
+    private final Integer balanceShardCount;
     private final LocalDateTime registeredAt;
     private final LocalDateTime unregisteredAt;
 
     public static AccountDto fromEntity(Account account) {
+        return fromEntity(account, account.getBalance());
+    }
+
+    public static AccountDto fromEntity(Account account, Long balance) {
         return AccountDto.builder()
             .userId(account.getAccountUser().getId())
             .accountNumber(account.getAccountNumber())
-            .balance(account.getBalance())
+            .balance(balance)
+            .balanceShardCount(account.getBalanceShardCount())
             .registeredAt(account.getRegisteredAt())
             .unregisteredAt(account.getUnregisteredAt())
             .build();
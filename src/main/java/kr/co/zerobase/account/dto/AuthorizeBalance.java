@@ -0,0 +1,64 @@
+package kr.co.zerobase.account.dto;
+
+import static kr.co.zerobase.account.type.ValidationMessage.ACCOUNT_NUMBER_NOT_NULL;
+import static kr.co.zerobase.account.type.ValidationMessage.ACCOUNT_NUMBER_SIZE_10;
+import static kr.co.zerobase.account.type.ValidationMessage.USER_ID_MIN_1;
+import static kr.co.zerobase.account.type.ValidationMessage.USER_ID_NOT_NULL;
+import static kr.co.zerobase.account.type.ValidationMessage.USE_BALANCE_AMOUNT_MAX_1_000_000_000;
+import static kr.co.zerobase.account.type.ValidationMessage.USE_BALANCE_AMOUNT_MIN_10;
+import static kr.co.zerobase.account.type.ValidationMessage.USE_BALANCE_AMOUNT_NOT_NULL;
+
+import java.time.LocalDateTime;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
+import kr.co.zerobase.account.type.HoldStatus;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+public class AuthorizeBalance {
+
+    @Getter
+    @Builder
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    public static class RequestDto {
+
+        @NotNull(message = USER_ID_NOT_NULL)
+        @Min(value = 1, message = USER_ID_MIN_1)
+        private final Long userId;
+
+        @NotNull(message = ACCOUNT_NUMBER_NOT_NULL)
+        @Size(min = 10, max = 10, message = ACCOUNT_NUMBER_SIZE_10)
+        private final String accountNumber;
+
+        @NotNull(message = USE_BALANCE_AMOUNT_NOT_NULL)
+        @Min(value = 10, message = USE_BALANCE_AMOUNT_MIN_10)
+        @Max(value = 1_000_000_000, message = USE_BALANCE_AMOUNT_MAX_1_000_000_000)
+        private final Long amount;
+    }
+
+    @Getter
+    @Builder
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    public static class ResponseDto {
+
+        private final String holdId;
+        private final String accountNumber;
+        private final Long amount;
+        private final HoldStatus status;
+        private final LocalDateTime expiresAt;
+
+        public static ResponseDto from(BalanceHoldDto balanceHoldDto) {
+            return ResponseDto.builder()
+                .holdId(balanceHoldDto.getHoldId())
+                .accountNumber(balanceHoldDto.getAccountNumber())
+                .amount(balanceHoldDto.getAmount())
+                .status(balanceHoldDto.getStatus())
+                .expiresAt(balanceHoldDto.getExpiresAt())
+                .build();
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package kr.co.zerobase.account.dto;
+
+import java.time.LocalDateTime;
+import kr.co.zerobase.account.type.BalanceSource;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class BalanceAtDto {
+
+    private final String accountNumber;
+    private final LocalDateTime at;
+    private final Long balance;
+    private final BalanceSource source;
+}
@@ -0,0 +1,33 @@
+package kr.co.zerobase.account.dto;
+
+import java.time.LocalDateTime;
+import kr.co.zerobase.account.domain.BalanceHold;
+import kr.co.zerobase.account.type.HoldStatus;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class BalanceHoldDto {
+
+    private final String holdId;
+    private final String accountNumber;
+    private final Long amount;
+    private final HoldStatus status;
+    private final LocalDateTime expiresAt;
+    private final LocalDateTime settledAt;
+
+    public static BalanceHoldDto fromEntity(BalanceHold balanceHold) {
+        return BalanceHoldDto.builder()
+            .holdId(balanceHold.getHoldId())
+            .accountNumber(balanceHold.getAccount().getAccountNumber())
+            .amount(balanceHold.getAmount())
+            .status(balanceHold.getStatus())
+            .expiresAt(balanceHold.getExpiresAt())
+            .settledAt(balanceHold.getSettledAt())
+            .build();
+    }
+}
@@ -0,0 +1,56 @@
+package kr.co.zerobase.account.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+import kr.co.zerobase.account.type.TransactionResultType;
+import kr.co.zerobase.account.type.TransactionType;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+public class GetAccountTransactions {
+
+    @Getter
+    @Builder
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    public static class ResponseDto {
+
+        private final List<TransactionInfoDto> transactions;
+        private final String nextCursor;
+
+        public static ResponseDto from(TransactionPageDto transactionPageDto) {
+            return ResponseDto.builder()
+                .transactions(transactionPageDto.getTransactions().stream()
+                    .map(TransactionInfoDto::from)
+                    .collect(Collectors.toList()))
+                .nextCursor(transactionPageDto.getNextCursor())
+                .build();
+        }
+    }
+
+    @Getter
+    @Builder
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    public static class TransactionInfoDto {
+
+        private final String transactionId;
+        private final TransactionType transactionType;
+        private final TransactionResultType transactionResult;
+        private final Long amount;
+        private final Long balanceSnapshot;
+        private final LocalDateTime transactedAt;
+
+        public static TransactionInfoDto from(TransactionDto transactionDto) {
+            return TransactionInfoDto.builder()
+                .transactionId(transactionDto.getTransactionId())
+                .transactionType(transactionDto.getTransactionType())
+                .transactionResult(transactionDto.getTransactionResultType())
+                .amount(transactionDto.getAmount())
+                .balanceSnapshot(transactionDto.getBalanceSnapshot())
+                .transactedAt(transactionDto.getTransactedAt())
+                .build();
+        }
+    }
+}
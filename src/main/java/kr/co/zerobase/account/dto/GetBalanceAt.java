@@ -0,0 +1,31 @@
+package kr.co.zerobase.account.dto;
+
+import java.time.LocalDateTime;
+import kr.co.zerobase.account.type.BalanceSource;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+public class GetBalanceAt {
+
+    @Getter
+    @Builder
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    public static class ResponseDto {
+
+        private final String accountNumber;
+        private final LocalDateTime at;
+        private final Long balance;
+        private final BalanceSource source;
+
+        public static ResponseDto from(BalanceAtDto balanceAtDto) {
+            return ResponseDto.builder()
+                .accountNumber(balanceAtDto.getAccountNumber())
+                .at(balanceAtDto.getAt())
+                .balance(balanceAtDto.getBalance())
+                .source(balanceAtDto.getSource())
+                .build();
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package kr.co.zerobase.account.dto;
+
+import java.time.LocalDate;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+public class GetDailySummaries {
+
+    @Getter
+    @Builder
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    public static class DailySummaryInfoDto {
+
+        private final LocalDate date;
+        private final Long openingBalance;
+        private final Long closingBalance;
+        private final Long debitAmount;
+        private final Long debitCount;
+        private final Long creditAmount;
+        private final Long creditCount;
+        private final Long failureCount;
+
+        public static DailySummaryInfoDto from(AccountDailySummaryDto accountDailySummaryDto) {
+            return DailySummaryInfoDto.builder()
+                .date(accountDailySummaryDto.getSummaryDate())
+                .openingBalance(accountDailySummaryDto.getOpeningBalance())
+                .closingBalance(accountDailySummaryDto.getClosingBalance())
+                .debitAmount(accountDailySummaryDto.getDebitAmount())
+                .debitCount(accountDailySummaryDto.getDebitCount())
+                .creditAmount(accountDailySummaryDto.getCreditAmount())
+                .creditCount(accountDailySummaryDto.getCreditCount())
+                .failureCount(accountDailySummaryDto.getFailureCount())
+                .build();
+        }
+    }
+}
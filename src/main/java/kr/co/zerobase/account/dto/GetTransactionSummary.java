@@ -0,0 +1,36 @@
+package kr.co.zerobase.account.dto;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import kr.co.zerobase.account.dto.TransactionSummaryDto.TransactionTotal;
+import kr.co.zerobase.account.type.ErrorCode;
+import kr.co.zerobase.account.type.TransactionType;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+public class GetTransactionSummary {
+
+    @Getter
+    @Builder
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    public static class ResponseDto {
+
+        private final String accountNumber;
+        private final LocalDateTime from;
+        private final LocalDateTime to;
+        private final Map<TransactionType, TransactionTotal> totals;
+        private final Map<ErrorCode, Long> failureCounts;
+
+        public static ResponseDto from(TransactionSummaryDto transactionSummaryDto) {
+            return ResponseDto.builder()
+                .accountNumber(transactionSummaryDto.getAccountNumber())
+                .from(transactionSummaryDto.getFrom())
+                .to(transactionSummaryDto.getTo())
+                .totals(transactionSummaryDto.getTotals())
+                .failureCounts(transactionSummaryDto.getFailureCounts())
+                .build();
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package kr.co.zerobase.account.dto;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+@Getter
+@Builder
+@ToString
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class LedgerMismatch {
+
+    private final String accountNumber;
+    private final Long balance;
+    private final Long ledgerBalance;
+
+    public long getDifference() {
+        return balance - ledgerBalance;
+    }
+}
@@ -0,0 +1,37 @@
+package kr.co.zerobase.account.dto;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class ReconciliationResult {
+
+    private final long checkedAccounts;
+    private final List<LedgerMismatch> mismatches;
+    // 중단되어 확인하지 못한 범위가 있다. 불일치가 없어도 원장이 맞다는 뜻이 아니다.
+    private final boolean aborted;
+
+    public static ReconciliationResult of(long checkedAccounts, List<LedgerMismatch> mismatches) {
+        return new ReconciliationResult(checkedAccounts, mismatches, false);
+    }
+
+    public static ReconciliationResult empty() {
+        return new ReconciliationResult(0L, Collections.emptyList(), false);
+    }
+
+    public static ReconciliationResult aborted() {
+        return new ReconciliationResult(0L, Collections.emptyList(), true);
+    }
+
+    public ReconciliationResult merge(ReconciliationResult other) {
+        List<LedgerMismatch> merged = new ArrayList<>(mismatches);
+        merged.addAll(other.mismatches);
+        return new ReconciliationResult(checkedAccounts + other.checkedAccounts, merged,
+            aborted || other.aborted);
+    }
+}
@@ -0,0 +1,61 @@
+package kr.co.zerobase.account.dto;
+
+import static kr.co.zerobase.account.type.ValidationMessage.ACCOUNT_NUMBER_NOT_NULL;
+import static kr.co.zerobase.account.type.ValidationMessage.ACCOUNT_NUMBER_SIZE_10;
+import static kr.co.zerobase.account.type.ValidationMessage.BALANCE_SHARD_COUNT_MAX_32;
+import static kr.co.zerobase.account.type.ValidationMessage.BALANCE_SHARD_COUNT_MIN_2;
+import static kr.co.zerobase.account.type.ValidationMessage.BALANCE_SHARD_COUNT_NOT_NULL;
+import static kr.co.zerobase.account.type.ValidationMessage.USER_ID_MIN_1;
+import static kr.co.zerobase.account.type.ValidationMessage.USER_ID_NOT_NULL;
+
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
+import kr.co.zerobase.account.aop.ModifyAccountRequest;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+public class ShardAccountBalance {
+
+    @Getter
+    @Builder
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    public static class RequestDto implements ModifyAccountRequest {
+
+        @NotNull(message = USER_ID_NOT_NULL)
+        @Min(value = 1, message = USER_ID_MIN_1)
+        private final Long userId;
+
+        @NotNull(message = ACCOUNT_NUMBER_NOT_NULL)
+        @Size(min = 10, max = 10, message = ACCOUNT_NUMBER_SIZE_10)
+        private final String accountNumber;
+
+        @NotNull(message = BALANCE_SHARD_COUNT_NOT_NULL)
+        @Min(value = 2, message = BALANCE_SHARD_COUNT_MIN_2)
+        @Max(value = 32, message = BALANCE_SHARD_COUNT_MAX_32)
+        private final Integer shardCount;
+    }
+
+    @Getter
+    @Builder
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    public static class ResponseDto {
+
+        private final Long userId;
+        private final String accountNumber;
+        private final Long balance;
+        private final Integer shardCount;
+
+        public static ResponseDto from(AccountDto accountDto) {
+            return ResponseDto.builder()
+                .userId(accountDto.getUserId())
+                .accountNumber(accountDto.getAccountNumber())
+                .balance(accountDto.getBalance())
+                .shardCount(accountDto.getBalanceShardCount())
+                .build();
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package kr.co.zerobase.account.dto;
+
+import static kr.co.zerobase.account.type.ErrorCode.INVALID_REQUEST;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import kr.co.zerobase.account.exception.AccountException;
+import kr.co.zerobase.account.repository.TransactionHistory;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 마지막으로 내려준 거래의 (transactedAt, id) 를 불투명한 문자열로 감싼 페이지 커서
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class TransactionCursor {
+
+    private static final String DELIMITER = ",";
+
+    private final LocalDateTime transactedAt;
+    private final Long id;
+
+    public static TransactionCursor from(TransactionHistory transactionHistory) {
+        return new TransactionCursor(transactionHistory.getTransactedAt(),
+            transactionHistory.getId());
+    }
+
+    public static TransactionCursor decode(String cursor) {
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(cursor),
+                StandardCharsets.UTF_8);
+            int index = value.lastIndexOf(DELIMITER);
+            if (index < 0) {
+                throw new AccountException(INVALID_REQUEST);
+            }
+
+            return new TransactionCursor(LocalDateTime.parse(value.substring(0, index)),
+                Long.parseLong(value.substring(index + 1)));
+        } catch (IllegalArgumentException | DateTimeException e) {
+            throw new AccountException(INVALID_REQUEST);
+        }
+    }
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+            .encodeToString((transactedAt + DELIMITER + id).getBytes(StandardCharsets.UTF_8));
+    }
+}
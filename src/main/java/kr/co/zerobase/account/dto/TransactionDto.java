@@ -1,7 +1,10 @@
 package kr.co.zerobase.account.dto;
 
 import java.time.LocalDateTime;
+import kr.co.zerobase.account.domain.ArchivedTransaction;
 import kr.co.zerobase.account.domain.Transaction;
+import kr.co.zerobase.account.repository.TransactionHistory;
+import kr.co.zerobase.account.segment.SegmentRecord;
 import kr.co.zerobase.account.type.TransactionResultType;
 import kr.co.zerobase.account.type.TransactionType;
 import lombok.AccessLevel;
@@ -33,4 +36,41 @@ public class TransactionDto {
             .transactedAt(transaction.getTransactedAt())
             .build();
     }
+
+    public static TransactionDto fromEntity(ArchivedTransaction transaction) {
+        return TransactionDto.builder()
+            .accountNumber(transaction.getAccount().getAccountNumber())
+            .transactionType(transaction.getTransactionType())
+            .transactionResultType(transaction.getTransactionResultType())
+            .amount(transaction.getAmount())
+            .balanceSnapshot(transaction.getBalanceSnapshot())
+            .transactionId(transaction.getTransactionId())
+            .transactedAt(transaction.getTransactedAt())
+            .build();
+    }
+
+    public static TransactionDto fromSegmentRecord(SegmentRecord segmentRecord) {
+        return TransactionDto.builder()
+            .accountNumber(segmentRecord.getAccountNumber())
+            .transactionType(segmentRecord.getTransactionType())
+            .transactionResultType(segmentRecord.getTransactionResultType())
+            .amount(segmentRecord.getAmount())
+            .balanceSnapshot(segmentRecord.getBalanceSnapshot())
+            .transactionId(segmentRecord.getTransactionId())
+            .transactedAt(segmentRecord.getTransactedAt())
+            .build();
+    }
+
+    public static TransactionDto fromHistory(String accountNumber,
+        TransactionHistory transactionHistory) {
+        return TransactionDto.builder()
+            .accountNumber(accountNumber)
+            .transactionType(transactionHistory.getTransactionType())
+            .transactionResultType(transactionHistory.getTransactionResultType())
+            .amount(transactionHistory.getAmount())
+            .balanceSnapshot(transactionHistory.getBalanceSnapshot())
+            .transactionId(transactionHistory.getTransactionId())
+            .transactedAt(transactionHistory.getTransactedAt())
+            .build();
+    }
 }
@@ -0,0 +1,18 @@
+package kr.co.zerobase.account.dto;
+
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class TransactionPageDto {
+
+    private final List<TransactionDto> transactions;
+
+    // 마지막 페이지이면 null
+    private final String nextCursor;
+}
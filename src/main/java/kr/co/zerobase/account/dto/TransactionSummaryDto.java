@@ -0,0 +1,38 @@
+package kr.co.zerobase.account.dto;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import kr.co.zerobase.account.type.ErrorCode;
+import kr.co.zerobase.account.type.TransactionType;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class TransactionSummaryDto {
+
+    private final String accountNumber;
+    private final LocalDateTime from;
+    private final LocalDateTime to;
+
+    // 성공 거래의 종류별 건수와 금액 합계
+    private final Map<TransactionType, TransactionTotal> totals;
+
+    // 실패 거래의 오류 코드별 건수
+    private final Map<ErrorCode, Long> failureCounts;
+
+    @Getter
+    @AllArgsConstructor(staticName = "of")
+    public static class TransactionTotal {
+
+        private final long count;
+        private final long amount;
+
+        public TransactionTotal plus(TransactionTotal other) {
+            return of(count + other.count, amount + other.amount);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package kr.co.zerobase.account.dto;
+
+import static kr.co.zerobase.account.type.ValidationMessage.ACCOUNT_NUMBER_NOT_NULL;
+import static kr.co.zerobase.account.type.ValidationMessage.ACCOUNT_NUMBER_SIZE_10;
+import static kr.co.zerobase.account.type.ValidationMessage.TRANSFER_BALANCE_AMOUNT_MAX_1_000_000_000;
+import static kr.co.zerobase.account.type.ValidationMessage.TRANSFER_BALANCE_AMOUNT_MIN_10;
+import static kr.co.zerobase.account.type.ValidationMessage.TRANSFER_BALANCE_AMOUNT_NOT_NULL;
+import static kr.co.zerobase.account.type.ValidationMessage.USER_ID_MIN_1;
+import static kr.co.zerobase.account.type.ValidationMessage.USER_ID_NOT_NULL;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
+import kr.co.zerobase.account.aop.ModifyAccountsRequest;
+import kr.co.zerobase.account.type.TransactionResultType;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+public class TransferBalance {
+
+    @Getter
+    @Builder
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    public static class RequestDto implements ModifyAccountsRequest {
+
+        @NotNull(message = USER_ID_NOT_NULL)
+        @Min(value = 1, message = USER_ID_MIN_1)
+        private final Long userId;
+
+        @NotNull(message = ACCOUNT_NUMBER_NOT_NULL)
+        @Size(min = 10, max = 10, message = ACCOUNT_NUMBER_SIZE_10)
+        private final String fromAccountNumber;
+
+        @NotNull(message = ACCOUNT_NUMBER_NOT_NULL)
+        @Size(min = 10, max = 10, message = ACCOUNT_NUMBER_SIZE_10)
+        private final String toAccountNumber;
+
+        @NotNull(message = TRANSFER_BALANCE_AMOUNT_NOT_NULL)
+        @Min(value = 10, message = TRANSFER_BALANCE_AMOUNT_MIN_10)
+        @Max(value = 1_000_000_000, message = TRANSFER_BALANCE_AMOUNT_MAX_1_000_000_000)
+        private final Long amount;
+
+        @JsonIgnore
+        @Override
+        public List<String> getAccountNumbers() {
+            return Arrays.asList(fromAccountNumber, toAccountNumber);
+        }
+    }
+
+    @Getter
+    @Builder
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    public static class ResponseDto {
+
+        private final String fromAccountNumber;
+        private final String toAccountNumber;
+        private final TransactionResultType transactionResult;
+        private final String withdrawTransactionId;
+        private final String depositTransactionId;
+        private final Long amount;
+        private final LocalDateTime transactedAt;
+
+        public static ResponseDto from(TransferDto transferDto) {
+            TransactionDto withdraw = transferDto.getWithdrawTransaction();
+            TransactionDto deposit = transferDto.getDepositTransaction();
+
+            return ResponseDto.builder()
+                .fromAccountNumber(withdraw.getAccountNumber())
+                .toAccountNumber(deposit.getAccountNumber())
+                .transactionResult(withdraw.getTransactionResultType())
+                .withdrawTransactionId(withdraw.getTransactionId())
+                .depositTransactionId(deposit.getTransactionId())
+                .amount(withdraw.getAmount())
+                .transactedAt(withdraw.getTransactedAt())
+                .build();
+        }
+    }
+}
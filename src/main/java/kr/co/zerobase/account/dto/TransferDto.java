@@ -0,0 +1,15 @@
+package kr.co.zerobase.account.dto;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class TransferDto {
+
+    private final TransactionDto withdrawTransaction;
+    private final TransactionDto depositTransaction;
+}
@@ -0,0 +1,33 @@
+package kr.co.zerobase.account.dto;
+
+import java.time.LocalDateTime;
+import kr.co.zerobase.account.type.HoldStatus;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+public class VoidHold {
+
+    @Getter
+    @Builder
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    public static class ResponseDto {
+
+        private final String holdId;
+        private final String accountNumber;
+        private final Long amount;
+        private final HoldStatus status;
+        private final LocalDateTime settledAt;
+
+        public static ResponseDto from(BalanceHoldDto balanceHoldDto) {
+            return ResponseDto.builder()
+                .holdId(balanceHoldDto.getHoldId())
+                .accountNumber(balanceHoldDto.getAccountNumber())
+                .amount(balanceHoldDto.getAmount())
+                .status(balanceHoldDto.getStatus())
+                .settledAt(balanceHoldDto.getSettledAt())
+                .build();
+        }
+    }
+}
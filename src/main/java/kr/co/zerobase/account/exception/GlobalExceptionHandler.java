@@ -1,5 +1,6 @@
 package kr.co.zerobase.account.exception;
 
+import static kr.co.zerobase.account.type.ErrorCode.CONCURRENT_MODIFICATION;
 import static kr.co.zerobase.account.type.ErrorCode.INTERNAL_SERVER_ERROR;
 import static kr.co.zerobase.account.type.ErrorCode.INVALID_REQUEST;
 
@@ -9,9 +10,11 @@ import kr.co.zerobase.account.type.ErrorCode;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
 @Slf4j
 @RestControllerAdvice
@@ -32,6 +35,20 @@ public class GlobalExceptionHandler {
             e.getBindingResult().getAllErrors().get(0).getDefaultMessage());
     }
 
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    public ResponseEntity<ErrorResponseDto> handleMethodArgumentTypeMismatchException(
+        HttpServletRequest req, MethodArgumentTypeMismatchException e) {
+        log.error("MethodArgumentTypeMismatchException is occurred.", e);
+        return getErrorResponseResponseEntity(req, INVALID_REQUEST, null);
+    }
+
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponseDto> handleOptimisticLockingFailureException(
+        HttpServletRequest req, ObjectOptimisticLockingFailureException e) {
+        log.error("{} is occurred.", CONCURRENT_MODIFICATION, e);
+        return getErrorResponseResponseEntity(req, CONCURRENT_MODIFICATION, null);
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponseDto> handleException(HttpServletRequest req, Exception e) {
         log.error("Exception is occurred.", e);
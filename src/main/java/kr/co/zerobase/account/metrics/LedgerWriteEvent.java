@@ -0,0 +1,42 @@
+package kr.co.zerobase.account.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import kr.co.zerobase.account.type.ErrorCode;
+import kr.co.zerobase.account.type.TransactionResultType;
+import kr.co.zerobase.account.type.TransactionType;
+
+@Name("kr.co.zerobase.account.LedgerWrite")
+@Label("Ledger Write")
+@Description("거래 내역 저장 시간")
+@Category({"Account", "Ledger"})
+@StackTrace(false)
+public class LedgerWriteEvent extends Event {
+
+    @Label("Transaction Type")
+    private String transactionType;
+
+    @Label("Result")
+    private String transactionResultType;
+
+    @Label("Error Code")
+    private String errorCode;
+
+    @Label("Amount")
+    private long amount;
+
+    public void commit(TransactionType transactionType,
+        TransactionResultType transactionResultType, ErrorCode errorCode, Long amount) {
+        if (shouldCommit() && !MetricsSuppression.isSuppressed()) {
+            this.transactionType = transactionType.name();
+            this.transactionResultType = transactionResultType.name();
+            this.errorCode = errorCode == null ? null : errorCode.name();
+            this.amount = amount == null ? 0L : amount;
+            commit();
+        }
+    }
+}
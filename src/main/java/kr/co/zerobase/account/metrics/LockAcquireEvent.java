@@ -0,0 +1,30 @@
+package kr.co.zerobase.account.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("kr.co.zerobase.account.LockAcquire")
+@Label("Lock Acquire")
+@Description("분산 락 획득 대기 시간과 결과")
+@Category({"Account", "Lock"})
+@StackTrace(false)
+public class LockAcquireEvent extends Event {
+
+    @Label("Key Category")
+    private String keyCategory;
+
+    @Label("Outcome")
+    private String outcome;
+
+    public void commit(String keyCategory, LockOutcome outcome) {
+        if (shouldCommit() && !MetricsSuppression.isSuppressed()) {
+            this.keyCategory = keyCategory;
+            this.outcome = outcome.getTag();
+            commit();
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package kr.co.zerobase.account.metrics;
+
+import static kr.co.zerobase.account.metrics.LockOutcome.ACQUIRED;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class LockMetrics {
+
+    private static final String ACQUIRE_METRIC_NAME = "account.lock.acquire";
+    private static final String HOLD_METRIC_NAME = "account.lock.hold";
+    private static final String FAILURE_METRIC_NAME = "account.lock.failures";
+
+    private final MeterRegistry meterRegistry;
+
+    public void recordAcquire(String lockType, LockOutcome outcome, long elapsedNanos) {
+        if (MetricsSuppression.isSuppressed()) {
+            return;
+        }
+
+        Timer.builder(ACQUIRE_METRIC_NAME)
+            .tag("lock", lockType)
+            .tag("outcome", outcome.getTag())
+            .publishPercentileHistogram()
+            .register(meterRegistry)
+            .record(elapsedNanos, TimeUnit.NANOSECONDS);
+
+        if (outcome != ACQUIRED) {
+            Counter.builder(FAILURE_METRIC_NAME)
+                .tag("lock", lockType)
+                .tag("reason", outcome.getTag())
+                .register(meterRegistry)
+                .increment();
+        }
+    }
+
+    public void recordHold(String lockType, long elapsedNanos) {
+        if (MetricsSuppression.isSuppressed()) {
+            return;
+        }
+
+        Timer.builder(HOLD_METRIC_NAME)
+            .tag("lock", lockType)
+            .publishPercentileHistogram()
+            .register(meterRegistry)
+            .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+}
@@ -0,0 +1,15 @@
+package kr.co.zerobase.account.metrics;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum LockOutcome {
+    ACQUIRED("acquired"),
+    TIMEOUT("timeout"),
+    REJECTED("rejected"),
+    ERROR("error");
+
+    private final String tag;
+}
@@ -0,0 +1,32 @@
+package kr.co.zerobase.account.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+@Name("kr.co.zerobase.account.LockRelease")
+@Label("Lock Release")
+@Description("분산 락 해제 시간과 점유 시간")
+@Category({"Account", "Lock"})
+@StackTrace(false)
+public class LockReleaseEvent extends Event {
+
+    @Label("Key Category")
+    private String keyCategory;
+
+    @Label("Hold Time")
+    @Timespan(Timespan.NANOSECONDS)
+    private long holdTime;
+
+    public void commit(String keyCategory, long holdTime) {
+        if (shouldCommit() && !MetricsSuppression.isSuppressed()) {
+            this.keyCategory = keyCategory;
+            this.holdTime = holdTime;
+            commit();
+        }
+    }
+}
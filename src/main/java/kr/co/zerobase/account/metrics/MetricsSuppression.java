@@ -0,0 +1,25 @@
+package kr.co.zerobase.account.metrics;
+
+// 워밍업처럼 합성 요청을 실행하는 동안 운영 메트릭과 JFR 이벤트가 기록되지 않도록 한다.
+public final class MetricsSuppression {
+
+    private static final ThreadLocal<Boolean> SUPPRESSED =
+        ThreadLocal.withInitial(() -> Boolean.FALSE);
+
+    private MetricsSuppression() {
+    }
+
+    public static boolean isSuppressed() {
+        return SUPPRESSED.get();
+    }
+
+    public static void run(Runnable runnable) {
+        boolean previous = SUPPRESSED.get();
+        SUPPRESSED.set(Boolean.TRUE);
+        try {
+            runnable.run();
+        } finally {
+            SUPPRESSED.set(previous);
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package kr.co.zerobase.account.metrics;
+
+import static kr.co.zerobase.account.metrics.TransactionPhase.COMMIT;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import kr.co.zerobase.account.type.ErrorCode;
+import kr.co.zerobase.account.type.TransactionResultType;
+import kr.co.zerobase.account.type.TransactionType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Component
+@RequiredArgsConstructor
+public class TransactionMetrics {
+
+    private static final String PHASE_METRIC_NAME = "account.transaction.phase";
+    private static final String RESULT_METRIC_NAME = "account.transaction.results";
+    private static final String NO_ERROR_CODE = "NONE";
+
+    private final MeterRegistry meterRegistry;
+
+    // 재시도되는 요청의 기록을 모아 두는 버퍼, 없으면 바로 기록한다.
+    private final ThreadLocal<List<Runnable>> pendingRecords = new ThreadLocal<>();
+
+    public <T> T record(TransactionOperation operation, TransactionPhase phase,
+        Supplier<T> supplier) {
+        long startedAt = System.nanoTime();
+        try {
+            return supplier.get();
+        } finally {
+            recordPhase(operation, phase, System.nanoTime() - startedAt);
+        }
+    }
+
+    public void record(TransactionOperation operation, TransactionPhase phase, Runnable runnable) {
+        long startedAt = System.nanoTime();
+        try {
+            runnable.run();
+        } finally {
+            recordPhase(operation, phase, System.nanoTime() - startedAt);
+        }
+    }
+
+    // 여러 조회를 한 구간으로 묶어 요청당 한 번만 기록할 때 사용한다.
+    public PhaseSample start(TransactionOperation operation, TransactionPhase phase) {
+        long startedAt = System.nanoTime();
+        return () -> recordPhase(operation, phase, System.nanoTime() - startedAt);
+    }
+
+    // 버퍼를 닫을 때 마지막 시도의 기록만 남겨 재시도가 있어도 요청당 한 번만 기록된다.
+    public AttemptBuffer bufferAttempts() {
+        List<Runnable> outerRecords = pendingRecords.get();
+        List<Runnable> records = new ArrayList<>();
+        pendingRecords.set(records);
+
+        return new AttemptBuffer() {
+            @Override
+            public void discard() {
+                records.clear();
+            }
+
+            @Override
+            public void close() {
+                if (outerRecords == null) {
+                    pendingRecords.remove();
+                } else {
+                    pendingRecords.set(outerRecords);
+                }
+                records.forEach(TransactionMetrics.this::submit);
+            }
+        };
+    }
+
+    // flush 를 포함한 커밋 시간은 트랜잭션 동기화 콜백으로 측정
+    public void recordCommit(TransactionOperation operation) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(
+            new TransactionSynchronization() {
+                private long startedAt;
+
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    startedAt = System.nanoTime();
+                }
+
+                @Override
+                public void afterCommit() {
+                    recordPhase(operation, COMMIT, System.nanoTime() - startedAt);
+                }
+            });
+    }
+
+    public void countResult(TransactionType transactionType,
+        TransactionResultType transactionResultType, ErrorCode errorCode) {
+        if (MetricsSuppression.isSuppressed()) {
+            return;
+        }
+
+        Runnable record = () -> Counter.builder(RESULT_METRIC_NAME)
+            .tag("type", transactionType.name())
+            .tag("result", transactionResultType.name())
+            .tag("error_code", errorCode == null ? NO_ERROR_CODE : errorCode.name())
+            .register(meterRegistry)
+            .increment();
+
+        // 롤백된 거래는 결과로 세지 않는다.
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            submit(record);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(
+            new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    submit(record);
+                }
+            });
+    }
+
+    private void recordPhase(TransactionOperation operation, TransactionPhase phase,
+        long elapsedNanos) {
+        if (MetricsSuppression.isSuppressed()) {
+            return;
+        }
+
+        submit(() -> Timer.builder(PHASE_METRIC_NAME)
+            .tag("operation", operation.getTag())
+            .tag("phase", phase.getTag())
+            .publishPercentileHistogram()
+            .register(meterRegistry)
+            .record(elapsedNanos, TimeUnit.NANOSECONDS));
+    }
+
+    private void submit(Runnable record) {
+        List<Runnable> records = pendingRecords.get();
+        if (records == null) {
+            record.run();
+        } else {
+            records.add(record);
+        }
+    }
+
+    public interface AttemptBuffer extends AutoCloseable {
+
+        // 실패한 시도의 기록을 버린다.
+        void discard();
+
+        @Override
+        void close();
+    }
+
+    @FunctionalInterface
+    public interface PhaseSample extends AutoCloseable {
+
+        @Override
+        void close();
+    }
+}
@@ -0,0 +1,16 @@
+package kr.co.zerobase.account.metrics;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum TransactionOperation {
+    USE("use"),
+    CANCEL("cancel"),
+    QUERY("query"),
+    TRANSFER("transfer"),
+    DEPOSIT("deposit");
+
+    private final String tag;
+}
@@ -0,0 +1,16 @@
+package kr.co.zerobase.account.metrics;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum TransactionPhase {
+    LOOKUP("lookup"),
+    VALIDATION("validation"),
+    MUTATION("mutation"),
+    INSERT("insert"),
+    COMMIT("commit");
+
+    private final String tag;
+}
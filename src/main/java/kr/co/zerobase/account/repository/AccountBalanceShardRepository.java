@@ -0,0 +1,52 @@
+package kr.co.zerobase.account.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import kr.co.zerobase.account.domain.AccountBalanceShard;
+import kr.co.zerobase.account.type.AccountStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+// 샤드 잔액은 항상 프로젝션으로 읽으므로 영속성 컨텍스트를 비우지 않는다.
+@Repository
+public interface AccountBalanceShardRepository extends JpaRepository<AccountBalanceShard, Long> {
+
+    @Query("select s.id as id, s.shardIndex as shardIndex, s.balance as balance"
+        + " from AccountBalanceShard s where s.account.id = :accountId order by s.shardIndex")
+    List<ShardBalance> findShardBalancesByAccountId(@Param("accountId") Long accountId);
+
+    @Query("select coalesce(sum(s.balance), 0) from AccountBalanceShard s"
+        + " where s.account.id = :accountId")
+    long sumBalanceByAccountId(@Param("accountId") Long accountId);
+
+    @Modifying(flushAutomatically = true)
+    @Query("update AccountBalanceShard s set s.balance = s.balance - :amount,"
+        + " s.version = s.version + 1, s.updatedAt = :updatedAt"
+        + " where s.id = :id and s.balance >= :amount")
+    int withdrawBalance(@Param("id") Long id,
+        @Param("amount") Long amount,
+        @Param("updatedAt") LocalDateTime updatedAt);
+
+    @Modifying(flushAutomatically = true)
+    @Query("update AccountBalanceShard s set s.balance = s.balance + :amount,"
+        + " s.version = s.version + 1, s.updatedAt = :updatedAt"
+        + " where s.id = :id")
+    int addBalance(@Param("id") Long id,
+        @Param("amount") Long amount,
+        @Param("updatedAt") LocalDateTime updatedAt);
+
+    @Modifying(flushAutomatically = true)
+    @Query("update AccountBalanceShard s set s.balance = s.balance + :amount,"
+        + " s.version = s.version + 1, s.updatedAt = :updatedAt"
+        + " where s.account.id = :accountId and s.shardIndex = :shardIndex"
+        + " and exists (select a.id from Account a where a.id = :accountId"
+        + " and a.accountStatus = :accountStatus)")
+    int addBalanceByShardIndex(@Param("accountId") Long accountId,
+        @Param("shardIndex") Integer shardIndex,
+        @Param("amount") Long amount,
+        @Param("accountStatus") AccountStatus accountStatus,
+        @Param("updatedAt") LocalDateTime updatedAt);
+}
@@ -0,0 +1,50 @@
+package kr.co.zerobase.account.repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import kr.co.zerobase.account.domain.AccountDailySummary;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface AccountDailySummaryRepository extends
+    JpaRepository<AccountDailySummary, Long> {
+
+    @Modifying(flushAutomatically = true)
+    @Query("update AccountDailySummary s"
+        + " set s.closingBalance = s.closingBalance + :balanceChange,"
+        + " s.debitAmount = s.debitAmount + :debitAmount,"
+        + " s.debitCount = s.debitCount + :debitCount,"
+        + " s.creditAmount = s.creditAmount + :creditAmount,"
+        + " s.creditCount = s.creditCount + :creditCount,"
+        + " s.failureCount = s.failureCount + :failureCount,"
+        + " s.version = s.version + 1, s.updatedAt = :updatedAt"
+        + " where s.account.id = :accountId and s.summaryDate = :summaryDate")
+    int accumulate(@Param("accountId") Long accountId,
+        @Param("summaryDate") LocalDate summaryDate,
+        @Param("balanceChange") Long balanceChange,
+        @Param("debitAmount") Long debitAmount,
+        @Param("debitCount") Long debitCount,
+        @Param("creditAmount") Long creditAmount,
+        @Param("creditCount") Long creditCount,
+        @Param("failureCount") Long failureCount,
+        @Param("updatedAt") LocalDateTime updatedAt);
+
+    @Query("select s from AccountDailySummary s where s.account.id = :accountId"
+        + " and s.summaryDate between :from and :to order by s.summaryDate")
+    List<AccountDailySummary> findByAccountIdAndSummaryDateBetween(
+        @Param("accountId") Long accountId,
+        @Param("from") LocalDate from,
+        @Param("to") LocalDate to);
+
+    @Query("select s from AccountDailySummary s where s.account.id = :accountId"
+        + " and s.summaryDate <= :date order by s.summaryDate desc")
+    List<AccountDailySummary> findLatestByAccountId(@Param("accountId") Long accountId,
+        @Param("date") LocalDate date,
+        Pageable pageable);
+}
@@ -0,0 +1,12 @@
+package kr.co.zerobase.account.repository;
+
+public interface AccountLedgerBalance {
+
+    Long getId();
+
+    String getAccountNumber();
+
+    Long getInitialBalance();
+
+    Long getBalance();
+}
@@ -0,0 +1,12 @@
+package kr.co.zerobase.account.repository;
+
+import java.time.LocalDateTime;
+
+public interface AccountOpening {
+
+    Long getId();
+
+    Long getInitialBalance();
+
+    LocalDateTime getRegisteredAt();
+}
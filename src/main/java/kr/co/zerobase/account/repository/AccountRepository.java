@@ -1,9 +1,15 @@
 package kr.co.zerobase.account.repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import kr.co.zerobase.account.domain.Account;
+import kr.co.zerobase.account.type.AccountStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -14,5 +20,78 @@ public interface AccountRepository extends JpaRepository<Account, Long>,
 
     Optional<Account> findByAccountNumber(String accountNumber);
 
+    // 분할 계좌는 계좌 행을 건드리지 않고 샤드만 갱신하므로 샤드 버전 합을 더한다.
+    @Query("select a.id as id, a.version + coalesce((select sum(s.version)"
+        + " from AccountBalanceShard s where s.account = a), 0) as version from Account a"
+        + " where a.accountUser.id = :accountUserId order by a.id")
+    List<EntityVersion> findVersionsByAccountUserId(@Param("accountUserId") Long accountUserId);
+
+    // 입금은 교환 법칙이 성립하므로 분산 락 없이 원자적 UPDATE 로 반영한다.
+    // 버전을 올려 엔티티로 잔액을 수정하는 쪽(사용/취소/송금)이 낙관적 락으로 충돌을 감지하게 한다.
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Account a set a.balance = a.balance + :amount, a.version = a.version + 1,"
+        + " a.updatedAt = :updatedAt"
+        + " where a.accountNumber = :accountNumber and a.accountStatus = :accountStatus")
+    int depositBalance(@Param("accountNumber") String accountNumber,
+        @Param("amount") Long amount,
+        @Param("accountStatus") AccountStatus accountStatus,
+        @Param("updatedAt") LocalDateTime updatedAt);
+
+    // 가용 잔액(balance - heldBalance)이 충분할 때만 승인 금액을 묶는다.
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Account a set a.heldBalance = coalesce(a.heldBalance, 0) + :amount,"
+        + " a.version = a.version + 1, a.updatedAt = :updatedAt"
+        + " where a.id = :id and a.accountStatus = :accountStatus"
+        + " and a.balance - coalesce(a.heldBalance, 0) >= :amount")
+    int holdBalance(@Param("id") Long id,
+        @Param("amount") Long amount,
+        @Param("accountStatus") AccountStatus accountStatus,
+        @Param("updatedAt") LocalDateTime updatedAt);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Account a set a.balance = a.balance - :amount,"
+        + " a.heldBalance = a.heldBalance - :amount,"
+        + " a.version = a.version + 1, a.updatedAt = :updatedAt"
+        + " where a.id = :id")
+    int captureHeldBalance(@Param("id") Long id,
+        @Param("amount") Long amount,
+        @Param("updatedAt") LocalDateTime updatedAt);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Account a set a.heldBalance = a.heldBalance - :amount,"
+        + " a.version = a.version + 1, a.updatedAt = :updatedAt"
+        + " where a.id = :id")
+    int releaseHeldBalance(@Param("id") Long id,
+        @Param("amount") Long amount,
+        @Param("updatedAt") LocalDateTime updatedAt);
+
+    // 영속성 컨텍스트의 엔티티를 건드리지 않고 계좌 행만 잠근다.
+    @Query(value = "select id from account where id = :id for update", nativeQuery = true)
+    Long lockById(@Param("id") Long id);
+
+    @Query("select a.balanceShardCount from Account a where a.accountNumber = :accountNumber")
+    Optional<Integer> findBalanceShardCountByAccountNumber(
+        @Param("accountNumber") String accountNumber);
+
+    @Query("select a.id from Account a where a.accountNumber = :accountNumber")
+    Optional<Long> findIdByAccountNumber(@Param("accountNumber") String accountNumber);
+
+    @Query("select a.id as id, a.initialBalance as initialBalance,"
+        + " a.registeredAt as registeredAt from Account a"
+        + " where a.accountNumber = :accountNumber")
+    Optional<AccountOpening> findOpeningByAccountNumber(
+        @Param("accountNumber") String accountNumber);
+
+    @Query("select min(a.id) as minId, max(a.id) as maxId from Account a")
+    IdRange findIdRange();
+
+    // 분할 계좌는 나머지 잔액과 샤드 잔액의 합을 비교한다.
+    @Query("select a.id as id, a.accountNumber as accountNumber,"
+        + " a.initialBalance as initialBalance, a.balance + coalesce((select sum(s.balance)"
+        + " from AccountBalanceShard s where s.account = a), 0) as balance from Account a"
+        + " where a.id between :fromId and :toId")
+    List<AccountLedgerBalance> findLedgerBalances(@Param("fromId") Long fromId,
+        @Param("toId") Long toId);
+
 //    List<Account> findAllByAccountUser(AccountUser accountUser);
 }
@@ -0,0 +1,139 @@
+package kr.co.zerobase.account.repository;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+import javax.persistence.QueryHint;
+import kr.co.zerobase.account.domain.ArchivedTransaction;
+import kr.co.zerobase.account.type.TransactionResultType;
+import kr.co.zerobase.account.type.TransactionType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ArchivedTransactionRepository extends
+    JpaRepository<ArchivedTransaction, Long> {
+
+    Optional<ArchivedTransaction> findByTransactionId(String transactionId);
+
+    @Query("select t.version from ArchivedTransaction t"
+        + " where t.transactionId = :transactionId")
+    Optional<Long> findVersionByTransactionId(@Param("transactionId") String transactionId);
+
+    // 원장의 같은 이름 조회와 같은 조건으로 (account_id, transacted_at, id) 인덱스를 따라간다.
+    @Query("select t.id as id, t.transactionType as transactionType,"
+        + " t.transactionResultType as transactionResultType, t.amount as amount,"
+        + " t.balanceSnapshot as balanceSnapshot, t.transactionId as transactionId,"
+        + " t.transactedAt as transactedAt from ArchivedTransaction t"
+        + " where t.account.id = :accountId"
+        + " and (:transactionType is null or t.transactionType = :transactionType)"
+        + " and (:transactionResultType is null"
+        + " or t.transactionResultType = :transactionResultType)"
+        + " order by t.transactedAt desc, t.id desc")
+    List<TransactionHistory> findHistoryByAccountId(@Param("accountId") Long accountId,
+        @Param("transactionType") TransactionType transactionType,
+        @Param("transactionResultType") TransactionResultType transactionResultType,
+        Pageable pageable);
+
+    @Query("select t.id as id, t.transactionType as transactionType,"
+        + " t.transactionResultType as transactionResultType, t.amount as amount,"
+        + " t.balanceSnapshot as balanceSnapshot, t.transactionId as transactionId,"
+        + " t.transactedAt as transactedAt from ArchivedTransaction t"
+        + " where t.account.id = :accountId"
+        + " and (t.transactedAt < :transactedAt"
+        + " or (t.transactedAt = :transactedAt and t.id < :id))"
+        + " and (:transactionType is null or t.transactionType = :transactionType)"
+        + " and (:transactionResultType is null"
+        + " or t.transactionResultType = :transactionResultType)"
+        + " order by t.transactedAt desc, t.id desc")
+    List<TransactionHistory> findHistoryByAccountIdBefore(@Param("accountId") Long accountId,
+        @Param("transactedAt") LocalDateTime transactedAt,
+        @Param("id") Long id,
+        @Param("transactionType") TransactionType transactionType,
+        @Param("transactionResultType") TransactionResultType transactionResultType,
+        Pageable pageable);
+
+    // 호출하는 쪽이 트랜잭션 안에서 닫아야 한다. 행을 fetch size 만큼씩 가져온다.
+    @QueryHints({
+        @QueryHint(name = HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HINT_READONLY, value = "true")
+    })
+    @Query("select t.id as id, t.transactionType as transactionType,"
+        + " t.transactionResultType as transactionResultType, t.amount as amount,"
+        + " t.balanceSnapshot as balanceSnapshot, t.transactionId as transactionId,"
+        + " t.transactedAt as transactedAt from ArchivedTransaction t"
+        + " where t.account.id = :accountId"
+        + " and (:from is null or t.transactedAt >= :from)"
+        + " and (:to is null or t.transactedAt < :to)"
+        + " order by t.transactedAt, t.id")
+    Stream<TransactionHistory> streamHistoryByAccountId(@Param("accountId") Long accountId,
+        @Param("from") LocalDateTime from,
+        @Param("to") LocalDateTime to);
+
+    @Query("select t.transactionType as transactionType,"
+        + " t.transactionResultType as transactionResultType, t.errorCode as errorCode,"
+        + " count(t) as count, sum(t.amount) as amount from ArchivedTransaction t"
+        + " where t.account.id = :accountId"
+        + " and (:from is null or t.transactedAt >= :from)"
+        + " and (:to is null or t.transactedAt < :to)"
+        + " group by t.transactionType, t.transactionResultType, t.errorCode")
+    List<TransactionAggregate> aggregateByAccountId(@Param("accountId") Long accountId,
+        @Param("from") LocalDateTime from,
+        @Param("to") LocalDateTime to);
+
+    // 행을 엔티티로 읽지 않고 DB 안에서 그대로 복사한다.
+    @Modifying
+    @Query(value = "insert into transaction_archive (id, created_at, updated_at, version,"
+        + " transaction_type, transaction_result_type, error_code, account_id, amount,"
+        + " balance_snapshot, transaction_id, transacted_at, transaction_for_cancel_id,"
+        + " is_canceled, linked_transaction_id, archived_at)"
+        + " select id, created_at, updated_at, version, transaction_type,"
+        + " transaction_result_type, error_code, account_id, amount, balance_snapshot,"
+        + " transaction_id, transacted_at, transaction_for_cancel_id, is_canceled,"
+        + " linked_transaction_id, cast(:archivedAt as timestamp)"
+        + " from transaction where id in (:ids)",
+        nativeQuery = true)
+    int copyFromTransactions(@Param("ids") List<Long> ids,
+        @Param("archivedAt") LocalDateTime archivedAt);
+
+    @Query("select t.balanceSnapshot from ArchivedTransaction t"
+        + " where t.account.id = :accountId and t.transactedAt <= :at"
+        + " and t.transactionResultType = :transactionResultType"
+        + " order by t.transactedAt desc, t.id desc")
+    List<Long> findLatestBalanceSnapshots(@Param("accountId") Long accountId,
+        @Param("at") LocalDateTime at,
+        @Param("transactionResultType") TransactionResultType transactionResultType,
+        Pageable pageable);
+
+    @Query("select t.id as id, t.version as version, a.id as accountId,"
+        + " a.accountNumber as accountNumber, t.transactionType as transactionType,"
+        + " t.transactionResultType as transactionResultType, t.errorCode as errorCode,"
+        + " t.amount as amount, t.balanceSnapshot as balanceSnapshot,"
+        + " t.transactionId as transactionId, t.transactedAt as transactedAt"
+        + " from ArchivedTransaction t join t.account a"
+        + " where t.transactedAt < :cutoff order by t.id")
+    List<ArchivedTransactionRow> findSealableRows(@Param("cutoff") LocalDateTime cutoff,
+        Pageable pageable);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from ArchivedTransaction t where t.id in :ids")
+    int deleteByIdIn(@Param("ids") List<Long> ids);
+
+    @Query("select t.account.id as accountId, t.transactionType as transactionType,"
+        + " sum(t.amount) as amount from ArchivedTransaction t"
+        + " where t.account.id between :fromId and :toId"
+        + " and t.transactionResultType = :transactionResultType"
+        + " group by t.account.id, t.transactionType")
+    List<LedgerSum> sumAmountsByAccountIdRange(@Param("fromId") Long fromId,
+        @Param("toId") Long toId,
+        @Param("transactionResultType") TransactionResultType transactionResultType);
+}
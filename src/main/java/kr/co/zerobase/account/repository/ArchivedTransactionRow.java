@@ -0,0 +1,31 @@
+package kr.co.zerobase.account.repository;
+
+import java.time.LocalDateTime;
+import kr.co.zerobase.account.type.ErrorCode;
+import kr.co.zerobase.account.type.TransactionResultType;
+import kr.co.zerobase.account.type.TransactionType;
+
+public interface ArchivedTransactionRow {
+
+    Long getId();
+
+    Long getVersion();
+
+    Long getAccountId();
+
+    String getAccountNumber();
+
+    TransactionType getTransactionType();
+
+    TransactionResultType getTransactionResultType();
+
+    ErrorCode getErrorCode();
+
+    Long getAmount();
+
+    Long getBalanceSnapshot();
+
+    String getTransactionId();
+
+    LocalDateTime getTransactedAt();
+}
@@ -0,0 +1,32 @@
+package kr.co.zerobase.account.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import kr.co.zerobase.account.domain.BalanceHold;
+import kr.co.zerobase.account.type.HoldStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface BalanceHoldRepository extends JpaRepository<BalanceHold, Long> {
+
+    Optional<BalanceHold> findByHoldId(String holdId);
+
+    @Query("select h from BalanceHold h where h.status = :status and h.expiresAt <= :now"
+        + " order by h.id")
+    List<BalanceHold> findExpiredHolds(@Param("status") HoldStatus status,
+        @Param("now") LocalDateTime now, Pageable pageable);
+
+    // 상태 전이는 조건부 UPDATE 로 처리해 캡처/취소/만료 중 하나만 성공한다.
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update BalanceHold h set h.status = :to, h.settledAt = :now,"
+        + " h.version = h.version + 1, h.updatedAt = :now"
+        + " where h.id = :id and h.status = :from")
+    int changeStatus(@Param("id") Long id, @Param("from") HoldStatus from,
+        @Param("to") HoldStatus to, @Param("now") LocalDateTime now);
+}
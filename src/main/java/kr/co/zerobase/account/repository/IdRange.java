@@ -0,0 +1,8 @@
+package kr.co.zerobase.account.repository;
+
+public interface IdRange {
+
+    Long getMinId();
+
+    Long getMaxId();
+}
@@ -0,0 +1,16 @@
+package kr.co.zerobase.account.repository;
+
+import java.util.List;
+import kr.co.zerobase.account.domain.LedgerSegmentFile;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface LedgerSegmentFileRepository extends JpaRepository<LedgerSegmentFile, Long> {
+
+    List<LedgerSegmentFile> findByIdGreaterThanOrderByIdAsc(Long id);
+
+    @Query("select f.fileName from LedgerSegmentFile f")
+    List<String> findFileNames();
+}
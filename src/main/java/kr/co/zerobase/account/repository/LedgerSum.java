@@ -0,0 +1,12 @@
+package kr.co.zerobase.account.repository;
+
+import kr.co.zerobase.account.type.TransactionType;
+
+public interface LedgerSum {
+
+    Long getAccountId();
+
+    TransactionType getTransactionType();
+
+    Long getAmount();
+}
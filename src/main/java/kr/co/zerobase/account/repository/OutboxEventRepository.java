@@ -0,0 +1,26 @@
+package kr.co.zerobase.account.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import kr.co.zerobase.account.domain.OutboxEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    // 발행되지 않은 가장 오래된 이벤트가 릴레이의 재시작 지점이다.
+    @Query("select e from OutboxEvent e where e.publishedAt is null order by e.id")
+    List<OutboxEvent> findUnpublished(Pageable pageable);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update OutboxEvent e set e.publishedAt = :publishedAt,"
+        + " e.version = e.version + 1, e.updatedAt = :publishedAt"
+        + " where e.id in :ids and e.publishedAt is null")
+    int markPublished(@Param("ids") List<Long> ids,
+        @Param("publishedAt") LocalDateTime publishedAt);
+}
@@ -0,0 +1,10 @@
+package kr.co.zerobase.account.repository;
+
+public interface ShardBalance {
+
+    Long getId();
+
+    Integer getShardIndex();
+
+    Long getBalance();
+}
@@ -0,0 +1,18 @@
+package kr.co.zerobase.account.repository;
+
+import kr.co.zerobase.account.type.ErrorCode;
+import kr.co.zerobase.account.type.TransactionResultType;
+import kr.co.zerobase.account.type.TransactionType;
+
+public interface TransactionAggregate {
+
+    TransactionType getTransactionType();
+
+    TransactionResultType getTransactionResultType();
+
+    ErrorCode getErrorCode();
+
+    Long getCount();
+
+    Long getAmount();
+}
@@ -0,0 +1,22 @@
+package kr.co.zerobase.account.repository;
+
+import java.time.LocalDateTime;
+import kr.co.zerobase.account.type.TransactionResultType;
+import kr.co.zerobase.account.type.TransactionType;
+
+public interface TransactionHistory {
+
+    Long getId();
+
+    TransactionType getTransactionType();
+
+    TransactionResultType getTransactionResultType();
+
+    Long getAmount();
+
+    Long getBalanceSnapshot();
+
+    String getTransactionId();
+
+    LocalDateTime getTransactedAt();
+}
@@ -1,10 +1,132 @@
 package kr.co.zerobase.account.repository;
 
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
+
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+import javax.persistence.QueryHint;
 import kr.co.zerobase.account.domain.Transaction;
+import kr.co.zerobase.account.type.ErrorCode;
+import kr.co.zerobase.account.type.TransactionResultType;
+import kr.co.zerobase.account.type.TransactionType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 public interface TransactionRepository extends JpaRepository<Transaction, Long> {
 
     Optional<Transaction> findByTransactionId(String transactionId);
+
+    @Query("select t.version from Transaction t where t.transactionId = :transactionId")
+    Optional<Long> findVersionByTransactionId(@Param("transactionId") String transactionId);
+
+    @Query("select t.account.id as accountId, t.transactionType as transactionType,"
+        + " sum(t.amount) as amount from Transaction t"
+        + " where t.account.id between :fromId and :toId"
+        + " and t.transactionResultType = :transactionResultType"
+        + " group by t.account.id, t.transactionType")
+    List<LedgerSum> sumAmountsByAccountIdRange(@Param("fromId") Long fromId,
+        @Param("toId") Long toId,
+        @Param("transactionResultType") TransactionResultType transactionResultType);
+
+    // (account_id, transacted_at, id) 인덱스를 역순으로 따라가므로 페이지 깊이와 무관하게 읽는다.
+    @Query("select t.id as id, t.transactionType as transactionType,"
+        + " t.transactionResultType as transactionResultType, t.amount as amount,"
+        + " t.balanceSnapshot as balanceSnapshot, t.transactionId as transactionId,"
+        + " t.transactedAt as transactedAt from Transaction t"
+        + " where t.account.id = :accountId"
+        + " and (:transactionType is null or t.transactionType = :transactionType)"
+        + " and (:transactionResultType is null"
+        + " or t.transactionResultType = :transactionResultType)"
+        + " order by t.transactedAt desc, t.id desc")
+    List<TransactionHistory> findHistoryByAccountId(@Param("accountId") Long accountId,
+        @Param("transactionType") TransactionType transactionType,
+        @Param("transactionResultType") TransactionResultType transactionResultType,
+        Pageable pageable);
+
+    @Query("select t.id as id, t.transactionType as transactionType,"
+        + " t.transactionResultType as transactionResultType, t.amount as amount,"
+        + " t.balanceSnapshot as balanceSnapshot, t.transactionId as transactionId,"
+        + " t.transactedAt as transactedAt from Transaction t"
+        + " where t.account.id = :accountId"
+        + " and (t.transactedAt < :transactedAt"
+        + " or (t.transactedAt = :transactedAt and t.id < :id))"
+        + " and (:transactionType is null or t.transactionType = :transactionType)"
+        + " and (:transactionResultType is null"
+        + " or t.transactionResultType = :transactionResultType)"
+        + " order by t.transactedAt desc, t.id desc")
+    List<TransactionHistory> findHistoryByAccountIdBefore(@Param("accountId") Long accountId,
+        @Param("transactedAt") LocalDateTime transactedAt,
+        @Param("id") Long id,
+        @Param("transactionType") TransactionType transactionType,
+        @Param("transactionResultType") TransactionResultType transactionResultType,
+        Pageable pageable);
+
+    // 호출하는 쪽이 트랜잭션 안에서 닫아야 한다. 행을 fetch size 만큼씩 가져온다.
+    @QueryHints({
+        @QueryHint(name = HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HINT_READONLY, value = "true")
+    })
+    @Query("select t.id as id, t.transactionType as transactionType,"
+        + " t.transactionResultType as transactionResultType, t.amount as amount,"
+        + " t.balanceSnapshot as balanceSnapshot, t.transactionId as transactionId,"
+        + " t.transactedAt as transactedAt from Transaction t"
+        + " where t.account.id = :accountId"
+        + " and (:from is null or t.transactedAt >= :from)"
+        + " and (:to is null or t.transactedAt < :to)"
+        + " order by t.transactedAt, t.id")
+    Stream<TransactionHistory> streamHistoryByAccountId(@Param("accountId") Long accountId,
+        @Param("from") LocalDateTime from,
+        @Param("to") LocalDateTime to);
+
+    // (account_id, transacted_at) 범위를 인덱스로 읽고 DB 에서 집계만 돌려준다.
+    @Query("select t.transactionType as transactionType,"
+        + " t.transactionResultType as transactionResultType, t.errorCode as errorCode,"
+        + " count(t) as count, sum(t.amount) as amount from Transaction t"
+        + " where t.account.id = :accountId"
+        + " and (:from is null or t.transactedAt >= :from)"
+        + " and (:to is null or t.transactedAt < :to)"
+        + " group by t.transactionType, t.transactionResultType, t.errorCode")
+    List<TransactionAggregate> aggregateByAccountId(@Param("accountId") Long accountId,
+        @Param("from") LocalDateTime from,
+        @Param("to") LocalDateTime to);
+
+    // 시점 이전 마지막 성공 거래 한 건을 인덱스 역방향 탐색으로 찾는다.
+    @Query("select t.balanceSnapshot from Transaction t"
+        + " where t.account.id = :accountId and t.transactedAt <= :at"
+        + " and t.transactionResultType = :transactionResultType"
+        + " order by t.transactedAt desc, t.id desc")
+    List<Long> findLatestBalanceSnapshots(@Param("accountId") Long accountId,
+        @Param("at") LocalDateTime at,
+        @Param("transactionResultType") TransactionResultType transactionResultType,
+        Pageable pageable);
+
+    // 아직 남아 있는 거래가 취소/연결로 참조하는 거래는 참조하는 쪽이 먼저 옮겨질 때까지 남긴다.
+    @Query("select t.id from Transaction t where t.transactedAt < :cutoff"
+        + " and not exists (select r.id from Transaction r"
+        + " where r.transactionForCancel = t or r.linkedTransaction = t)"
+        + " order by t.id")
+    List<Long> findArchivableIds(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+    // 실패 거래는 보통 참조되지 않지만 참조가 있으면 외래 키를 깨지 않도록 남긴다.
+    @Query("select t.id from Transaction t where t.transactionResultType = :transactionResultType"
+        + " and t.errorCode = :errorCode and t.transactedAt < :cutoff"
+        + " and not exists (select r.id from Transaction r"
+        + " where r.transactionForCancel = t or r.linkedTransaction = t)"
+        + " order by t.transactedAt")
+    List<Long> findPurgeableIds(
+        @Param("transactionResultType") TransactionResultType transactionResultType,
+        @Param("errorCode") ErrorCode errorCode,
+        @Param("cutoff") LocalDateTime cutoff,
+        Pageable pageable);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Transaction t where t.id in :ids")
+    int deleteByIdIn(@Param("ids") List<Long> ids);
 }
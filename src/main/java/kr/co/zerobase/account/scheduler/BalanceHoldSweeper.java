@@ -0,0 +1,30 @@
+package kr.co.zerobase.account.scheduler;
+
+import kr.co.zerobase.account.service.HoldService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BalanceHoldSweeper {
+
+    private final HoldService holdService;
+
+    // 배치 단위로 트랜잭션을 나눠 오래 잠그지 않는다.
+    @Scheduled(fixedDelayString = "${account.hold.sweep-interval-millis}")
+    public void sweepExpiredBalanceHolds() {
+        int total = 0;
+        int expired;
+        do {
+            expired = holdService.expireBalanceHolds();
+            total += expired;
+        } while (expired > 0);
+
+        if (total > 0) {
+            log.info("{} expired balance holds released", total);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package kr.co.zerobase.account.scheduler;
+
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+// 보관/삭제/봉인처럼 오래된 거래를 조금씩 처리하는 예약 작업을 한 노드에서만 실행한다.
+// 요청 락(LockService)과 달리 기다리지 않고, 점유 시간을 정하지 않아 워치독이 락을 연장한다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BatchJobRunner {
+
+    // 한 번에 오래 돌지 않도록 남은 행은 다음 실행으로 넘긴다.
+    private static final long MAX_RUN_MILLIS = 10_000;
+
+    @Lazy
+    private final RedissonClient redissonClient;
+
+    // 배치를 순서대로 0건이 될 때까지 반복하고, 처리한 행 수를 돌려준다.
+    public int run(String lockKey, long pauseMillis, List<Batch> batches) throws Exception {
+        RLock lock = redissonClient.getLock(lockKey);
+        if (!lock.tryLock()) {
+            log.debug("{} is held by another node", lockKey);
+            return 0;
+        }
+
+        try {
+            long deadline = System.currentTimeMillis() + MAX_RUN_MILLIS;
+            int total = 0;
+            for (Batch batch : batches) {
+                int processed;
+                while ((processed = batch.run()) > 0) {
+                    total += processed;
+                    if (System.currentTimeMillis() >= deadline) {
+                        return total;
+                    }
+                    // 배치 사이에 쉬어 운영 트래픽이 쓰는 잠금과 I/O 를 양보한다.
+                    Thread.sleep(pauseMillis);
+                }
+            }
+            return total;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @FunctionalInterface
+    public interface Batch {
+
+        int run() throws Exception;
+    }
+}
@@ -0,0 +1,52 @@
+package kr.co.zerobase.account.scheduler;
+
+import kr.co.zerobase.account.service.OutboxService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxRelay {
+
+    private static final String RELAY_LOCK_KEY = "OutboxRelayLock";
+    private static final long MAX_RUN_MILLIS = 10_000L;
+
+    private final OutboxService outboxService;
+    @Lazy
+    private final RedissonClient redissonClient;
+
+    // 한 노드만 발행해야 스트림에 outbox 순서대로 쌓인다.
+    // 매초 실행되므로 요청 락(LockService)과 달리 기다리지 않고, 메트릭/JFR 이벤트도 남기지 않는다.
+    // 점유 시간을 정하지 않아 워치독이 락을 연장하고, 노드가 죽으면 워치독 만료 후 풀린다.
+    @Scheduled(fixedDelayString = "${account.outbox.relay-interval-millis}")
+    public void relay() {
+        RLock lock = redissonClient.getLock(RELAY_LOCK_KEY);
+        if (!lock.tryLock()) {
+            log.debug("Outbox relay is running on another node");
+            return;
+        }
+
+        try {
+            // 밀린 이벤트가 많아도 한 번에 오래 잡고 있지 않도록 나머지는 다음 실행으로 넘긴다.
+            long deadline = System.currentTimeMillis() + MAX_RUN_MILLIS;
+            int total = 0;
+            int published;
+            do {
+                published = outboxService.publishPendingEvents();
+                total += published;
+            } while (published > 0 && System.currentTimeMillis() < deadline);
+
+            if (total > 0) {
+                log.debug("{} outbox events published", total);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package kr.co.zerobase.account.scheduler;
+
+import kr.co.zerobase.account.service.ReconciliationService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// 읽기 전용 작업이라 노드마다 돌아도 결과는 같다. 한 노드에서만 켜는 것을 권장한다.
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "account.reconciliation.enabled", havingValue = "true")
+public class ReconciliationJob {
+
+    private final ReconciliationService reconciliationService;
+
+    @Scheduled(cron = "${account.reconciliation.cron}")
+    public void reconcile() {
+        reconciliationService.reconcile();
+    }
+}
@@ -0,0 +1,35 @@
+package kr.co.zerobase.account.scheduler;
+
+import java.util.List;
+import kr.co.zerobase.account.service.TransactionArchiveService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "account.archive.enabled", havingValue = "true")
+public class TransactionArchiver {
+
+    private static final String ARCHIVE_LOCK_KEY = "TransactionArchiveLock";
+
+    private final TransactionArchiveService transactionArchiveService;
+    private final BatchJobRunner batchJobRunner;
+
+    @Value("${account.archive.pause-millis}")
+    private long pauseMillis;
+
+    @Scheduled(fixedDelayString = "${account.archive.interval-millis}")
+    public void archive() throws Exception {
+        int total = batchJobRunner.run(ARCHIVE_LOCK_KEY, pauseMillis,
+            List.of(transactionArchiveService::archiveBatch));
+
+        if (total > 0) {
+            log.info("{} transactions archived", total);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package kr.co.zerobase.account.scheduler;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+import kr.co.zerobase.account.scheduler.BatchJobRunner.Batch;
+import kr.co.zerobase.account.service.TransactionRetentionService;
+import kr.co.zerobase.account.type.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "account.retention.enabled", havingValue = "true")
+public class TransactionRetentionPurger {
+
+    private static final String RETENTION_LOCK_KEY = "TransactionRetentionLock";
+
+    private final TransactionRetentionService transactionRetentionService;
+    private final BatchJobRunner batchJobRunner;
+
+    @Value("${account.retention.pause-millis}")
+    private long pauseMillis;
+
+    @Scheduled(fixedDelayString = "${account.retention.interval-millis}")
+    public void purge() throws Exception {
+        int total = batchJobRunner.run(RETENTION_LOCK_KEY, pauseMillis,
+            Arrays.stream(ErrorCode.values())
+                .map(errorCode -> (Batch) () -> transactionRetentionService.purgeBatch(errorCode))
+                .collect(Collectors.toList()));
+
+        if (total > 0) {
+            log.info("{} failed transactions purged", total);
+        }
+    }
+}
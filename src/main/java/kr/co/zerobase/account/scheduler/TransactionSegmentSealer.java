@@ -0,0 +1,34 @@
+package kr.co.zerobase.account.scheduler;
+
+import java.util.List;
+import kr.co.zerobase.account.service.TransactionSegmentService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "account.segment.enabled", havingValue = "true")
+public class TransactionSegmentSealer {
+
+    private static final String SEGMENT_LOCK_KEY = "TransactionSegmentLock";
+
+    // 세그먼트 하나가 배치이고, 파일 쓰기가 대부분이라 쉬지 않는다.
+    private static final long PAUSE_MILLIS = 0;
+
+    private final TransactionSegmentService transactionSegmentService;
+    private final BatchJobRunner batchJobRunner;
+
+    @Scheduled(fixedDelayString = "${account.segment.interval-millis}")
+    public void seal() throws Exception {
+        int total = batchJobRunner.run(SEGMENT_LOCK_KEY, PAUSE_MILLIS,
+            List.of(transactionSegmentService::sealSegment));
+
+        if (total > 0) {
+            log.info("{} archived transactions sealed into segments", total);
+        }
+    }
+}
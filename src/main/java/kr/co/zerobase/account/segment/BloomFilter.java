@@ -0,0 +1,75 @@
+package kr.co.zerobase.account.segment;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+
+// 블록마다 transactionId 가 들어 있는지 미리 걸러 낸다.
+// 키당 10 비트, 해시 7 개로 오탐률은 약 1% 이다.
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+final class BloomFilter {
+
+    private static final int BITS_PER_KEY = 10;
+    private static final int HASH_COUNT = 7;
+
+    private final long[] bits;
+
+    static BloomFilter create(int expectedKeys) {
+        int bitCount = Math.max(Long.SIZE, expectedKeys * BITS_PER_KEY);
+        return new BloomFilter(new long[(bitCount + Long.SIZE - 1) / Long.SIZE]);
+    }
+
+    static BloomFilter read(DataInput in) throws IOException {
+        long[] bits = new long[in.readInt()];
+        for (int i = 0; i < bits.length; i++) {
+            bits[i] = in.readLong();
+        }
+        return new BloomFilter(bits);
+    }
+
+    void write(DataOutput out) throws IOException {
+        out.writeInt(bits.length);
+        for (long word : bits) {
+            out.writeLong(word);
+        }
+    }
+
+    void put(String key) {
+        long hash = hash(key);
+        for (int i = 0; i < HASH_COUNT; i++) {
+            long bit = bit(hash, i);
+            bits[(int) (bit / Long.SIZE)] |= 1L << (bit % Long.SIZE);
+        }
+    }
+
+    boolean mightContain(String key) {
+        long hash = hash(key);
+        for (int i = 0; i < HASH_COUNT; i++) {
+            long bit = bit(hash, i);
+            if ((bits[(int) (bit / Long.SIZE)] & 1L << (bit % Long.SIZE)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // 64 비트 해시의 위아래 절반으로 해시 여러 개를 만든다.
+    private long bit(long hash, int i) {
+        long low = hash & 0xffffffffL;
+        long high = hash >>> 32;
+        return Math.floorMod(low + i * high, (long) bits.length * Long.SIZE);
+    }
+
+    // String.hashCode 는 32 비트라 해시를 나눠 쓰기에 부족해 FNV-1a 를 쓴다.
+    private static long hash(String key) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+}
@@ -0,0 +1,226 @@
+package kr.co.zerobase.account.segment;
+
+import static kr.co.zerobase.account.segment.SegmentColumn.ACCOUNT_ID;
+import static kr.co.zerobase.account.segment.SegmentColumn.AMOUNT;
+import static kr.co.zerobase.account.segment.SegmentColumn.TRANSACTION_ID;
+import static kr.co.zerobase.account.segment.SegmentColumn.TRANSACTION_RESULT_TYPE;
+import static kr.co.zerobase.account.segment.SegmentColumn.TRANSACTION_TYPE;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+import kr.co.zerobase.account.segment.SegmentRecord.SegmentRecordBuilder;
+import kr.co.zerobase.account.type.TransactionResultType;
+import kr.co.zerobase.account.type.TransactionType;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 변경되지 않는 세그먼트 파일을 메모리 매핑해 읽는다.
+// 푸터만 힙에 올리고 블록은 필요한 컬럼만 그때그때 압축을 푼다.
+// 버전 1 은 transactionId 순서로 정렬한 형식이라 더 이상 읽지 않는다.
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class LedgerSegment {
+
+    static final int MAGIC = 0x4C534547;
+    static final int FORMAT_VERSION = 2;
+
+    private static final int HEADER_SIZE = Integer.BYTES * 2;
+    private static final int TRAILER_SIZE = Long.BYTES + Integer.BYTES;
+    private static final Set<SegmentColumn> LEDGER_COLUMNS = EnumSet.of(
+        ACCOUNT_ID, TRANSACTION_TYPE, TRANSACTION_RESULT_TYPE, AMOUNT);
+
+    @Getter
+    private final Path path;
+    private final ByteBuffer buffer;
+    @Getter
+    private final int rowCount;
+    private final List<Block> blocks;
+
+    public static LedgerSegment open(Path path) throws IOException {
+        ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            // 매핑은 채널을 닫은 뒤에도 유효하다.
+            buffer = channel.map(MapMode.READ_ONLY, 0, channel.size());
+        }
+
+        int size = buffer.capacity();
+        if (size < HEADER_SIZE + TRAILER_SIZE
+            || buffer.getInt(0) != MAGIC
+            || buffer.getInt(Integer.BYTES) != FORMAT_VERSION
+            || buffer.getInt(size - Integer.BYTES) != MAGIC) {
+            throw new IOException("Invalid ledger segment: " + path);
+        }
+
+        int footerOffset = (int) buffer.getLong(size - TRAILER_SIZE);
+        byte[] footerBytes = new byte[size - TRAILER_SIZE - footerOffset];
+        buffer.duplicate().position(footerOffset).get(footerBytes);
+        DataInputStream footer = new DataInputStream(new ByteArrayInputStream(footerBytes));
+
+        int rowCount = footer.readInt();
+        int blockCount = footer.readInt();
+        List<Block> blocks = new ArrayList<>(blockCount);
+        for (int i = 0; i < blockCount; i++) {
+            int blockRowCount = footer.readInt();
+            long firstAccountId = footer.readLong();
+            long lastAccountId = footer.readLong();
+            ColumnChunk[] chunks = new ColumnChunk[SegmentColumn.values().length];
+            for (int c = 0; c < chunks.length; c++) {
+                chunks[c] = new ColumnChunk(
+                    (int) footer.readLong(), footer.readInt(), footer.readInt());
+            }
+            BloomFilter transactionIds = BloomFilter.read(footer);
+            blocks.add(new Block(blockRowCount, firstAccountId, lastAccountId, chunks,
+                transactionIds));
+        }
+
+        return new LedgerSegment(path, buffer, rowCount, blocks);
+    }
+
+    public long getFileSize() {
+        return buffer.capacity();
+    }
+
+    // 블룸 필터를 통과한 블록만 transactionId 컬럼을 풀어 본다.
+    public Optional<SegmentRecord> findByTransactionId(String transactionId) {
+        for (Block block : blocks) {
+            if (!block.transactionIds.mightContain(transactionId)) {
+                continue;
+            }
+            List<SegmentRecord> transactionIds = read(block, EnumSet.of(TRANSACTION_ID));
+            for (int i = 0; i < transactionIds.size(); i++) {
+                if (transactionId.equals(transactionIds.get(i).getTransactionId())) {
+                    return Optional.of(read(block, EnumSet.allOf(SegmentColumn.class)).get(i));
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    // 원장 합계에 필요한 네 컬럼만 읽는다.
+    // 블록이 계좌 id 순서라 범위를 지나면 더 볼 필요가 없다.
+    void accumulateLedgerSums(long fromId, long toId,
+        TransactionResultType transactionResultType,
+        Map<Long, EnumMap<TransactionType, Long>> sums) {
+        for (Block block : blocks) {
+            if (block.firstAccountId > toId) {
+                break;
+            }
+            if (!block.containsAccountBetween(fromId, toId)) {
+                continue;
+            }
+            for (SegmentRecord record : read(block, LEDGER_COLUMNS)) {
+                if (record.getAccountId() >= fromId && record.getAccountId() <= toId
+                    && record.getTransactionResultType() == transactionResultType) {
+                    sums.computeIfAbsent(record.getAccountId(),
+                            accountId -> new EnumMap<>(TransactionType.class))
+                        .merge(record.getTransactionType(), record.getAmount(), Long::sum);
+                }
+            }
+        }
+    }
+
+    // 계좌 하나의 거래를 모든 컬럼으로 읽는다. 그 계좌가 들어 있는 블록만 푼다.
+    List<SegmentRecord> findByAccountId(long accountId) {
+        List<SegmentRecord> records = new ArrayList<>();
+        for (Block block : blocks) {
+            if (block.firstAccountId > accountId) {
+                break;
+            }
+            if (!block.containsAccountBetween(accountId, accountId)) {
+                continue;
+            }
+            for (SegmentRecord record : read(block, EnumSet.allOf(SegmentColumn.class))) {
+                if (record.getAccountId() == accountId) {
+                    records.add(record);
+                }
+            }
+        }
+        return records;
+    }
+
+    private List<SegmentRecord> read(Block block, Set<SegmentColumn> columns) {
+        List<SegmentRecordBuilder> builders = IntStream.range(0, block.rowCount)
+            .mapToObj(i -> SegmentRecord.builder())
+            .collect(Collectors.toList());
+
+        try {
+            for (SegmentColumn column : columns) {
+                DataInputStream in = new DataInputStream(
+                    new ByteArrayInputStream(inflate(block.chunks[column.ordinal()])));
+                for (SegmentRecordBuilder builder : builders) {
+                    column.read(in, builder);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return builders.stream()
+            .map(SegmentRecordBuilder::build)
+            .collect(Collectors.toList());
+    }
+
+    private byte[] inflate(ColumnChunk chunk) throws IOException {
+        ByteBuffer compressed = buffer.duplicate();
+        compressed.position(chunk.offset).limit(chunk.offset + chunk.compressedLength);
+
+        byte[] raw = new byte[chunk.rawLength];
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(compressed);
+            int length = 0;
+            while (length < raw.length) {
+                int inflated = inflater.inflate(raw, length, raw.length - length);
+                if (inflated == 0 && (inflater.finished() || inflater.needsInput())) {
+                    throw new IOException("Corrupted ledger segment: " + path);
+                }
+                length += inflated;
+            }
+        } catch (DataFormatException e) {
+            throw new IOException("Corrupted ledger segment: " + path, e);
+        } finally {
+            inflater.end();
+        }
+        return raw;
+    }
+
+    @RequiredArgsConstructor
+    private static class Block {
+
+        private final int rowCount;
+        private final long firstAccountId;
+        private final long lastAccountId;
+        private final ColumnChunk[] chunks;
+        private final BloomFilter transactionIds;
+
+        private boolean containsAccountBetween(long fromId, long toId) {
+            return firstAccountId <= toId && lastAccountId >= fromId;
+        }
+    }
+
+    @RequiredArgsConstructor
+    private static class ColumnChunk {
+
+        private final int offset;
+        private final int compressedLength;
+        private final int rawLength;
+    }
+}
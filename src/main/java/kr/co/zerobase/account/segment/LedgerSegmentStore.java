@@ -0,0 +1,221 @@
+package kr.co.zerobase.account.segment;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import javax.annotation.PostConstruct;
+import kr.co.zerobase.account.domain.LedgerSegmentFile;
+import kr.co.zerobase.account.repository.LedgerSegmentFileRepository;
+import kr.co.zerobase.account.repository.LedgerSum;
+import kr.co.zerobase.account.type.TransactionResultType;
+import kr.co.zerobase.account.type.TransactionType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+// 모든 노드가 공유하는 디렉토리의 세그먼트 파일 목록을 관리한다.
+// 파일은 한 번 쓰면 바뀌지 않으므로 읽을 때 잠금이 필요 없고,
+// 어떤 파일이 유효한지는 DB 의 LedgerSegmentFile 이 정한다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LedgerSegmentStore {
+
+    private static final String SEGMENT_PREFIX = "ledger-";
+    private static final String SEGMENT_SUFFIX = ".seg";
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final String DIRECTORY_REQUIRED =
+        "account.segment.directory must point to storage shared by every node";
+
+    private final LedgerSegmentFileRepository ledgerSegmentFileRepository;
+
+    private final List<LedgerSegment> segments = new CopyOnWriteArrayList<>();
+    private final Set<String> loadedFileNames = ConcurrentHashMap.newKeySet();
+    private long lastLoadedId;
+
+    @Value("${account.segment.directory:}")
+    private String directory;
+
+    @Value("${account.segment.enabled}")
+    private boolean enabled;
+
+    // 보관 테이블에서 지운 거래는 세그먼트에만 남으므로 디렉토리 없이 뜨면 안 된다.
+    @PostConstruct
+    public void load() throws IOException {
+        if (!StringUtils.hasText(directory)) {
+            if (enabled || ledgerSegmentFileRepository.count() > 0) {
+                throw new IllegalStateException(DIRECTORY_REQUIRED);
+            }
+            return;
+        }
+
+        refresh();
+        warnUnrecordedFiles();
+        log.info("{} ledger segments loaded from {}", segments.size(), directory);
+    }
+
+    // 파일을 쓰기만 하고 조회 대상에는 넣지 않는다. 봉인 트랜잭션이 커밋된 뒤 publish 한다.
+    public LedgerSegment write(List<SegmentRecord> records) throws IOException {
+        Path path = directory();
+        Files.createDirectories(path);
+
+        // 커밋되지 못한 봉인의 파일과 겹치지 않도록 매번 새 이름을 쓴다.
+        long firstId = records.stream()
+            .mapToLong(SegmentRecord::getId)
+            .min()
+            .orElseThrow();
+        Path file = path.resolve(String.format("%s%019d-%s%s", SEGMENT_PREFIX, firstId,
+            UUID.randomUUID(), SEGMENT_SUFFIX));
+        Path tempFile = path.resolve(file.getFileName() + TEMP_SUFFIX);
+
+        // 다 쓴 파일만 보이도록 임시 파일에 쓴 뒤 이름을 바꾼다.
+        LedgerSegmentWriter.write(tempFile, records);
+        Files.move(tempFile, file, StandardCopyOption.ATOMIC_MOVE);
+        return LedgerSegment.open(file);
+    }
+
+    // 보관 테이블에서 지우는 트랜잭션 안에서 호출해야 한다.
+    public void record(LedgerSegment segment) {
+        ledgerSegmentFileRepository.save(LedgerSegmentFile.builder()
+            .fileName(segment.getPath().getFileName().toString())
+            .rowCount(segment.getRowCount())
+            .fileSize(segment.getFileSize())
+            .build());
+    }
+
+    public synchronized void publish(LedgerSegment segment) {
+        if (loadedFileNames.add(segment.getPath().getFileName().toString())) {
+            segments.add(segment);
+        }
+    }
+
+    public void discard(LedgerSegment segment) throws IOException {
+        Files.deleteIfExists(segment.getPath());
+    }
+
+    public Optional<SegmentRecord> findByTransactionId(String transactionId) {
+        Optional<SegmentRecord> record = findByTransactionId(segments, transactionId);
+        if (record.isPresent()) {
+            return record;
+        }
+        // 다른 노드가 그 사이에 봉인한 세그먼트에 있을 수 있다.
+        return findByTransactionId(refresh(), transactionId);
+    }
+
+    // 호출한 트랜잭션에서 보이는 등록분만 더한다. 보관 테이블을 같은 트랜잭션에서 읽으면
+    // 그 사이 다른 노드가 봉인해 이미 publish 한 세그먼트와 겹치지 않는다.
+    public List<LedgerSum> sumAmountsByAccountIdRange(long fromId, long toId,
+        TransactionResultType transactionResultType) {
+        Set<String> recordedFileNames = new HashSet<>(ledgerSegmentFileRepository.findFileNames());
+        refresh();
+
+        Map<Long, EnumMap<TransactionType, Long>> sums = new HashMap<>();
+        for (LedgerSegment segment : segments) {
+            if (recordedFileNames.contains(segment.getPath().getFileName().toString())) {
+                segment.accumulateLedgerSums(fromId, toId, transactionResultType, sums);
+            }
+        }
+
+        List<LedgerSum> ledgerSums = new ArrayList<>();
+        sums.forEach((accountId, amounts) -> amounts.forEach((transactionType, amount) ->
+            ledgerSums.add(new SegmentLedgerSum(accountId, transactionType, amount))));
+        return ledgerSums;
+    }
+
+    public List<SegmentRecord> findByAccountId(long accountId) {
+        refresh();
+
+        List<SegmentRecord> records = new ArrayList<>();
+        for (LedgerSegment segment : segments) {
+            records.addAll(segment.findByAccountId(accountId));
+        }
+        return records;
+    }
+
+    // 마지막으로 읽은 뒤 등록된 세그먼트를 연다.
+    private synchronized List<LedgerSegment> refresh() {
+        List<LedgerSegment> opened = new ArrayList<>();
+        for (LedgerSegmentFile file
+            : ledgerSegmentFileRepository.findByIdGreaterThanOrderByIdAsc(lastLoadedId)) {
+            if (!loadedFileNames.contains(file.getFileName())) {
+                LedgerSegment segment = open(file);
+                loadedFileNames.add(file.getFileName());
+                segments.add(segment);
+                opened.add(segment);
+            }
+            lastLoadedId = file.getId();
+        }
+        return opened;
+    }
+
+    // 등록된 파일이 없거나 크기가 다르면 봉인한 노드와 다른 디렉토리를 보고 있는 것이다.
+    private LedgerSegment open(LedgerSegmentFile file) {
+        Path path = directory().resolve(file.getFileName());
+        try {
+            if (!Files.isRegularFile(path) || Files.size(path) != file.getFileSize()) {
+                throw new IllegalStateException("Sealed ledger segment " + file.getFileName()
+                    + " is not in " + directory + "; it must be the directory the sealer used");
+            }
+            return LedgerSegment.open(path);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 파일만 있고 등록되지 않은 세그먼트는 봉인 중에 멈춘 것이라 읽지 않는다.
+    // 다른 노드가 아직 커밋하지 않은 파일일 수도 있어 지우지도 않는다.
+    private void warnUnrecordedFiles() throws IOException {
+        Path path = directory();
+        if (!Files.isDirectory(path)) {
+            return;
+        }
+
+        List<Path> unrecorded;
+        try (Stream<Path> paths = Files.list(path)) {
+            unrecorded = paths
+                .filter(file -> file.getFileName().toString().endsWith(SEGMENT_SUFFIX))
+                .filter(file -> !loadedFileNames.contains(file.getFileName().toString()))
+                .collect(Collectors.toList());
+        }
+        if (!unrecorded.isEmpty()) {
+            log.warn("{} unrecorded ledger segments ignored in {}: {}", unrecorded.size(),
+                directory, unrecorded);
+        }
+    }
+
+    private Path directory() {
+        if (!StringUtils.hasText(directory)) {
+            throw new IllegalStateException(DIRECTORY_REQUIRED);
+        }
+        return Paths.get(directory);
+    }
+
+    private static Optional<SegmentRecord> findByTransactionId(List<LedgerSegment> segments,
+        String transactionId) {
+        for (LedgerSegment segment : segments) {
+            Optional<SegmentRecord> record = segment.findByTransactionId(transactionId);
+            if (record.isPresent()) {
+                return record;
+            }
+        }
+        return Optional.empty();
+    }
+}
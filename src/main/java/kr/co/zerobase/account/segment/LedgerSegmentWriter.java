@@ -0,0 +1,100 @@
+package kr.co.zerobase.account.segment;
+
+import static kr.co.zerobase.account.segment.LedgerSegment.FORMAT_VERSION;
+import static kr.co.zerobase.account.segment.LedgerSegment.MAGIC;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.zip.Deflater;
+
+// [헤더][블록마다 컬럼별 압축 데이터][푸터][푸터 위치, MAGIC] 순서로 쓴다.
+// 행은 (accountId, transactedAt, id) 순서라 푸터의 블록별 첫/마지막 계좌 id 가 희소 인덱스가 되고,
+// 정렬 순서와 무관한 transactionId 는 블록별 블룸 필터로 찾는다.
+final class LedgerSegmentWriter {
+
+    static final int ROWS_PER_BLOCK = 1024;
+
+    private LedgerSegmentWriter() {
+    }
+
+    static void write(Path path, List<SegmentRecord> records) throws IOException {
+        List<SegmentRecord> sorted = new ArrayList<>(records);
+        sorted.sort(Comparator.comparingLong(SegmentRecord::getAccountId)
+            .thenComparing(SegmentRecord::getTransactedAt)
+            .thenComparingLong(SegmentRecord::getId));
+
+        ByteArrayOutputStream footerBytes = new ByteArrayOutputStream();
+        DataOutputStream footer = new DataOutputStream(footerBytes);
+        footer.writeInt(sorted.size());
+        footer.writeInt((sorted.size() + ROWS_PER_BLOCK - 1) / ROWS_PER_BLOCK);
+
+        try (FileOutputStream file = new FileOutputStream(path.toFile());
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(file))) {
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+
+            for (int from = 0; from < sorted.size(); from += ROWS_PER_BLOCK) {
+                List<SegmentRecord> block = sorted.subList(from,
+                    Math.min(from + ROWS_PER_BLOCK, sorted.size()));
+                footer.writeInt(block.size());
+                footer.writeLong(block.get(0).getAccountId());
+                footer.writeLong(block.get(block.size() - 1).getAccountId());
+
+                for (SegmentColumn column : SegmentColumn.values()) {
+                    byte[] raw = encode(column, block);
+                    byte[] compressed = compress(raw);
+                    footer.writeLong(out.size());
+                    footer.writeInt(compressed.length);
+                    footer.writeInt(raw.length);
+                    out.write(compressed);
+                }
+
+                BloomFilter transactionIds = BloomFilter.create(block.size());
+                block.forEach(record -> transactionIds.put(record.getTransactionId()));
+                transactionIds.write(footer);
+            }
+
+            long footerOffset = out.size();
+            footerBytes.writeTo(out);
+            out.writeLong(footerOffset);
+            out.writeInt(MAGIC);
+            out.flush();
+            file.getFD().sync();
+        }
+    }
+
+    private static byte[] encode(SegmentColumn column, List<SegmentRecord> block)
+        throws IOException {
+        ByteArrayOutputStream raw = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(raw);
+        for (SegmentRecord record : block) {
+            column.write(out, record);
+        }
+        return raw.toByteArray();
+    }
+
+    private static byte[] compress(byte[] raw) {
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        try {
+            deflater.setInput(raw);
+            deflater.finish();
+
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream(raw.length / 2 + 16);
+            byte[] buffer = new byte[8192];
+            while (!deflater.finished()) {
+                int length = deflater.deflate(buffer);
+                compressed.write(buffer, 0, length);
+            }
+            return compressed.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+}
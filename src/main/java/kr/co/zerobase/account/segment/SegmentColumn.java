@@ -0,0 +1,75 @@
+package kr.co.zerobase.account.segment;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import kr.co.zerobase.account.segment.SegmentRecord.SegmentRecordBuilder;
+import kr.co.zerobase.account.type.ErrorCode;
+import kr.co.zerobase.account.type.TransactionResultType;
+import kr.co.zerobase.account.type.TransactionType;
+
+// 선언 순서가 곧 파일 안의 컬럼 순서이다.
+// 컬럼을 바꾸면 LedgerSegment.FORMAT_VERSION 을 올린다.
+enum SegmentColumn {
+    ID((out, record) -> out.writeLong(record.getId()),
+        (in, builder) -> builder.id(in.readLong())),
+    VERSION((out, record) -> out.writeLong(record.getVersion()),
+        (in, builder) -> builder.version(in.readLong())),
+    ACCOUNT_ID((out, record) -> out.writeLong(record.getAccountId()),
+        (in, builder) -> builder.accountId(in.readLong())),
+    ACCOUNT_NUMBER((out, record) -> out.writeUTF(record.getAccountNumber()),
+        (in, builder) -> builder.accountNumber(in.readUTF())),
+    TRANSACTION_TYPE((out, record) -> out.writeUTF(record.getTransactionType().name()),
+        (in, builder) -> builder.transactionType(TransactionType.valueOf(in.readUTF()))),
+    TRANSACTION_RESULT_TYPE(
+        (out, record) -> out.writeUTF(record.getTransactionResultType().name()),
+        (in, builder) -> builder.transactionResultType(
+            TransactionResultType.valueOf(in.readUTF()))),
+    ERROR_CODE((out, record) -> out.writeUTF(
+            record.getErrorCode() == null ? "" : record.getErrorCode().name()),
+        (in, builder) -> {
+            String errorCode = in.readUTF();
+            builder.errorCode(errorCode.isEmpty() ? null : ErrorCode.valueOf(errorCode));
+        }),
+    AMOUNT((out, record) -> out.writeLong(record.getAmount()),
+        (in, builder) -> builder.amount(in.readLong())),
+    BALANCE_SNAPSHOT((out, record) -> out.writeLong(record.getBalanceSnapshot()),
+        (in, builder) -> builder.balanceSnapshot(in.readLong())),
+    TRANSACTION_ID((out, record) -> out.writeUTF(record.getTransactionId()),
+        (in, builder) -> builder.transactionId(in.readUTF())),
+    TRANSACTED_AT((out, record) -> {
+        out.writeLong(record.getTransactedAt().toEpochSecond(ZoneOffset.UTC));
+        out.writeInt(record.getTransactedAt().getNano());
+    }, (in, builder) -> builder.transactedAt(
+        LocalDateTime.ofEpochSecond(in.readLong(), in.readInt(), ZoneOffset.UTC)));
+
+    private final ColumnWriter writer;
+    private final ColumnReader reader;
+
+    SegmentColumn(ColumnWriter writer, ColumnReader reader) {
+        this.writer = writer;
+        this.reader = reader;
+    }
+
+    void write(DataOutput out, SegmentRecord record) throws IOException {
+        writer.write(out, record);
+    }
+
+    void read(DataInput in, SegmentRecordBuilder builder) throws IOException {
+        reader.read(in, builder);
+    }
+
+    @FunctionalInterface
+    private interface ColumnWriter {
+
+        void write(DataOutput out, SegmentRecord record) throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface ColumnReader {
+
+        void read(DataInput in, SegmentRecordBuilder builder) throws IOException;
+    }
+}
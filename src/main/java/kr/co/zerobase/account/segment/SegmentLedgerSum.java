@@ -0,0 +1,15 @@
+package kr.co.zerobase.account.segment;
+
+import kr.co.zerobase.account.repository.LedgerSum;
+import kr.co.zerobase.account.type.TransactionType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+class SegmentLedgerSum implements LedgerSum {
+
+    private final Long accountId;
+    private final TransactionType transactionType;
+    private final Long amount;
+}
@@ -0,0 +1,52 @@
+package kr.co.zerobase.account.segment;
+
+import java.time.LocalDateTime;
+import kr.co.zerobase.account.repository.ArchivedTransactionRow;
+import kr.co.zerobase.account.repository.TransactionHistory;
+import kr.co.zerobase.account.type.ErrorCode;
+import kr.co.zerobase.account.type.TransactionResultType;
+import kr.co.zerobase.account.type.TransactionType;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+// 세그먼트 파일의 한 행. 읽을 때 요청한 컬럼만 채워진다.
+@Getter
+@Builder
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class SegmentRecord {
+
+    private final long id;
+    private final long version;
+    private final long accountId;
+    private final String accountNumber;
+    private final TransactionType transactionType;
+    private final TransactionResultType transactionResultType;
+    private final ErrorCode errorCode;
+    private final long amount;
+    private final long balanceSnapshot;
+    private final String transactionId;
+    private final LocalDateTime transactedAt;
+
+    public static SegmentRecord from(ArchivedTransactionRow row) {
+        return SegmentRecord.builder()
+            .id(row.getId())
+            .version(row.getVersion() == null ? 0L : row.getVersion())
+            .accountId(row.getAccountId())
+            .accountNumber(row.getAccountNumber())
+            .transactionType(row.getTransactionType())
+            .transactionResultType(row.getTransactionResultType())
+            .errorCode(row.getErrorCode())
+            .amount(row.getAmount())
+            .balanceSnapshot(row.getBalanceSnapshot())
+            .transactionId(row.getTransactionId())
+            .transactedAt(row.getTransactedAt())
+            .build();
+    }
+
+    public TransactionHistory toTransactionHistory() {
+        return new SegmentTransactionHistory(id, transactionType, transactionResultType, amount,
+            balanceSnapshot, transactionId, transactedAt);
+    }
+}
@@ -0,0 +1,21 @@
+package kr.co.zerobase.account.segment;
+
+import java.time.LocalDateTime;
+import kr.co.zerobase.account.repository.TransactionHistory;
+import kr.co.zerobase.account.type.TransactionResultType;
+import kr.co.zerobase.account.type.TransactionType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+class SegmentTransactionHistory implements TransactionHistory {
+
+    private final Long id;
+    private final TransactionType transactionType;
+    private final TransactionResultType transactionResultType;
+    private final Long amount;
+    private final Long balanceSnapshot;
+    private final String transactionId;
+    private final LocalDateTime transactedAt;
+}
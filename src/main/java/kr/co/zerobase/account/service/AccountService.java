@@ -8,6 +8,8 @@ import static kr.co.zerobase.account.type.ErrorCode.ACCOUNT_NUMBER_ALREADY_EXIST
 import static kr.co.zerobase.account.type.ErrorCode.BALANCE_NOT_EMPTY;
 import static kr.co.zerobase.account.type.ErrorCode.USER_ACCOUNT_UN_MATCH;
 import static kr.co.zerobase.account.type.ErrorCode.USER_NOT_FOUND;
+import static kr.co.zerobase.account.type.OutboxEventType.ACCOUNT_CREATED;
+import static kr.co.zerobase.account.type.OutboxEventType.ACCOUNT_UNREGISTERED;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -16,6 +18,7 @@ import java.util.Optional;
 import java.util.Random;
 import java.util.stream.Collectors;
 import javax.transaction.Transactional;
+import kr.co.zerobase.account.aop.CoalesceRequest;
 import kr.co.zerobase.account.domain.Account;
 import kr.co.zerobase.account.domain.AccountUser;
 import kr.co.zerobase.account.dto.AccountDto;
@@ -23,8 +26,10 @@ import kr.co.zerobase.account.exception.AccountException;
 import kr.co.zerobase.account.repository.AccountRepository;
 import kr.co.zerobase.account.repository.AccountSpecification;
 import kr.co.zerobase.account.repository.AccountUserRepository;
+import kr.co.zerobase.account.repository.EntityVersion;
 import kr.co.zerobase.account.type.AccountStatus;
 import kr.co.zerobase.account.type.ErrorCode;
+import kr.co.zerobase.account.util.ETagUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataIntegrityViolationException;
@@ -42,6 +47,8 @@ public class AccountService {
 
     private final AccountRepository accountRepository;
     private final AccountUserRepository accountUserRepository;
+    private final BalanceShardService balanceShardService;
+    private final OutboxService outboxService;
 
     @Transactional
     public AccountDto createAccount(Long userId, Long initialBalance) {
@@ -49,19 +56,25 @@ public class AccountService {
 
         validateCreateAccount(accountUser);
 
+        AccountDto accountDto;
         try {
-            return AccountDto.fromEntity(
+            accountDto = AccountDto.fromEntity(
                 accountRepository.saveAndFlush(Account.builder()
                     .accountUser(accountUser)
                     .accountNumber(generateAccountNumber())
                     .accountStatus(IN_USE)
                     .balance(initialBalance)
+                    .initialBalance(initialBalance)
+                    .heldBalance(0L)
                     .registeredAt(LocalDateTime.now())
                     .build()));
         } catch (DataIntegrityViolationException e) {
             // TODO: lock aop로 around시 중복키에 대한 예외가 발생할 수 있을까?
             throw new AccountException(ACCOUNT_NUMBER_ALREADY_EXISTS);
         }
+
+        outboxService.append(ACCOUNT_CREATED, accountDto.getAccountNumber(), accountDto);
+        return accountDto;
     }
 
     @Transactional
@@ -69,25 +82,46 @@ public class AccountService {
         AccountUser accountUser = getAccountUser(userId);
         Account account = getAccount(accountNumber);
 
+        // 분할 계좌는 계좌 락 대신 모든 샤드 락을 잡아 취소/사용과 해지가 겹치지 않게 한다.
+        if (account.isBalanceSharded()) {
+            balanceShardService.lockAllShards(account);
+        }
+
         validateDeleteAccount(accountUser, account);
 
         account.unregister();
         accountRepository.save(account);
 
-        return AccountDto.fromEntity(account);
+        AccountDto accountDto = AccountDto.fromEntity(account);
+        outboxService.append(ACCOUNT_UNREGISTERED, accountDto.getAccountNumber(), accountDto);
+        return accountDto;
     }
 
     @Transactional
+    @CoalesceRequest("getAccountsByUserId")
     public List<AccountDto> getAccountsByUserId(long userId) {
         AccountUser accountUser = getAccountUser(userId);
 
         List<Account> accounts = accountRepository.findAll(
             getAccountSpecByAccountUserAndAccountStatus(accountUser, IN_USE));
 
-        return accounts.stream().map(AccountDto::fromEntity)
+        return accounts.stream()
+            .map(account -> AccountDto.fromEntity(account, getBalance(account)))
             .collect(Collectors.toList());
     }
 
+    public String getAccountsETag(long userId) {
+        List<EntityVersion> versions = accountRepository.findVersionsByAccountUserId(userId);
+
+        if (versions.isEmpty()) {
+            return null;
+        }
+
+        return ETagUtil.generate(versions.stream()
+            .map(version -> version.getId() + ":" + version.getVersion())
+            .collect(Collectors.joining(",")));
+    }
+
     private static Specification<Account> getAccountSpecByAccountUserAndAccountStatus(
         AccountUser accountUser,
         AccountStatus accountStatus) {
@@ -102,7 +136,7 @@ public class AccountService {
         return spec;
     }
 
-    private String generateAccountNumber() {
+    String generateAccountNumber() {
         StringBuilder buffer = new StringBuilder();
         Optional<Account> account = null;
 
@@ -135,11 +169,17 @@ public class AccountService {
             throw new AccountException(ACCOUNT_ALREADY_UNREGISTERED);
         }
 
-        if (account.getBalance() > 0) {
+        if (getBalance(account) > 0) {
             throw new AccountException(BALANCE_NOT_EMPTY);
         }
     }
 
+    // 분할 계좌의 잔액은 나머지 잔액과 샤드 잔액의 합이다.
+    private Long getBalance(Account account) {
+        return account.isBalanceSharded()
+            ? balanceShardService.getTotalBalance(account) : account.getBalance();
+    }
+
     private AccountUser getAccountUser(Long userId) {
         return accountUserRepository.findById(userId)
             .orElseThrow(() -> new AccountException(USER_NOT_FOUND));
@@ -0,0 +1,272 @@
+package kr.co.zerobase.account.service;
+
+import static kr.co.zerobase.account.type.AccountStatus.IN_USE;
+import static kr.co.zerobase.account.type.AccountStatus.UNREGISTERED;
+import static kr.co.zerobase.account.type.ErrorCode.ACCOUNT_ALREADY_UNREGISTERED;
+import static kr.co.zerobase.account.type.ErrorCode.ACCOUNT_NOT_FOUND;
+import static kr.co.zerobase.account.type.ErrorCode.MODIFY_ACCOUNT_LOCK_WAITERS_EXCEEDED;
+import static kr.co.zerobase.account.type.ErrorCode.MODIFY_ACCOUNT_TRANSACTION_LOCK;
+import static kr.co.zerobase.account.type.ErrorCode.TRANSACTION_LOCK;
+import static kr.co.zerobase.account.type.ErrorCode.TRANSACTION_LOCK_WAITERS_EXCEEDED;
+import static kr.co.zerobase.account.type.ErrorCode.USER_ACCOUNT_UN_MATCH;
+import static kr.co.zerobase.account.type.ErrorCode.USER_NOT_FOUND;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import javax.transaction.Transactional;
+import kr.co.zerobase.account.domain.Account;
+import kr.co.zerobase.account.domain.AccountBalanceShard;
+import kr.co.zerobase.account.domain.AccountUser;
+import kr.co.zerobase.account.dto.AccountDto;
+import kr.co.zerobase.account.exception.AccountException;
+import kr.co.zerobase.account.repository.AccountBalanceShardRepository;
+import kr.co.zerobase.account.repository.AccountRepository;
+import kr.co.zerobase.account.repository.AccountUserRepository;
+import kr.co.zerobase.account.repository.ShardBalance;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// 잔액 분할 계좌는 계좌 락 대신 샤드별 락을 잡아 샤드 수만큼 동시에 사용할 수 있다.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BalanceShardService {
+
+    private final AccountRepository accountRepository;
+    private final AccountUserRepository accountUserRepository;
+    private final AccountBalanceShardRepository accountBalanceShardRepository;
+    private final LockService lockService;
+
+    // 분할은 되돌리지 않으므로 계좌의 샤드 수로 분할을 확인한 계좌만 기억한다.
+    // 분할되지 않은 계좌는 다른 노드가 분할했을 수 있으므로 매번 다시 읽는다.
+    private final Set<String> shardedAccountNumbers = ConcurrentHashMap.newKeySet();
+
+    @Value("${account.lock.modify-account.max-waiters}")
+    private int maxModifyAccountLockWaiters;
+
+    public boolean isBalanceSharded(String accountNumber) {
+        if (shardedAccountNumbers.contains(accountNumber)) {
+            return true;
+        }
+
+        boolean sharded = accountRepository.findBalanceShardCountByAccountNumber(accountNumber)
+            .isPresent();
+        if (sharded) {
+            shardedAccountNumbers.add(accountNumber);
+        }
+        return sharded;
+    }
+
+    @Transactional
+    public AccountDto shardBalance(Long userId, String accountNumber, int shardCount) {
+        AccountUser accountUser = accountUserRepository.findById(userId)
+            .orElseThrow(() -> new AccountException(USER_NOT_FOUND));
+        Account account = accountRepository.findByAccountNumber(accountNumber)
+            .orElseThrow(() -> new AccountException(ACCOUNT_NOT_FOUND));
+
+        validateShardBalance(accountUser, account);
+
+        List<Long> shardBalances = account.shardBalance(shardCount);
+        List<AccountBalanceShard> shards = new ArrayList<>(shardCount);
+        for (int i = 0; i < shardCount; i++) {
+            shards.add(AccountBalanceShard.builder()
+                .account(account)
+                .shardIndex(i)
+                .balance(shardBalances.get(i))
+                .build());
+        }
+        accountBalanceShardRepository.saveAll(shards);
+
+        // 롤백되면 계좌 락을 건너뛰지 않도록 커밋 이후에 등록한다.
+        afterCommit(() -> shardedAccountNumbers.add(accountNumber));
+
+        return AccountDto.fromEntity(account, getTotalBalance(account));
+    }
+
+    public long getTotalBalance(Account account) {
+        return account.getBalance()
+            + accountBalanceShardRepository.sumBalanceByAccountId(account.getId());
+    }
+
+    public void useBalance(Account account, Long amount) {
+        // 잔액이 충분한 샤드 중 이 노드에서 대기자가 적은 샤드부터 시도한다.
+        List<ShardBalance> candidates = new ArrayList<>();
+        for (ShardBalance shard : accountBalanceShardRepository.findShardBalancesByAccountId(
+            account.getId())) {
+            if (shard.getBalance() >= amount) {
+                candidates.add(shard);
+            }
+        }
+        Collections.shuffle(candidates, ThreadLocalRandom.current());
+        candidates.sort(Comparator.comparingInt(shard ->
+            lockService.getWaiters(getLockKey(account.getAccountNumber(), shard.getShardIndex()))));
+
+        for (ShardBalance shard : candidates) {
+            String lockKey = getLockKey(account.getAccountNumber(), shard.getShardIndex());
+            if (!tryLockShard(lockKey)) {
+                continue;
+            }
+
+            if (accountBalanceShardRepository.withdrawBalance(
+                shard.getId(), amount, LocalDateTime.now()) == 1) {
+                unlockAfterCompletion(lockKey);
+                return;
+            }
+
+            // 조회 이후 다른 요청이 잔액을 가져갔다.
+            lockService.unlock(lockKey);
+        }
+
+        rebalance(account, amount);
+    }
+
+    // 승인처럼 계좌 행의 잔액을 조건부 UPDATE 로 다루는 작업은 샤드에서 금액을 떼어
+    // 나머지 잔액으로 옮긴 뒤 진행한다. 합계는 그대로라 승인이 취소되어도 되돌릴 필요가 없다.
+    public void moveToUnshardedBalance(Account account, Long amount) {
+        useBalance(account, amount);
+
+        if (accountRepository.depositBalance(account.getAccountNumber(), amount, IN_USE,
+            LocalDateTime.now()) == 0) {
+            throw new AccountException(ACCOUNT_ALREADY_UNREGISTERED);
+        }
+    }
+
+    // 취소는 교환 법칙이 성립하므로 임의의 샤드 하나의 락만 잡고 더한다.
+    // 해지가 모든 샤드 락을 쥐고 있으므로 락을 잡은 뒤 계좌가 사용 중일 때만 더한다.
+    public void cancelBalance(Account account, Long amount) {
+        int shardIndex = ThreadLocalRandom.current().nextInt(account.getBalanceShardCount());
+        String lockKey = getLockKey(account.getAccountNumber(), shardIndex);
+        lockShard(lockKey);
+        unlockAfterCompletion(lockKey);
+
+        if (accountBalanceShardRepository.addBalanceByShardIndex(account.getId(), shardIndex,
+            amount, IN_USE, LocalDateTime.now()) == 0) {
+            throw new AccountException(ACCOUNT_ALREADY_UNREGISTERED);
+        }
+    }
+
+    // 해지, 재분배처럼 샤드 전체를 읽고 판단하는 작업은 모든 샤드 락을 순서대로 잡는다.
+    public void lockAllShards(Account account) {
+        for (int i = 0; i < account.getBalanceShardCount(); i++) {
+            String lockKey = getLockKey(account.getAccountNumber(), i);
+            lockShard(lockKey);
+            unlockAfterCompletion(lockKey);
+        }
+    }
+
+    // 한 샤드로 부족하면 모든 샤드 락을 잡고, 사용 금액을 뺀 잔액을 고르게 다시 나눈다.
+    private void rebalance(Account account, Long amount) {
+        log.info("Rebalancing {} balance shards of {}", account.getBalanceShardCount(),
+            account.getAccountNumber());
+
+        lockAllShards(account);
+
+        List<ShardBalance> shards = accountBalanceShardRepository.findShardBalancesByAccountId(
+            account.getId());
+        long shardTotal = shards.stream().mapToLong(ShardBalance::getBalance).sum();
+
+        // 샤드 합으로도 부족하면 분할하지 않은 나머지 잔액에서 채운다.
+        if (shardTotal < amount) {
+            account.useBalance(amount - shardTotal);
+        }
+
+        // 목표치와의 차이만큼만 갱신한다.
+        long remaining = Math.max(shardTotal - amount, 0L);
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < shards.size(); i++) {
+            ShardBalance shard = shards.get(i);
+            long target = remaining / shards.size() + (i < remaining % shards.size() ? 1 : 0);
+            if (target != shard.getBalance()) {
+                accountBalanceShardRepository.addBalance(shard.getId(),
+                    target - shard.getBalance(), now);
+            }
+        }
+    }
+
+    private void validateShardBalance(AccountUser accountUser, Account account) {
+        if (!Objects.equals(accountUser.getId(), account.getAccountUser().getId())) {
+            throw new AccountException(USER_ACCOUNT_UN_MATCH);
+        }
+
+        if (account.getAccountStatus() == UNREGISTERED) {
+            throw new AccountException(ACCOUNT_ALREADY_UNREGISTERED);
+        }
+    }
+
+    // 경합 중이거나 대기자가 많은 샤드는 건너뛰고 다음 샤드를 시도한다.
+    private boolean tryLockShard(String lockKey) {
+        try {
+            lockShard(lockKey);
+            return true;
+        } catch (AccountException e) {
+            if (e.getErrorCode() == MODIFY_ACCOUNT_TRANSACTION_LOCK
+                || e.getErrorCode() == MODIFY_ACCOUNT_LOCK_WAITERS_EXCEEDED) {
+                return false;
+            }
+            throw e;
+        }
+    }
+
+    private void lockShard(String lockKey) {
+        try {
+            lockService.lock(lockKey, maxModifyAccountLockWaiters);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AccountException(MODIFY_ACCOUNT_TRANSACTION_LOCK);
+        } catch (AccountException e) {
+            if (e.getErrorCode() == TRANSACTION_LOCK) {
+                throw new AccountException(MODIFY_ACCOUNT_TRANSACTION_LOCK);
+            }
+            if (e.getErrorCode() == TRANSACTION_LOCK_WAITERS_EXCEEDED) {
+                throw new AccountException(MODIFY_ACCOUNT_LOCK_WAITERS_EXCEEDED);
+            }
+            throw e;
+        }
+    }
+
+    // 샤드 락은 커밋(또는 롤백) 이후에 풀어야 다음 점유자가 커밋 전 잔액을 보지 않는다.
+    private void unlockAfterCompletion(String lockKey) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            lockService.unlock(lockKey);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(
+            new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    lockService.unlock(lockKey);
+                }
+            });
+    }
+
+    private static void afterCommit(Runnable runnable) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            runnable.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(
+            new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    runnable.run();
+                }
+            });
+    }
+
+    static String getLockKey(String accountNumber, int shardIndex) {
+        return "ModifyAccountShardLock:" + accountNumber + ":" + shardIndex;
+    }
+}
@@ -0,0 +1,34 @@
+package kr.co.zerobase.account.service;
+
+import kr.co.zerobase.account.aop.Bulkhead;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+@Aspect
+@Component
+@Slf4j
+@Order(1)
+@RequiredArgsConstructor
+public class BulkheadAopAspect {
+
+    private final BulkheadService bulkheadService;
+
+    // 계좌 락보다 먼저 적용되어 락 대기 중인 요청이 스레드를 무한정 점유하지 않도록 한다.
+    @Around("@annotation(bulkhead)")
+    public Object aroundMethod(
+        ProceedingJoinPoint pjp
+        , Bulkhead bulkhead) throws Throwable {
+        bulkheadService.acquire(bulkhead.value());
+
+        try {
+            return pjp.proceed();
+        } finally {
+            bulkheadService.release(bulkhead.value());
+        }
+    }
+}
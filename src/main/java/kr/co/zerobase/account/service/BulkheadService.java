@@ -0,0 +1,56 @@
+package kr.co.zerobase.account.service;
+
+import static kr.co.zerobase.account.type.BulkheadType.EXPORT;
+import static kr.co.zerobase.account.type.BulkheadType.READ;
+import static kr.co.zerobase.account.type.BulkheadType.WRITE;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import kr.co.zerobase.account.exception.AccountException;
+import kr.co.zerobase.account.type.BulkheadType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+public class BulkheadService {
+
+    private final Map<BulkheadType, Semaphore> semaphores = new EnumMap<>(BulkheadType.class);
+    private final Map<BulkheadType, Long> maxWaitMillis = new EnumMap<>(BulkheadType.class);
+
+    public BulkheadService(
+        @Value("${account.bulkhead.read.max-concurrent-calls}") int readMaxConcurrentCalls,
+        @Value("${account.bulkhead.read.max-wait-millis}") long readMaxWaitMillis,
+        @Value("${account.bulkhead.write.max-concurrent-calls}") int writeMaxConcurrentCalls,
+        @Value("${account.bulkhead.write.max-wait-millis}") long writeMaxWaitMillis,
+        @Value("${account.bulkhead.export.max-concurrent-calls}") int exportMaxConcurrentCalls,
+        @Value("${account.bulkhead.export.max-wait-millis}") long exportMaxWaitMillis) {
+        semaphores.put(READ, new Semaphore(readMaxConcurrentCalls));
+        semaphores.put(WRITE, new Semaphore(writeMaxConcurrentCalls));
+        semaphores.put(EXPORT, new Semaphore(exportMaxConcurrentCalls));
+        maxWaitMillis.put(READ, readMaxWaitMillis);
+        maxWaitMillis.put(WRITE, writeMaxWaitMillis);
+        maxWaitMillis.put(EXPORT, exportMaxWaitMillis);
+    }
+
+    public void acquire(BulkheadType type) throws InterruptedException {
+        boolean isAcquired = semaphores.get(type)
+            .tryAcquire(maxWaitMillis.get(type), TimeUnit.MILLISECONDS);
+
+        if (!isAcquired) {
+            log.warn("{} bulkhead is full", type);
+            throw new AccountException(type.getErrorCode());
+        }
+    }
+
+    public void release(BulkheadType type) {
+        semaphores.get(type).release();
+    }
+
+    public int getAvailableCalls(BulkheadType type) {
+        return semaphores.get(type).availablePermits();
+    }
+}
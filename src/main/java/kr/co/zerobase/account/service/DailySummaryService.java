@@ -0,0 +1,98 @@
+package kr.co.zerobase.account.service;
+
+import static kr.co.zerobase.account.type.ErrorCode.ACCOUNT_NOT_FOUND;
+import static kr.co.zerobase.account.type.ErrorCode.INVALID_REQUEST;
+import static kr.co.zerobase.account.type.TransactionResultType.S;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+import javax.transaction.Transactional;
+import javax.transaction.Transactional.TxType;
+import kr.co.zerobase.account.domain.AccountDailySummary;
+import kr.co.zerobase.account.domain.Transaction;
+import kr.co.zerobase.account.dto.AccountDailySummaryDto;
+import kr.co.zerobase.account.exception.AccountException;
+import kr.co.zerobase.account.repository.AccountDailySummaryRepository;
+import kr.co.zerobase.account.repository.AccountRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class DailySummaryService {
+
+    static final int MAX_PERIOD_DAYS = 366;
+
+    private final AccountRepository accountRepository;
+    private final AccountDailySummaryRepository accountDailySummaryRepository;
+
+    // 거래 한 건을 그날 집계 행에 더한다. 행이 없으면 만든다.
+    @Transactional(TxType.MANDATORY)
+    public void accumulate(Transaction transaction) {
+        Long accountId = transaction.getAccount().getId();
+        LocalDate summaryDate = transaction.getTransactedAt().toLocalDate();
+
+        boolean success = transaction.getTransactionResultType() == S;
+        long balanceChange = success
+            ? transaction.getTransactionType().getLedgerSign() * transaction.getAmount() : 0L;
+        long debitAmount = balanceChange < 0 ? -balanceChange : 0L;
+        long creditAmount = balanceChange > 0 ? balanceChange : 0L;
+        long debitCount = success && transaction.getTransactionType().getLedgerSign() < 0
+            ? 1L : 0L;
+        long creditCount = success && transaction.getTransactionType().getLedgerSign() > 0
+            ? 1L : 0L;
+        long failureCount = success ? 0L : 1L;
+
+        if (accumulate(accountId, summaryDate, balanceChange, debitAmount, debitCount,
+            creditAmount, creditCount, failureCount)) {
+            return;
+        }
+
+        // 그날 첫 거래이다. 분할 계좌나 실패 거래는 계좌 행을 잠그지 않은 채 여기 올 수 있으므로
+        // 계좌 행을 잠가 같은 날 집계 행을 동시에 만들지 않게 한 뒤 다시 확인한다.
+        accountRepository.lockById(accountId);
+        if (accumulate(accountId, summaryDate, balanceChange, debitAmount, debitCount,
+            creditAmount, creditCount, failureCount)) {
+            return;
+        }
+
+        accountDailySummaryRepository.save(AccountDailySummary.builder()
+            .account(transaction.getAccount())
+            .summaryDate(summaryDate)
+            .openingBalance(transaction.getBalanceSnapshot() - balanceChange)
+            .closingBalance(transaction.getBalanceSnapshot())
+            .debitAmount(debitAmount)
+            .debitCount(debitCount)
+            .creditAmount(creditAmount)
+            .creditCount(creditCount)
+            .failureCount(failureCount)
+            .build());
+    }
+
+    @Transactional
+    public List<AccountDailySummaryDto> getDailySummaries(String accountNumber, LocalDate from,
+        LocalDate to) {
+        if (from.isAfter(to) || from.plusDays(MAX_PERIOD_DAYS).isBefore(to)) {
+            throw new AccountException(INVALID_REQUEST);
+        }
+
+        Long accountId = accountRepository.findIdByAccountNumber(accountNumber)
+            .orElseThrow(() -> new AccountException(ACCOUNT_NOT_FOUND));
+
+        return accountDailySummaryRepository.findByAccountIdAndSummaryDateBetween(
+                accountId, from, to)
+            .stream()
+            .map(AccountDailySummaryDto::fromEntity)
+            .collect(Collectors.toList());
+    }
+
+    private boolean accumulate(Long accountId, LocalDate summaryDate, long balanceChange,
+        long debitAmount, long debitCount, long creditAmount, long creditCount,
+        long failureCount) {
+        return accountDailySummaryRepository.accumulate(accountId, summaryDate, balanceChange,
+            debitAmount, debitCount, creditAmount, creditCount, failureCount,
+            LocalDateTime.now()) > 0;
+    }
+}
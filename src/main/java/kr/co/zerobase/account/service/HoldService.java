@@ -0,0 +1,180 @@
+package kr.co.zerobase.account.service;
+
+import static kr.co.zerobase.account.type.AccountStatus.IN_USE;
+import static kr.co.zerobase.account.type.AccountStatus.UNREGISTERED;
+import static kr.co.zerobase.account.type.ErrorCode.ACCOUNT_ALREADY_UNREGISTERED;
+import static kr.co.zerobase.account.type.ErrorCode.ACCOUNT_NOT_FOUND;
+import static kr.co.zerobase.account.type.ErrorCode.AMOUNT_EXCEED_BALANCE;
+import static kr.co.zerobase.account.type.ErrorCode.HOLD_ALREADY_SETTLED;
+import static kr.co.zerobase.account.type.ErrorCode.HOLD_EXPIRED;
+import static kr.co.zerobase.account.type.ErrorCode.HOLD_NOT_FOUND;
+import static kr.co.zerobase.account.type.ErrorCode.USER_ACCOUNT_UN_MATCH;
+import static kr.co.zerobase.account.type.ErrorCode.USER_NOT_FOUND;
+import static kr.co.zerobase.account.type.HoldStatus.CAPTURED;
+import static kr.co.zerobase.account.type.HoldStatus.EXPIRED;
+import static kr.co.zerobase.account.type.HoldStatus.HELD;
+import static kr.co.zerobase.account.type.HoldStatus.VOIDED;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import javax.transaction.Transactional;
+import kr.co.zerobase.account.domain.Account;
+import kr.co.zerobase.account.domain.AccountUser;
+import kr.co.zerobase.account.domain.BalanceHold;
+import kr.co.zerobase.account.dto.BalanceHoldDto;
+import kr.co.zerobase.account.dto.TransactionDto;
+import kr.co.zerobase.account.exception.AccountException;
+import kr.co.zerobase.account.repository.AccountRepository;
+import kr.co.zerobase.account.repository.AccountUserRepository;
+import kr.co.zerobase.account.repository.BalanceHoldRepository;
+import kr.co.zerobase.account.type.HoldStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+// 승인/캡처/취소는 분산 락 없이 조건부 UPDATE 로 처리해 행 잠금만 짧게 잡는다.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class HoldService {
+
+    private final AccountRepository accountRepository;
+    private final AccountUserRepository accountUserRepository;
+    private final BalanceHoldRepository balanceHoldRepository;
+    private final TransactionService transactionService;
+    private final BalanceShardService balanceShardService;
+
+    @Value("${account.hold.ttl-seconds}")
+    private long holdTtlSeconds;
+
+    @Value("${account.hold.sweep-batch-size}")
+    private int sweepBatchSize;
+
+    @Transactional
+    public BalanceHoldDto authorizeBalance(Long userId, String accountNumber, Long amount) {
+        AccountUser accountUser = getAccountUser(userId);
+        Account account = getAccount(accountNumber);
+
+        validateAuthorizeBalance(accountUser, account, amount);
+
+        LocalDateTime now = LocalDateTime.now();
+        // 분할 계좌는 샤드에서 승인 금액을 나머지 잔액으로 옮긴 뒤 그 잔액에 묶는다.
+        if (account.isBalanceSharded()) {
+            balanceShardService.moveToUnshardedBalance(account, amount);
+        }
+
+        // 검증 이후 다른 승인/사용이 먼저 잔액을 가져갔다면 0건 갱신
+        if (accountRepository.holdBalance(account.getId(), amount, IN_USE, now) == 0) {
+            throw new AccountException(AMOUNT_EXCEED_BALANCE);
+        }
+
+        return BalanceHoldDto.fromEntity(balanceHoldRepository.save(
+            BalanceHold.builder()
+                .account(account)
+                .holdId(UUID.randomUUID().toString().replace("-", ""))
+                .amount(amount)
+                .status(HELD)
+                .expiresAt(now.plusSeconds(holdTtlSeconds))
+                .build()));
+    }
+
+    @Transactional
+    public TransactionDto captureBalance(String holdId) {
+        BalanceHold balanceHold = getBalanceHold(holdId);
+        LocalDateTime now = LocalDateTime.now();
+
+        validateSettleBalance(balanceHold, now);
+        settle(balanceHold, CAPTURED, now);
+
+        accountRepository.captureHeldBalance(
+            balanceHold.getAccount().getId(), balanceHold.getAmount(), now);
+
+        return transactionService.saveCapturedHoldTransaction(
+            balanceHold.getAccount().getAccountNumber(), balanceHold.getAmount());
+    }
+
+    @Transactional
+    public BalanceHoldDto voidBalance(String holdId) {
+        BalanceHold balanceHold = getBalanceHold(holdId);
+        LocalDateTime now = LocalDateTime.now();
+
+        if (balanceHold.getStatus() != HELD) {
+            throw new AccountException(HOLD_ALREADY_SETTLED);
+        }
+
+        settle(balanceHold, VOIDED, now);
+        accountRepository.releaseHeldBalance(
+            balanceHold.getAccount().getId(), balanceHold.getAmount(), now);
+
+        return BalanceHoldDto.fromEntity(getBalanceHold(holdId));
+    }
+
+    @Transactional
+    public int expireBalanceHolds() {
+        LocalDateTime now = LocalDateTime.now();
+        List<BalanceHold> balanceHolds = balanceHoldRepository.findExpiredHolds(
+            HELD, now, PageRequest.of(0, sweepBatchSize));
+
+        int expired = 0;
+        for (BalanceHold balanceHold : balanceHolds) {
+            // 그 사이 캡처/취소된 건은 건너뛴다.
+            if (balanceHoldRepository.changeStatus(balanceHold.getId(), HELD, EXPIRED, now) == 1) {
+                accountRepository.releaseHeldBalance(
+                    balanceHold.getAccount().getId(), balanceHold.getAmount(), now);
+                expired++;
+            }
+        }
+
+        return expired;
+    }
+
+    private void settle(BalanceHold balanceHold, HoldStatus status, LocalDateTime now) {
+        if (balanceHoldRepository.changeStatus(balanceHold.getId(), HELD, status, now) == 0) {
+            throw new AccountException(HOLD_ALREADY_SETTLED);
+        }
+    }
+
+    private void validateAuthorizeBalance(AccountUser accountUser, Account account, Long amount) {
+        if (!Objects.equals(accountUser.getId(), account.getAccountUser().getId())) {
+            throw new AccountException(USER_ACCOUNT_UN_MATCH);
+        }
+
+        if (account.getAccountStatus() == UNREGISTERED) {
+            throw new AccountException(ACCOUNT_ALREADY_UNREGISTERED);
+        }
+
+        // 분할 계좌는 샤드를 고르면서 잔액을 확인한다.
+        if (!account.isBalanceSharded() && amount > account.getAvailableBalance()) {
+            throw new AccountException(AMOUNT_EXCEED_BALANCE);
+        }
+    }
+
+    private void validateSettleBalance(BalanceHold balanceHold, LocalDateTime now) {
+        if (balanceHold.getStatus() != HELD) {
+            throw new AccountException(HOLD_ALREADY_SETTLED);
+        }
+
+        if (balanceHold.isExpired(now)) {
+            throw new AccountException(HOLD_EXPIRED);
+        }
+    }
+
+    private AccountUser getAccountUser(Long userId) {
+        return accountUserRepository.findById(userId)
+            .orElseThrow(() -> new AccountException(USER_NOT_FOUND));
+    }
+
+    private Account getAccount(String accountNumber) {
+        return accountRepository.findByAccountNumber(accountNumber)
+            .orElseThrow(() -> new AccountException(ACCOUNT_NOT_FOUND));
+    }
+
+    private BalanceHold getBalanceHold(String holdId) {
+        return balanceHoldRepository.findByHoldId(holdId)
+            .orElseThrow(() -> new AccountException(HOLD_NOT_FOUND));
+    }
+}
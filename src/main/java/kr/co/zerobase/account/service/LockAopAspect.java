@@ -1,16 +1,27 @@
 package kr.co.zerobase.account.service;
 
 import static kr.co.zerobase.account.type.ErrorCode.CREATE_ACCOUNT_TRANSACTION_LOCK;
+import static kr.co.zerobase.account.type.ErrorCode.MODIFY_ACCOUNT_LOCK_WAITERS_EXCEEDED;
 import static kr.co.zerobase.account.type.ErrorCode.MODIFY_ACCOUNT_TRANSACTION_LOCK;
 import static kr.co.zerobase.account.type.ErrorCode.TRANSACTION_LOCK;
+import static kr.co.zerobase.account.type.ErrorCode.TRANSACTION_LOCK_WAITERS_EXCEEDED;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.stream.Collectors;
 import kr.co.zerobase.account.aop.ModifyAccountRequest;
+import kr.co.zerobase.account.aop.ModifyAccountsRequest;
 import kr.co.zerobase.account.exception.AccountException;
+import kr.co.zerobase.account.metrics.TransactionMetrics;
+import kr.co.zerobase.account.metrics.TransactionMetrics.AttemptBuffer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Component;
 
 @Aspect
@@ -20,6 +31,14 @@ import org.springframework.stereotype.Component;
 public class LockAopAspect {
 
     private final LockService lockService;
+    private final BalanceShardService balanceShardService;
+    private final TransactionMetrics transactionMetrics;
+
+    @Value("${account.lock.modify-account.max-waiters}")
+    private int maxModifyAccountLockWaiters;
+
+    @Value("${account.lock.modify-account.optimistic-retries}")
+    private int maxOptimisticLockRetries;
 
     @Around("@annotation(kr.co.zerobase.account.aop.CreateAccountLock)")
     public Object aroundMethod(
@@ -40,30 +59,90 @@ public class LockAopAspect {
         }
     }
 
-    @Around("@annotation(kr.co.zerobase.account.aop.ModifyAccountLock) && args(request)")
+    @Around("@annotation(kr.co.zerobase.account.aop.ModifyAccountLock) && args(.., request)")
     public Object aroundMethod(
         ProceedingJoinPoint pjp
         , ModifyAccountRequest request) throws Throwable {
 
-        String lockKey = getLockKey(request);
+        // 분할 계좌는 서비스에서 샤드 락을 잡는다.
+        if (balanceShardService.isBalanceSharded(request.getAccountNumber())) {
+            return proceedWithOptimisticRetry(pjp);
+        }
+
+        String lockKey = getLockKey(request.getAccountNumber());
+
+        lockModifyAccount(lockKey);
+
+        try {
+            return proceedWithOptimisticRetry(pjp);
+        } finally {
+            lockService.unlock(lockKey);
+        }
+    }
+
+    @Around("@annotation(kr.co.zerobase.account.aop.ModifyAccountsLock) && args(.., request)")
+    public Object aroundMethod(
+        ProceedingJoinPoint pjp
+        , ModifyAccountsRequest request) throws Throwable {
+
+        // 모든 요청이 같은 순서(계좌번호 오름차순)로 잡아야 맞송금끼리 교착되지 않는다.
+        // 분할 계좌에서 출금할 때는 서비스가 계좌 락을 쥔 채로 샤드 락을 더 잡는다.
+        // 샤드 락을 쥔 쪽은 계좌 락을 기다리지 않으므로 교착되지 않는다.
+        List<String> lockKeys = request.getAccountNumbers().stream()
+            .distinct()
+            .sorted()
+            .map(LockAopAspect::getLockKey)
+            .collect(Collectors.toList());
+
+        Deque<String> lockedKeys = new ArrayDeque<>();
+        try {
+            for (String lockKey : lockKeys) {
+                lockModifyAccount(lockKey);
+                lockedKeys.push(lockKey);
+            }
+
+            return proceedWithOptimisticRetry(pjp);
+        } finally {
+            while (!lockedKeys.isEmpty()) {
+                lockService.unlock(lockedKeys.pop());
+            }
+        }
+    }
 
+    // 락 없이 반영되는 입금과 버전이 충돌하면 락을 쥔 채로 새 트랜잭션에서 다시 시도한다.
+    // 거래 메트릭은 마지막 시도의 것만 남긴다.
+    private Object proceedWithOptimisticRetry(ProceedingJoinPoint pjp) throws Throwable {
+        try (AttemptBuffer attemptBuffer = transactionMetrics.bufferAttempts()) {
+            for (int attempt = 1; ; attempt++) {
+                try {
+                    return pjp.proceed();
+                } catch (ObjectOptimisticLockingFailureException e) {
+                    if (attempt > maxOptimisticLockRetries) {
+                        throw e;
+                    }
+                    attemptBuffer.discard();
+                    log.warn("Optimistic lock conflict, retrying ({}/{})", attempt,
+                        maxOptimisticLockRetries);
+                }
+            }
+        }
+    }
+
+    private void lockModifyAccount(String lockKey) throws InterruptedException {
         try {
-            lockService.lock(lockKey);
+            lockService.lock(lockKey, maxModifyAccountLockWaiters);
         } catch (AccountException e) {
             if (e.getErrorCode() == TRANSACTION_LOCK) {
                 throw new AccountException(MODIFY_ACCOUNT_TRANSACTION_LOCK);
             }
+            if (e.getErrorCode() == TRANSACTION_LOCK_WAITERS_EXCEEDED) {
+                throw new AccountException(MODIFY_ACCOUNT_LOCK_WAITERS_EXCEEDED);
+            }
             throw e;
         }
-
-        try {
-            return pjp.proceed();
-        } finally {
-            lockService.unlock(lockKey);
-        }
     }
 
-    private static String getLockKey(ModifyAccountRequest request) {
-        return "ModifyAccountLock:" + request.getAccountNumber();
+    private static String getLockKey(String accountNumber) {
+        return "ModifyAccountLock:" + accountNumber;
     }
 }
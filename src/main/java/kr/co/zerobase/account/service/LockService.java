@@ -1,13 +1,24 @@
 package kr.co.zerobase.account.service;
 
+import static kr.co.zerobase.account.metrics.LockOutcome.ACQUIRED;
+import static kr.co.zerobase.account.metrics.LockOutcome.ERROR;
+import static kr.co.zerobase.account.metrics.LockOutcome.REJECTED;
+import static kr.co.zerobase.account.metrics.LockOutcome.TIMEOUT;
 import static kr.co.zerobase.account.type.ErrorCode.TRANSACTION_LOCK;
+import static kr.co.zerobase.account.type.ErrorCode.TRANSACTION_LOCK_WAITERS_EXCEEDED;
 
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.TimeUnit;
 import kr.co.zerobase.account.exception.AccountException;
+import kr.co.zerobase.account.metrics.LockAcquireEvent;
+import kr.co.zerobase.account.metrics.LockMetrics;
+import kr.co.zerobase.account.metrics.LockReleaseEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.redisson.api.RLock;
 import org.redisson.api.RedissonClient;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
 
 @Slf4j
@@ -15,28 +26,85 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class LockService {
 
+    @Lazy
     private final RedissonClient redissonClient;
+    private final LockMetrics lockMetrics;
+    private final ConcurrentMap<String, Integer> waiters = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Long> lockedAt = new ConcurrentHashMap<>();
 
     public void lock(String key) throws InterruptedException {
+        lock(key, Integer.MAX_VALUE);
+    }
+
+    public void lock(String key, int maxWaiters) throws InterruptedException {
         RLock lock = redissonClient.getLock(key);
+        String lockType = getLockType(key);
         log.debug("Trying lock for {}", key);
 
+        LockAcquireEvent event = new LockAcquireEvent();
+        event.begin();
+
+        if (waiters.merge(key, 1, Integer::sum) > maxWaiters) {
+            leaveWaiters(key);
+            log.warn("Too many waiters for {}", key);
+            lockMetrics.recordAcquire(lockType, REJECTED, 0L);
+            event.commit(lockType, REJECTED);
+            throw new AccountException(TRANSACTION_LOCK_WAITERS_EXCEEDED);
+        }
+
+        long startedAt = System.nanoTime();
         try {
             boolean isLock = lock.tryLock(2, 15, TimeUnit.SECONDS);
             if (!isLock) {
                 log.error("=========Lock acq failed=========");
+                lockMetrics.recordAcquire(lockType, TIMEOUT, System.nanoTime() - startedAt);
+                event.commit(lockType, TIMEOUT);
                 throw new AccountException(TRANSACTION_LOCK);
             }
+
+            long acquiredAt = System.nanoTime();
+            lockMetrics.recordAcquire(lockType, ACQUIRED, acquiredAt - startedAt);
+            event.commit(lockType, ACQUIRED);
+            lockedAt.put(key, acquiredAt);
         } catch (AccountException e) {
             throw e;
         } catch (Exception e) {
             log.error("Redis lock failed", e);
+            lockMetrics.recordAcquire(lockType, ERROR, System.nanoTime() - startedAt);
+            event.commit(lockType, ERROR);
             throw e;
+        } finally {
+            leaveWaiters(key);
         }
     }
 
     public void unlock(String key) {
         log.debug("Unlock for {}", key);
+
+        LockReleaseEvent event = new LockReleaseEvent();
+        event.begin();
+
+        // 락을 풀기 전에 꺼내야 다음 점유자의 기록을 지우지 않는다.
+        Long acquiredAt = lockedAt.remove(key);
         redissonClient.getLock(key).unlock();
+
+        long holdNanos = acquiredAt == null ? 0L : System.nanoTime() - acquiredAt;
+        if (acquiredAt != null) {
+            lockMetrics.recordHold(getLockType(key), holdNanos);
+        }
+        event.commit(getLockType(key), holdNanos);
+    }
+
+    public int getWaiters(String key) {
+        return waiters.getOrDefault(key, 0);
+    }
+
+    private void leaveWaiters(String key) {
+        waiters.computeIfPresent(key, (k, count) -> count > 1 ? count - 1 : null);
+    }
+
+    private static String getLockType(String key) {
+        int index = key.indexOf(':');
+        return index < 0 ? key : key.substring(0, index);
     }
 }
@@ -0,0 +1,94 @@
+package kr.co.zerobase.account.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import javax.transaction.Transactional;
+import javax.transaction.Transactional.TxType;
+import kr.co.zerobase.account.domain.OutboxEvent;
+import kr.co.zerobase.account.repository.OutboxEventRepository;
+import kr.co.zerobase.account.type.OutboxEventType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.BatchOptions;
+import org.redisson.api.RBatch;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.stream.StreamAddArgs;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+// 변경과 같은 DB 트랜잭션에 이벤트를 쌓고, 릴레이가 Redis Stream 으로 옮긴다.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OutboxService {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+    @Lazy
+    private final RedissonClient redissonClient;
+
+    @Value("${account.outbox.stream-key}")
+    private String streamKey;
+
+    @Value("${account.outbox.batch-size}")
+    private int batchSize;
+
+    @Transactional(TxType.MANDATORY)
+    public void append(OutboxEventType eventType, String aggregateId, Object payload) {
+        outboxEventRepository.save(OutboxEvent.builder()
+            .eventType(eventType)
+            .aggregateId(aggregateId)
+            .payload(toJson(payload))
+            .build());
+    }
+
+    // 스트림에 추가한 뒤 발행 표시 전에 실패하면 다음 릴레이가 다시 보낸다(at-least-once).
+    // 소비자는 eventId 로 중복을 걸러야 한다.
+    @Transactional
+    public int publishPendingEvents() {
+        List<OutboxEvent> events = outboxEventRepository.findUnpublished(
+            PageRequest.of(0, batchSize));
+        if (events.isEmpty()) {
+            return 0;
+        }
+
+        RBatch batch = redissonClient.createBatch(BatchOptions.defaults());
+        for (OutboxEvent event : events) {
+            batch.<String, String>getStream(streamKey, StringCodec.INSTANCE)
+                .addAsync(StreamAddArgs.entries(toStreamEntry(event)));
+        }
+        batch.execute();
+
+        outboxEventRepository.markPublished(
+            events.stream().map(OutboxEvent::getId).collect(Collectors.toList()),
+            LocalDateTime.now());
+
+        return events.size();
+    }
+
+    private static Map<String, String> toStreamEntry(OutboxEvent event) {
+        Map<String, String> entry = new LinkedHashMap<>();
+        entry.put("eventId", String.valueOf(event.getId()));
+        entry.put("eventType", event.getEventType().name());
+        entry.put("aggregateId", event.getAggregateId());
+        entry.put("occurredAt", String.valueOf(event.getCreatedAt()));
+        entry.put("payload", event.getPayload());
+        return entry;
+    }
+
+    private String toJson(Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize outbox payload", e);
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package kr.co.zerobase.account.service;
+
+import static kr.co.zerobase.account.type.TransactionResultType.S;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.TimeUnit;
+import kr.co.zerobase.account.dto.LedgerMismatch;
+import kr.co.zerobase.account.dto.ReconciliationResult;
+import kr.co.zerobase.account.repository.AccountLedgerBalance;
+import kr.co.zerobase.account.repository.AccountRepository;
+import kr.co.zerobase.account.repository.ArchivedTransactionRepository;
+import kr.co.zerobase.account.repository.IdRange;
+import kr.co.zerobase.account.repository.LedgerSum;
+import kr.co.zerobase.account.repository.TransactionRepository;
+import kr.co.zerobase.account.segment.LedgerSegmentStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// 계좌 id 범위를 나눠 범위마다 집계 쿼리로 잔액과 원장 합계를 비교한다.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReconciliationService {
+
+    private static final String DURATION_METRIC_NAME = "account.reconciliation.duration";
+    private static final String ACCOUNTS_METRIC_NAME = "account.reconciliation.accounts";
+    private static final String MISMATCHES_METRIC_NAME = "account.reconciliation.mismatches";
+
+    private final AccountRepository accountRepository;
+    private final TransactionRepository transactionRepository;
+    private final ArchivedTransactionRepository archivedTransactionRepository;
+    private final LedgerSegmentStore ledgerSegmentStore;
+    private final PlatformTransactionManager transactionManager;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${account.reconciliation.parallelism}")
+    private int parallelism;
+
+    @Value("${account.reconciliation.range-size}")
+    private int rangeSize;
+
+    @Value("${account.reconciliation.pause-millis}")
+    private long pauseMillis;
+
+    public ReconciliationResult reconcile() {
+        long startedAt = System.nanoTime();
+
+        IdRange idRange = accountRepository.findIdRange();
+        if (idRange == null || idRange.getMinId() == null) {
+            return ReconciliationResult.empty();
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(parallelism,
+            ReconciliationService::newLowPriorityThread, null, false);
+        ReconciliationResult result;
+        try {
+            result = pool.invoke(new ReconcileTask(idRange.getMinId(), idRange.getMaxId()));
+        } finally {
+            pool.shutdown();
+        }
+
+        long elapsedNanos = System.nanoTime() - startedAt;
+        result.getMismatches().forEach(mismatch -> log.warn("Ledger mismatch: {}", mismatch));
+
+        // 일부 범위만 확인한 결과를 정상 완료로 집계하지 않는다.
+        if (result.isAborted()) {
+            log.warn("Reconciliation aborted after {} accounts, {} mismatches ({} ms)",
+                result.getCheckedAccounts(), result.getMismatches().size(),
+                TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+            return result;
+        }
+
+        Timer.builder(DURATION_METRIC_NAME)
+            .register(meterRegistry)
+            .record(elapsedNanos, TimeUnit.NANOSECONDS);
+        Counter.builder(ACCOUNTS_METRIC_NAME)
+            .register(meterRegistry)
+            .increment(result.getCheckedAccounts());
+        Counter.builder(MISMATCHES_METRIC_NAME)
+            .register(meterRegistry)
+            .increment(result.getMismatches().size());
+
+        log.info("Reconciled {} accounts, {} mismatches ({} ms)", result.getCheckedAccounts(),
+            result.getMismatches().size(), TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+
+        return result;
+    }
+
+    private ReconciliationResult reconcileRange(long fromId, long toId) {
+        // 운영 DB 부하를 줄이기 위해 범위마다 쉬어 간다.
+        try {
+            Thread.sleep(pauseMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return ReconciliationResult.aborted();
+        }
+
+        // 두 집계가 같은 스냅샷을 보도록 한 트랜잭션에서 읽는다.
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+        transactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+
+        return transactionTemplate.execute(status -> {
+            List<AccountLedgerBalance> balances = accountRepository.findLedgerBalances(
+                fromId, toId);
+            // 보관 테이블과 세그먼트 파일로 옮겨진 거래도 원장의 일부이다.
+            // 봉인은 보관 테이블 삭제와 세그먼트 등록을 한 번에 커밋하므로, 세그먼트도 이 트랜잭션에서
+            // 보이는 등록분만 더해야 그 사이 봉인된 거래를 두 번 세지 않는다.
+            List<LedgerSum> ledgerSums = new ArrayList<>(
+                transactionRepository.sumAmountsByAccountIdRange(fromId, toId, S));
+            ledgerSums.addAll(
+                ledgerSegmentStore.sumAmountsByAccountIdRange(fromId, toId, S));
+            ledgerSums.addAll(
+                archivedTransactionRepository.sumAmountsByAccountIdRange(fromId, toId, S));
+
+            Map<Long, Long> ledgerDeltas = new HashMap<>();
+            for (LedgerSum ledgerSum : ledgerSums) {
+                ledgerDeltas.merge(ledgerSum.getAccountId(),
+                    ledgerSum.getTransactionType().getLedgerSign() * ledgerSum.getAmount(),
+                    Long::sum);
+            }
+
+            List<LedgerMismatch> mismatches = new ArrayList<>();
+            for (AccountLedgerBalance balance : balances) {
+                long ledgerBalance = (balance.getInitialBalance() == null
+                    ? 0L : balance.getInitialBalance())
+                    + ledgerDeltas.getOrDefault(balance.getId(), 0L);
+                if (ledgerBalance != balance.getBalance()) {
+                    mismatches.add(LedgerMismatch.builder()
+                        .accountNumber(balance.getAccountNumber())
+                        .balance(balance.getBalance())
+                        .ledgerBalance(ledgerBalance)
+                        .build());
+                }
+            }
+
+            return ReconciliationResult.of(balances.size(), mismatches);
+        });
+    }
+
+    private static ForkJoinWorkerThread newLowPriorityThread(ForkJoinPool pool) {
+        ForkJoinWorkerThread thread =
+            ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+        thread.setName("reconciliation-" + thread.getPoolIndex());
+        thread.setPriority(Thread.MIN_PRIORITY);
+        return thread;
+    }
+
+    private class ReconcileTask extends RecursiveTask<ReconciliationResult> {
+
+        private final long fromId;
+        private final long toId;
+
+        private ReconcileTask(long fromId, long toId) {
+            this.fromId = fromId;
+            this.toId = toId;
+        }
+
+        @Override
+        protected ReconciliationResult compute() {
+            if (toId - fromId < rangeSize) {
+                return reconcileRange(fromId, toId);
+            }
+
+            long middle = fromId + (toId - fromId) / 2;
+            ReconcileTask left = new ReconcileTask(fromId, middle);
+            left.fork();
+            ReconciliationResult right = new ReconcileTask(middle + 1, toId).compute();
+            return left.join().merge(right);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package kr.co.zerobase.account.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import kr.co.zerobase.account.metrics.MetricsSuppression;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+public class RequestCoalescer {
+
+    private static final String METRIC_NAME = "account.coalescing.calls";
+
+    private final ConcurrentMap<String, CompletableFuture<Object>> inFlight =
+        new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+    private final long timeoutMillis;
+
+    public RequestCoalescer(MeterRegistry meterRegistry,
+        @Value("${account.coalescing.timeout-millis}") long timeoutMillis) {
+        this.meterRegistry = meterRegistry;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    public Object execute(String name, String key, CoalescedCall call) throws Throwable {
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        CompletableFuture<Object> leader = inFlight.putIfAbsent(key, future);
+
+        if (leader != null) {
+            return awaitLeader(name, key, leader, call);
+        }
+
+        count(name, "leader");
+
+        Object result;
+        try {
+            result = call.call();
+        } catch (Throwable e) {
+            inFlight.remove(key, future);
+            future.completeExceptionally(e);
+            throw e;
+        }
+
+        // 완료 전에 먼저 제거해야 이후 요청이 끝난 결과를 재사용하지 않는다.
+        inFlight.remove(key, future);
+        future.complete(result);
+        return result;
+    }
+
+    private Object awaitLeader(String name, String key, CompletableFuture<Object> leader,
+        CoalescedCall call) throws Throwable {
+        try {
+            Object result = leader.get(timeoutMillis, TimeUnit.MILLISECONDS);
+            count(name, "follower");
+            return result;
+        } catch (ExecutionException e) {
+            count(name, "error");
+            throw e.getCause();
+        } catch (TimeoutException e) {
+            count(name, "timeout");
+            log.warn("Coalesced request timed out for {}, calling directly", key);
+            return call.call();
+        }
+    }
+
+    private void count(String name, String role) {
+        if (MetricsSuppression.isSuppressed()) {
+            return;
+        }
+
+        meterRegistry.counter(METRIC_NAME, "name", name, "role", role).increment();
+    }
+
+    @FunctionalInterface
+    public interface CoalescedCall {
+
+        Object call() throws Throwable;
+    }
+}
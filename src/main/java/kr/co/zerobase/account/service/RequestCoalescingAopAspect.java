@@ -0,0 +1,31 @@
+package kr.co.zerobase.account.service;
+
+import java.util.Arrays;
+import kr.co.zerobase.account.aop.CoalesceRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+@Aspect
+@Component
+@Slf4j
+@Order(1)
+@RequiredArgsConstructor
+public class RequestCoalescingAopAspect {
+
+    private final RequestCoalescer requestCoalescer;
+
+    // 트랜잭션보다 바깥에서 합쳐야 대기하는 요청이 DB 커넥션을 잡지 않는다.
+    @Around("@annotation(coalesceRequest)")
+    public Object aroundMethod(
+        ProceedingJoinPoint pjp
+        , CoalesceRequest coalesceRequest) throws Throwable {
+        String key = coalesceRequest.value() + ":" + Arrays.toString(pjp.getArgs());
+
+        return requestCoalescer.execute(coalesceRequest.value(), key, pjp::proceed);
+    }
+}
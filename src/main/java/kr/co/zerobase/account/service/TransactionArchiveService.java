@@ -0,0 +1,51 @@
+package kr.co.zerobase.account.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.LocalDateTime;
+import java.util.List;
+import javax.transaction.Transactional;
+import kr.co.zerobase.account.repository.ArchivedTransactionRepository;
+import kr.co.zerobase.account.repository.TransactionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+// 오래된 거래를 transaction 테이블에서 transaction_archive 테이블로 옮겨
+// 자주 쓰는 테이블과 그 인덱스를 작게 유지한다.
+@Service
+@RequiredArgsConstructor
+public class TransactionArchiveService {
+
+    private static final String ARCHIVED_METRIC_NAME = "account.transaction.archived";
+
+    private final TransactionRepository transactionRepository;
+    private final ArchivedTransactionRepository archivedTransactionRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${account.archive.min-age-days}")
+    private int minAgeDays;
+
+    @Value("${account.archive.batch-size}")
+    private int batchSize;
+
+    // 복사와 삭제를 한 트랜잭션으로 묶어 거래가 두 테이블 어디에도 없거나 양쪽에 있는 순간이 없다.
+    @Transactional
+    public int archiveBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> ids = transactionRepository.findArchivableIds(now.minusDays(minAgeDays),
+            PageRequest.of(0, batchSize));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        archivedTransactionRepository.copyFromTransactions(ids, now);
+        int archived = transactionRepository.deleteByIdIn(ids);
+
+        Counter.builder(ARCHIVED_METRIC_NAME)
+            .register(meterRegistry)
+            .increment(archived);
+        return archived;
+    }
+}
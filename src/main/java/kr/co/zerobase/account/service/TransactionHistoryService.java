@@ -0,0 +1,349 @@
+package kr.co.zerobase.account.service;
+
+import static kr.co.zerobase.account.type.ErrorCode.ACCOUNT_NOT_FOUND;
+import static kr.co.zerobase.account.type.ErrorCode.INVALID_REQUEST;
+import static kr.co.zerobase.account.type.TransactionResultType.F;
+import static kr.co.zerobase.account.type.TransactionResultType.S;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import javax.transaction.Transactional;
+import kr.co.zerobase.account.domain.AccountDailySummary;
+import kr.co.zerobase.account.dto.BalanceAtDto;
+import kr.co.zerobase.account.dto.TransactionCursor;
+import kr.co.zerobase.account.dto.TransactionDto;
+import kr.co.zerobase.account.dto.TransactionPageDto;
+import kr.co.zerobase.account.dto.TransactionSummaryDto;
+import kr.co.zerobase.account.dto.TransactionSummaryDto.TransactionTotal;
+import kr.co.zerobase.account.exception.AccountException;
+import kr.co.zerobase.account.repository.AccountDailySummaryRepository;
+import kr.co.zerobase.account.repository.AccountOpening;
+import kr.co.zerobase.account.repository.AccountRepository;
+import kr.co.zerobase.account.repository.ArchivedTransactionRepository;
+import kr.co.zerobase.account.repository.TransactionAggregate;
+import kr.co.zerobase.account.repository.TransactionHistory;
+import kr.co.zerobase.account.repository.TransactionRepository;
+import kr.co.zerobase.account.segment.LedgerSegmentStore;
+import kr.co.zerobase.account.segment.SegmentRecord;
+import kr.co.zerobase.account.type.BalanceSource;
+import kr.co.zerobase.account.type.ErrorCode;
+import kr.co.zerobase.account.type.ExportFormat;
+import kr.co.zerobase.account.type.TransactionResultType;
+import kr.co.zerobase.account.type.TransactionType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Service
+@RequiredArgsConstructor
+public class TransactionHistoryService {
+
+    static final int MAX_PAGE_SIZE = 100;
+    private static final Comparator<TransactionHistory> HISTORY_ORDER = Comparator
+        .comparing(TransactionHistory::getTransactedAt)
+        .thenComparing(TransactionHistory::getId);
+    private static final String CSV_HEADER =
+        "transactionId,transactionType,transactionResult,amount,balanceSnapshot,transactedAt";
+
+    private final AccountRepository accountRepository;
+    private final TransactionRepository transactionRepository;
+    private final ArchivedTransactionRepository archivedTransactionRepository;
+    private final AccountDailySummaryRepository accountDailySummaryRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final ObjectMapper objectMapper;
+    private final LedgerSegmentStore ledgerSegmentStore;
+
+    @Value("${account.archive.min-age-days}")
+    private int archiveMinAgeDays;
+
+    @Value("${account.segment.min-age-days}")
+    private int segmentMinAgeDays;
+
+    @Transactional
+    public TransactionPageDto getTransactions(String accountNumber,
+        TransactionType transactionType,
+        TransactionResultType transactionResultType,
+        String cursor,
+        int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new AccountException(INVALID_REQUEST);
+        }
+
+        AccountOpening opening = getAccountOpening(accountNumber);
+        TransactionCursor transactionCursor = cursor == null ? null
+            : TransactionCursor.decode(cursor);
+
+        // 다음 페이지가 있는지 알기 위해 한 건 더 읽는다.
+        Pageable pageable = PageRequest.of(0, size + 1);
+        List<TransactionHistory> histories = new ArrayList<>();
+        if (transactionCursor == null) {
+            histories.addAll(transactionRepository.findHistoryByAccountId(opening.getId(),
+                transactionType, transactionResultType, pageable));
+        } else {
+            histories.addAll(transactionRepository.findHistoryByAccountIdBefore(
+                opening.getId(), transactionCursor.getTransactedAt(), transactionCursor.getId(),
+                transactionType, transactionResultType, pageable));
+        }
+
+        // 보관/봉인된 거래는 모두 원장에 남은 거래보다 오래되었으므로,
+        // 원장으로 페이지를 못 채울 때만 같은 커서로 이어서 읽고 합쳐 정렬한다.
+        if (histories.size() <= size
+            && mayBeArchived(opening.getRegisteredAt(), null, archiveMinAgeDays)) {
+            if (transactionCursor == null) {
+                histories.addAll(archivedTransactionRepository.findHistoryByAccountId(
+                    opening.getId(), transactionType, transactionResultType, pageable));
+            } else {
+                histories.addAll(archivedTransactionRepository.findHistoryByAccountIdBefore(
+                    opening.getId(), transactionCursor.getTransactedAt(),
+                    transactionCursor.getId(), transactionType, transactionResultType,
+                    pageable));
+            }
+        }
+        if (histories.size() <= size
+            && mayBeArchived(opening.getRegisteredAt(), null, segmentMinAgeDays)) {
+            ledgerSegmentStore.findByAccountId(opening.getId()).stream()
+                .filter(record -> transactionType == null
+                    || record.getTransactionType() == transactionType)
+                .filter(record -> transactionResultType == null
+                    || record.getTransactionResultType() == transactionResultType)
+                .map(SegmentRecord::toTransactionHistory)
+                .filter(history -> transactionCursor == null
+                    || isBefore(history, transactionCursor))
+                .forEach(histories::add);
+        }
+        histories.sort(HISTORY_ORDER.reversed());
+        if (histories.size() > size + 1) {
+            histories = histories.subList(0, size + 1);
+        }
+
+        boolean hasNext = histories.size() > size;
+        List<TransactionHistory> page = hasNext ? histories.subList(0, size) : histories;
+
+        return TransactionPageDto.builder()
+            .transactions(page.stream()
+                .map(history -> TransactionDto.fromHistory(accountNumber, history))
+                .collect(Collectors.toList()))
+            .nextCursor(hasNext ? TransactionCursor.from(page.get(size - 1)).encode() : null)
+            .build();
+    }
+
+    @Transactional
+    public TransactionSummaryDto getTransactionSummary(String accountNumber,
+        LocalDateTime from, LocalDateTime to) {
+        if (from != null && to != null && !from.isBefore(to)) {
+            throw new AccountException(INVALID_REQUEST);
+        }
+
+        AccountOpening opening = getAccountOpening(accountNumber);
+
+        List<TransactionAggregate> aggregates = new ArrayList<>(
+            transactionRepository.aggregateByAccountId(opening.getId(), from, to));
+        if (mayBeArchived(opening.getRegisteredAt(), from, archiveMinAgeDays)) {
+            aggregates.addAll(
+                archivedTransactionRepository.aggregateByAccountId(opening.getId(), from, to));
+        }
+
+        Map<TransactionType, TransactionTotal> totals = new EnumMap<>(TransactionType.class);
+        Map<ErrorCode, Long> failureCounts = new EnumMap<>(ErrorCode.class);
+        for (TransactionAggregate aggregate : aggregates) {
+            accumulate(totals, failureCounts, aggregate.getTransactionType(),
+                aggregate.getTransactionResultType(), aggregate.getErrorCode(),
+                aggregate.getCount(), aggregate.getAmount());
+        }
+        if (mayBeArchived(opening.getRegisteredAt(), from, segmentMinAgeDays)) {
+            for (SegmentRecord record : findSealedRecords(opening.getId(), from, to)) {
+                accumulate(totals, failureCounts, record.getTransactionType(),
+                    record.getTransactionResultType(), record.getErrorCode(), 1L,
+                    record.getAmount());
+            }
+        }
+
+        return TransactionSummaryDto.builder()
+            .accountNumber(accountNumber)
+            .from(from)
+            .to(to)
+            .totals(totals)
+            .failureCounts(failureCounts)
+            .build();
+    }
+
+    // 원장을 다시 계산하지 않고 시점 이전 마지막 성공 거래의 잔액 스냅샷을 쓴다.
+    // 원장에 남은 거래가 없으면 보관된 거래, 그것도 없으면 일별 집계, 개설 시 잔액 순으로 쓴다.
+    // 잔액 분할 계좌는 스냅샷이 근사값이므로 결과도 근사값이다.
+    @Transactional
+    public BalanceAtDto getBalanceAt(String accountNumber, LocalDateTime at) {
+        AccountOpening opening = accountRepository.findOpeningByAccountNumber(accountNumber)
+            .orElseThrow(() -> new AccountException(ACCOUNT_NOT_FOUND));
+        if (opening.getRegisteredAt() != null && at.isBefore(opening.getRegisteredAt())) {
+            throw new AccountException(INVALID_REQUEST);
+        }
+
+        List<Long> balanceSnapshots = transactionRepository.findLatestBalanceSnapshots(
+            opening.getId(), at, S, PageRequest.of(0, 1));
+        if (balanceSnapshots.isEmpty()) {
+            // 보관된 거래는 모두 원장에 남은 거래보다 오래되었으므로 원장에 없을 때만 찾는다.
+            balanceSnapshots = archivedTransactionRepository.findLatestBalanceSnapshots(
+                opening.getId(), at, S, PageRequest.of(0, 1));
+        }
+        if (!balanceSnapshots.isEmpty()) {
+            return balanceAt(accountNumber, at, balanceSnapshots.get(0),
+                BalanceSource.TRANSACTION);
+        }
+
+        List<AccountDailySummary> summaries =
+            accountDailySummaryRepository.findLatestByAccountId(opening.getId(),
+                at.toLocalDate(), PageRequest.of(0, 1));
+        if (!summaries.isEmpty()) {
+            AccountDailySummary summary = summaries.get(0);
+            // 그날 집계이면 시점 이전 거래가 원장에 없으므로 그날 시작 잔액이다.
+            return balanceAt(accountNumber, at,
+                summary.getSummaryDate().isBefore(at.toLocalDate())
+                    ? summary.getClosingBalance() : summary.getOpeningBalance(),
+                BalanceSource.DAILY_SUMMARY);
+        }
+
+        return balanceAt(accountNumber, at,
+            opening.getInitialBalance() == null ? 0L : opening.getInitialBalance(),
+            BalanceSource.INITIAL_BALANCE);
+    }
+
+    private AccountOpening getAccountOpening(String accountNumber) {
+        return accountRepository.findOpeningByAccountNumber(accountNumber)
+            .orElseThrow(() -> new AccountException(ACCOUNT_NOT_FOUND));
+    }
+
+    public Long getAccountId(String accountNumber) {
+        return accountRepository.findIdByAccountNumber(accountNumber)
+            .orElseThrow(() -> new AccountException(ACCOUNT_NOT_FOUND));
+    }
+
+    // 응답 스트림은 요청 스레드가 아닌 곳에서 쓰이므로 여기서 트랜잭션을 연다.
+    // 엔티티가 아닌 projection 을 읽어 영속성 컨텍스트에 쌓이는 것이 없다.
+    public void exportTransactions(Long accountId, String accountNumber, LocalDateTime from,
+        LocalDateTime to, ExportFormat format, OutputStream outputStream) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Writer writer = new BufferedWriter(
+                new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+            try {
+                if (format == ExportFormat.CSV) {
+                    writer.write(CSV_HEADER);
+                    writer.write('\n');
+                }
+
+                // 오래된 순서로 내보내므로 봉인된 거래, 보관된 거래, 원장 순으로 쓴다.
+                if (mayBeArchived(null, from, segmentMinAgeDays)) {
+                    writeLines(writer, accountNumber, findSealedRecords(accountId, from, to)
+                        .stream()
+                        .map(SegmentRecord::toTransactionHistory)
+                        .sorted(HISTORY_ORDER)
+                        .iterator(), format);
+                }
+                if (mayBeArchived(null, from, archiveMinAgeDays)) {
+                    try (Stream<TransactionHistory> histories =
+                        archivedTransactionRepository.streamHistoryByAccountId(accountId, from,
+                            to)) {
+                        writeLines(writer, accountNumber, histories.iterator(), format);
+                    }
+                }
+                try (Stream<TransactionHistory> histories =
+                    transactionRepository.streamHistoryByAccountId(accountId, from, to)) {
+                    writeLines(writer, accountNumber, histories.iterator(), format);
+                }
+                writer.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    // 보관/봉인된 거래는 그 기간보다 오래되었으므로, 개설일이나 조회 시작이 그 이후면 읽지 않는다.
+    private static boolean mayBeArchived(LocalDateTime registeredAt, LocalDateTime from,
+        int minAgeDays) {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(minAgeDays);
+        return (registeredAt == null || registeredAt.isBefore(cutoff))
+            && (from == null || from.isBefore(cutoff));
+    }
+
+    private List<SegmentRecord> findSealedRecords(Long accountId, LocalDateTime from,
+        LocalDateTime to) {
+        return ledgerSegmentStore.findByAccountId(accountId).stream()
+            .filter(record -> from == null || !record.getTransactedAt().isBefore(from))
+            .filter(record -> to == null || record.getTransactedAt().isBefore(to))
+            .collect(Collectors.toList());
+    }
+
+    private static boolean isBefore(TransactionHistory history, TransactionCursor cursor) {
+        return history.getTransactedAt().isBefore(cursor.getTransactedAt())
+            || (history.getTransactedAt().isEqual(cursor.getTransactedAt())
+            && history.getId() < cursor.getId());
+    }
+
+    private static void accumulate(Map<TransactionType, TransactionTotal> totals,
+        Map<ErrorCode, Long> failureCounts, TransactionType transactionType,
+        TransactionResultType transactionResultType, ErrorCode errorCode, long count,
+        long amount) {
+        if (transactionResultType == S) {
+            totals.merge(transactionType, TransactionTotal.of(count, amount),
+                TransactionTotal::plus);
+        } else if (transactionResultType == F && errorCode != null) {
+            // 실패 건수는 거래 종류와 관계없이 오류 코드별로 합친다.
+            failureCounts.merge(errorCode, count, Long::sum);
+        }
+    }
+
+    private void writeLines(Writer writer, String accountNumber,
+        Iterator<TransactionHistory> histories, ExportFormat format) throws IOException {
+        while (histories.hasNext()) {
+            writer.write(formatLine(accountNumber, histories.next(), format));
+            writer.write('\n');
+        }
+    }
+
+    private static BalanceAtDto balanceAt(String accountNumber, LocalDateTime at, Long balance,
+        BalanceSource source) {
+        return BalanceAtDto.builder()
+            .accountNumber(accountNumber)
+            .at(at)
+            .balance(balance)
+            .source(source)
+            .build();
+    }
+
+    private String formatLine(String accountNumber, TransactionHistory history,
+        ExportFormat format) throws IOException {
+        if (format == ExportFormat.NDJSON) {
+            return objectMapper.writeValueAsString(
+                TransactionDto.fromHistory(accountNumber, history));
+        }
+
+        return String.join(",",
+            history.getTransactionId(),
+            history.getTransactionType().name(),
+            history.getTransactionResultType().name(),
+            String.valueOf(history.getAmount()),
+            String.valueOf(history.getBalanceSnapshot()),
+            String.valueOf(history.getTransactedAt()));
+    }
+}
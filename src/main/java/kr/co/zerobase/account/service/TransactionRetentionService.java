@@ -0,0 +1,79 @@
+package kr.co.zerobase.account.service;
+
+import static kr.co.zerobase.account.type.TransactionResultType.F;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import javax.annotation.PostConstruct;
+import javax.transaction.Transactional;
+import kr.co.zerobase.account.repository.TransactionRepository;
+import kr.co.zerobase.account.type.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+// 보관 기간이 지난 실패(F) 거래를 오류 코드별로 조금씩 지운다.
+// 실패 건수는 일별 요약에 남아 있으므로 원본 행이 없어도 집계는 유지된다.
+@Service
+@RequiredArgsConstructor
+public class TransactionRetentionService {
+
+    private static final String PURGED_METRIC_NAME = "account.transaction.purged";
+
+    private final TransactionRepository transactionRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${account.retention.default-max-age-days}")
+    private int defaultMaxAgeDays;
+
+    @Value("#{${account.retention.max-age-days}}")
+    private Map<String, Integer> maxAgeDays;
+
+    @Value("${account.retention.batch-size}")
+    private int batchSize;
+
+    @Value("${account.archive.min-age-days}")
+    private int archiveMinAgeDays;
+
+    // 보관 테이블과 세그먼트로 옮겨진 거래는 지우지 않으므로, 옮기기 전에 지울 수 있어야 한다.
+    @PostConstruct
+    public void validateMaxAgeDays() {
+        Map<String, Integer> allMaxAgeDays = new HashMap<>(maxAgeDays);
+        allMaxAgeDays.put("default", defaultMaxAgeDays);
+        allMaxAgeDays.forEach((errorCode, days) -> {
+            if (days >= archiveMinAgeDays) {
+                throw new IllegalStateException("account.retention max-age-days for " + errorCode
+                    + " (" + days + ") must be shorter than account.archive.min-age-days ("
+                    + archiveMinAgeDays + ")");
+            }
+        });
+    }
+
+    // 한 번에 batch-size 건만 지워 행 잠금을 짧게 유지한다.
+    @Transactional
+    public int purgeBatch(ErrorCode errorCode) {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(getMaxAgeDays(errorCode));
+        List<Long> ids = transactionRepository.findPurgeableIds(F, errorCode, cutoff,
+            PageRequest.of(0, batchSize));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        int purged = transactionRepository.deleteByIdIn(ids);
+
+        Counter.builder(PURGED_METRIC_NAME)
+            .tag("errorCode", errorCode.name())
+            .register(meterRegistry)
+            .increment(purged);
+        return purged;
+    }
+
+    int getMaxAgeDays(ErrorCode errorCode) {
+        return maxAgeDays.getOrDefault(errorCode.name(), defaultMaxAgeDays);
+    }
+}
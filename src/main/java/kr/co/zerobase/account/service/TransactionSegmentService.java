@@ -0,0 +1,76 @@
+package kr.co.zerobase.account.service;
+
+import static kr.co.zerobase.account.type.ErrorCode.CONCURRENT_MODIFICATION;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+import kr.co.zerobase.account.exception.AccountException;
+import kr.co.zerobase.account.repository.ArchivedTransactionRepository;
+import kr.co.zerobase.account.segment.LedgerSegment;
+import kr.co.zerobase.account.segment.LedgerSegmentStore;
+import kr.co.zerobase.account.segment.SegmentRecord;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// 보관 테이블에서도 오래된 거래를 세그먼트 파일로 옮겨 관계형 저장소에서 뺀다.
+@Service
+@RequiredArgsConstructor
+public class TransactionSegmentService {
+
+    private static final String SEALED_METRIC_NAME = "account.transaction.sealed";
+
+    private final ArchivedTransactionRepository archivedTransactionRepository;
+    private final LedgerSegmentStore ledgerSegmentStore;
+    private final PlatformTransactionManager transactionManager;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${account.segment.min-age-days}")
+    private int minAgeDays;
+
+    @Value("${account.segment.rows-per-segment}")
+    private int rowsPerSegment;
+
+    // 파일을 먼저 완성하고, 보관 테이블에서 지우면서 같은 트랜잭션에 파일을 등록한다.
+    // 커밋 전에 멈추면 등록되지 않은 파일은 읽히지 않으므로 같은 거래가 두 곳에 남지 않는다.
+    public int sealSegment() throws IOException {
+        List<SegmentRecord> records = archivedTransactionRepository.findSealableRows(
+                LocalDateTime.now().minusDays(minAgeDays), PageRequest.of(0, rowsPerSegment))
+            .stream()
+            .map(SegmentRecord::from)
+            .collect(Collectors.toList());
+        if (records.isEmpty()) {
+            return 0;
+        }
+
+        LedgerSegment segment = ledgerSegmentStore.write(records);
+        List<Long> ids = records.stream()
+            .map(SegmentRecord::getId)
+            .collect(Collectors.toList());
+        try {
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                // 그 사이 다른 작업이 지운 거래가 파일로 되살아나지 않게 한다.
+                if (archivedTransactionRepository.deleteByIdIn(ids) != ids.size()) {
+                    throw new AccountException(CONCURRENT_MODIFICATION);
+                }
+                ledgerSegmentStore.record(segment);
+            });
+        } catch (RuntimeException e) {
+            ledgerSegmentStore.discard(segment);
+            throw e;
+        }
+        ledgerSegmentStore.publish(segment);
+
+        Counter.builder(SEALED_METRIC_NAME)
+            .register(meterRegistry)
+            .increment(records.size());
+        return records.size();
+    }
+}
@@ -1,5 +1,10 @@
 package kr.co.zerobase.account.service;
 
+import static kr.co.zerobase.account.metrics.TransactionPhase.INSERT;
+import static kr.co.zerobase.account.metrics.TransactionPhase.LOOKUP;
+import static kr.co.zerobase.account.metrics.TransactionPhase.MUTATION;
+import static kr.co.zerobase.account.metrics.TransactionPhase.VALIDATION;
+import static kr.co.zerobase.account.type.AccountStatus.IN_USE;
 import static kr.co.zerobase.account.type.AccountStatus.UNREGISTERED;
 import static kr.co.zerobase.account.type.ErrorCode.ACCOUNT_ALREADY_UNREGISTERED;
 import static kr.co.zerobase.account.type.ErrorCode.ACCOUNT_NOT_FOUND;
@@ -9,29 +14,45 @@ import static kr.co.zerobase.account.type.ErrorCode.CANCEL_BALANCE_MUST_USE_TRAN
 import static kr.co.zerobase.account.type.ErrorCode.CANCEL_MUST_FULLY;
 import static kr.co.zerobase.account.type.ErrorCode.TRANSACTION_ACCOUNT_UN_MATCH;
 import static kr.co.zerobase.account.type.ErrorCode.TRANSACTION_ALREADY_CANCELED;
+import static kr.co.zerobase.account.type.ErrorCode.TRANSACTION_ARCHIVED;
 import static kr.co.zerobase.account.type.ErrorCode.TRANSACTION_NOT_FOUND;
+import static kr.co.zerobase.account.type.ErrorCode.TRANSFER_SAME_ACCOUNT;
 import static kr.co.zerobase.account.type.ErrorCode.USER_ACCOUNT_UN_MATCH;
 import static kr.co.zerobase.account.type.ErrorCode.USER_NOT_FOUND;
+import static kr.co.zerobase.account.type.OutboxEventType.TRANSACTION_CREATED;
 import static kr.co.zerobase.account.type.TransactionResultType.F;
 import static kr.co.zerobase.account.type.TransactionResultType.S;
 import static kr.co.zerobase.account.type.TransactionType.CANCEL;
+import static kr.co.zerobase.account.type.TransactionType.DEPOSIT;
+import static kr.co.zerobase.account.type.TransactionType.TRANSFER_DEPOSIT;
+import static kr.co.zerobase.account.type.TransactionType.TRANSFER_WITHDRAW;
 import static kr.co.zerobase.account.type.TransactionType.USE;
 
 import java.time.LocalDateTime;
 import java.util.Objects;
 import java.util.UUID;
 import javax.transaction.Transactional;
+import kr.co.zerobase.account.aop.CoalesceRequest;
 import kr.co.zerobase.account.domain.Account;
 import kr.co.zerobase.account.domain.AccountUser;
 import kr.co.zerobase.account.domain.Transaction;
 import kr.co.zerobase.account.dto.TransactionDto;
+import kr.co.zerobase.account.dto.TransferDto;
 import kr.co.zerobase.account.exception.AccountException;
+import kr.co.zerobase.account.metrics.LedgerWriteEvent;
+import kr.co.zerobase.account.metrics.TransactionMetrics;
+import kr.co.zerobase.account.metrics.TransactionMetrics.PhaseSample;
+import kr.co.zerobase.account.metrics.TransactionOperation;
 import kr.co.zerobase.account.repository.AccountRepository;
 import kr.co.zerobase.account.repository.AccountUserRepository;
+import kr.co.zerobase.account.repository.ArchivedTransactionRepository;
 import kr.co.zerobase.account.repository.TransactionRepository;
+import kr.co.zerobase.account.segment.LedgerSegmentStore;
+import kr.co.zerobase.account.segment.SegmentRecord;
 import kr.co.zerobase.account.type.ErrorCode;
 import kr.co.zerobase.account.type.TransactionResultType;
 import kr.co.zerobase.account.type.TransactionType;
+import kr.co.zerobase.account.util.ETagUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -44,38 +65,164 @@ public class TransactionService {
     private final AccountRepository accountRepository;
     private final AccountUserRepository accountUserRepository;
     private final TransactionRepository transactionRepository;
+    private final ArchivedTransactionRepository archivedTransactionRepository;
+    private final LedgerSegmentStore ledgerSegmentStore;
+    private final TransactionMetrics transactionMetrics;
+    private final BalanceShardService balanceShardService;
+    private final OutboxService outboxService;
+    private final DailySummaryService dailySummaryService;
 
     @Transactional
     public TransactionDto useBalance(Long userId, String accountNumber, Long amount)
         throws AccountException {
-        AccountUser accountUser = getAccountUser(userId);
-        Account account = getAccount(accountNumber);
+        transactionMetrics.recordCommit(TransactionOperation.USE);
+
+        AccountUser accountUser;
+        Account account;
+        try (PhaseSample ignored = transactionMetrics.start(TransactionOperation.USE, LOOKUP)) {
+            accountUser = getAccountUser(userId);
+            account = getAccount(accountNumber);
+        }
 
-        validateUseBalance(accountUser, account, amount);
+        transactionMetrics.record(TransactionOperation.USE, VALIDATION,
+            () -> validateUseBalance(accountUser, account, amount));
 
-        account.useBalance(amount);
+        transactionMetrics.record(TransactionOperation.USE, MUTATION, () -> {
+            if (account.isBalanceSharded()) {
+                balanceShardService.useBalance(account, amount);
+            } else {
+                account.useBalance(amount);
+            }
+        });
 
         return TransactionDto.fromEntity(
-            saveTransaction(USE, S, account, amount, false, null, null));
+            transactionMetrics.record(TransactionOperation.USE, INSERT,
+                () -> saveTransaction(USE, S, account, amount, false, null, null)));
     }
 
     @Transactional
     public TransactionDto cancelBalance(String transactionId, String accountNumber, Long amount) {
-        Transaction transaction = getTransaction(transactionId);
-        Account account = getAccount(accountNumber);
+        transactionMetrics.recordCommit(TransactionOperation.CANCEL);
+
+        Transaction transaction;
+        Account account;
+        try (PhaseSample ignored = transactionMetrics.start(TransactionOperation.CANCEL,
+            LOOKUP)) {
+            transaction = getTransaction(transactionId);
+            account = getAccount(accountNumber);
+        }
 
-        validateCancelBalance(transaction, account, amount);
+        transactionMetrics.record(TransactionOperation.CANCEL, VALIDATION,
+            () -> validateCancelBalance(transaction, account, amount));
 
-        account.cancelBalance(amount);
-        transaction.cancel();
+        transactionMetrics.record(TransactionOperation.CANCEL, MUTATION, () -> {
+            if (account.isBalanceSharded()) {
+                balanceShardService.cancelBalance(account, amount);
+            } else {
+                account.cancelBalance(amount);
+            }
+            transaction.cancel();
+        });
 
         return TransactionDto.fromEntity(
-            saveTransaction(CANCEL, S, account, amount, false, transaction, null));
+            transactionMetrics.record(TransactionOperation.CANCEL, INSERT,
+                () -> saveTransaction(CANCEL, S, account, amount, false, transaction, null)));
+    }
+
+    @Transactional
+    public TransferDto transferBalance(Long userId, String fromAccountNumber,
+        String toAccountNumber, Long amount) {
+        transactionMetrics.recordCommit(TransactionOperation.TRANSFER);
+
+        AccountUser accountUser;
+        Account fromAccount;
+        Account toAccount;
+        try (PhaseSample ignored = transactionMetrics.start(TransactionOperation.TRANSFER,
+            LOOKUP)) {
+            accountUser = getAccountUser(userId);
+            fromAccount = getAccount(fromAccountNumber);
+            toAccount = getAccount(toAccountNumber);
+        }
+
+        transactionMetrics.record(TransactionOperation.TRANSFER, VALIDATION,
+            () -> validateTransferBalance(accountUser, fromAccount, toAccount, amount));
+
+        // 분할 계좌에서 출금하면 사용과 같이 샤드 락을 잡고 샤드에서 뺀다.
+        // 입금은 교환 법칙이 성립하므로 분할 계좌여도 나머지 잔액에 더한다.
+        transactionMetrics.record(TransactionOperation.TRANSFER, MUTATION, () -> {
+            if (fromAccount.isBalanceSharded()) {
+                balanceShardService.useBalance(fromAccount, amount);
+            } else {
+                fromAccount.useBalance(amount);
+            }
+            toAccount.depositBalance(amount);
+        });
+
+        return transactionMetrics.record(TransactionOperation.TRANSFER, INSERT, () -> {
+            Transaction withdraw = saveTransaction(
+                TRANSFER_WITHDRAW, S, fromAccount, amount, false, null, null, null);
+            Transaction deposit = saveTransaction(
+                TRANSFER_DEPOSIT, S, toAccount, amount, false, null, null, withdraw);
+
+            return TransferDto.builder()
+                .withdrawTransaction(TransactionDto.fromEntity(withdraw))
+                .depositTransaction(TransactionDto.fromEntity(deposit))
+                .build();
+        });
     }
 
     @Transactional
+    public TransactionDto depositBalance(String accountNumber, Long amount) {
+        transactionMetrics.recordCommit(TransactionOperation.DEPOSIT);
+
+        int updated = transactionMetrics.record(TransactionOperation.DEPOSIT, MUTATION,
+            () -> accountRepository.depositBalance(accountNumber, amount, IN_USE,
+                LocalDateTime.now()));
+
+        // 갱신한 행은 커밋까지 잠겨 있으므로 다시 읽은 잔액이 이 입금 직후의 잔액이다.
+        Account account = transactionMetrics.record(TransactionOperation.DEPOSIT, LOOKUP,
+            () -> getAccount(accountNumber));
+
+        if (updated == 0) {
+            throw new AccountException(ACCOUNT_ALREADY_UNREGISTERED);
+        }
+
+        return TransactionDto.fromEntity(
+            transactionMetrics.record(TransactionOperation.DEPOSIT, INSERT,
+                () -> saveTransaction(DEPOSIT, S, account, amount, false, null, null)));
+    }
+
+    @Transactional
+    @CoalesceRequest("queryTransaction")
     public TransactionDto queryTransaction(String transactionId) {
-        return TransactionDto.fromEntity(getTransaction(transactionId));
+        transactionMetrics.recordCommit(TransactionOperation.QUERY);
+
+        // 보관 테이블이나 세그먼트 파일로 옮겨진 거래도 같은 방식으로 조회된다.
+        return transactionMetrics.record(TransactionOperation.QUERY, LOOKUP,
+            () -> transactionRepository.findByTransactionId(transactionId)
+                .map(TransactionDto::fromEntity)
+                .or(() -> archivedTransactionRepository.findByTransactionId(transactionId)
+                    .map(TransactionDto::fromEntity))
+                .or(() -> ledgerSegmentStore.findByTransactionId(transactionId)
+                    .map(TransactionDto::fromSegmentRecord))
+                .orElseThrow(() -> new AccountException(TRANSACTION_NOT_FOUND)));
+    }
+
+    public String getTransactionETag(String transactionId) {
+        return transactionRepository.findVersionByTransactionId(transactionId)
+            .or(() -> archivedTransactionRepository.findVersionByTransactionId(transactionId))
+            .or(() -> ledgerSegmentStore.findByTransactionId(transactionId)
+                .map(SegmentRecord::getVersion))
+            .map(version -> ETagUtil.generate(transactionId + ":" + version))
+            .orElse(null);
+    }
+
+    @Transactional
+    public TransactionDto saveCapturedHoldTransaction(String accountNumber, Long amount) {
+        Account account = getAccount(accountNumber);
+
+        return TransactionDto.fromEntity(
+            saveTransaction(USE, S, account, amount, false, null, null));
     }
 
     @Transactional
@@ -95,11 +242,25 @@ public class TransactionService {
             throw new AccountException(ACCOUNT_ALREADY_UNREGISTERED);
         }
 
-        if (amount > account.getBalance()) {
+        // 분할 계좌는 샤드를 고르면서 잔액을 확인한다.
+        if (!account.isBalanceSharded() && amount > account.getAvailableBalance()) {
             throw new AccountException(AMOUNT_EXCEED_BALANCE);
         }
     }
 
+    private void validateTransferBalance(AccountUser accountUser, Account fromAccount,
+        Account toAccount, Long amount) {
+        if (Objects.equals(fromAccount.getAccountNumber(), toAccount.getAccountNumber())) {
+            throw new AccountException(TRANSFER_SAME_ACCOUNT);
+        }
+
+        validateUseBalance(accountUser, fromAccount, amount);
+
+        if (toAccount.getAccountStatus() == UNREGISTERED) {
+            throw new AccountException(ACCOUNT_ALREADY_UNREGISTERED);
+        }
+    }
+
     private void validateCancelBalance(Transaction transaction, Account account, Long amount) {
         if (!Objects.equals(transaction.getAccount().getAccountNumber(),
             account.getAccountNumber())) {
@@ -110,7 +271,7 @@ public class TransactionService {
             throw new AccountException(TRANSACTION_ALREADY_CANCELED);
         }
 
-        if (Objects.equals(transaction.getTransactionType(), CANCEL)) {
+        if (!Objects.equals(transaction.getTransactionType(), USE)) {
             throw new AccountException(CANCEL_BALANCE_MUST_USE_TRANSACTION);
         }
 
@@ -135,19 +296,57 @@ public class TransactionService {
         boolean isCanceled,
         Transaction transactionForCancel,
         ErrorCode errorCode) {
-        return transactionRepository.save(
-            Transaction.builder()
-                .transactionType(transactionType)
-                .transactionResultType(transactionResultType)
-                .account(account)
-                .amount(amount)
-                .balanceSnapshot(account.getBalance())
-                .transactionId(UUID.randomUUID().toString().replace("-", ""))
-                .isCanceled(isCanceled)
-                .transactionForCancel(transactionForCancel)
-                .transactedAt(LocalDateTime.now())
-                .errorCode(errorCode)
-                .build());
+        return saveTransaction(transactionType, transactionResultType, account, amount,
+            isCanceled, transactionForCancel, errorCode, null);
+    }
+
+    private Transaction saveTransaction(TransactionType transactionType,
+        TransactionResultType transactionResultType,
+        Account account,
+        Long amount,
+        boolean isCanceled,
+        Transaction transactionForCancel,
+        ErrorCode errorCode,
+        Transaction linkedTransaction) {
+        transactionMetrics.countResult(transactionType, transactionResultType, errorCode);
+
+        LedgerWriteEvent event = new LedgerWriteEvent();
+        event.begin();
+
+        Transaction transaction = Transaction.builder()
+            .transactionType(transactionType)
+            .transactionResultType(transactionResultType)
+            .account(account)
+            .amount(amount)
+            .balanceSnapshot(getBalanceSnapshot(account))
+            .transactionId(generateTransactionId())
+            .isCanceled(isCanceled)
+            .transactionForCancel(transactionForCancel)
+            .linkedTransaction(linkedTransaction)
+            .transactedAt(LocalDateTime.now())
+            .errorCode(errorCode)
+            .build();
+        Transaction savedTransaction = transactionRepository.save(transaction);
+
+        event.commit(transactionType, transactionResultType, errorCode, amount);
+
+        // 거래 행과 같은 트랜잭션에 커밋되어야 변경 피드에서 빠지지 않는다.
+        outboxService.append(TRANSACTION_CREATED, transaction.getTransactionId(),
+            TransactionDto.fromEntity(transaction));
+        dailySummaryService.accumulate(transaction);
+        return savedTransaction;
+    }
+
+    // 분할 계좌의 스냅샷은 샤드 락 없이 읽은 합이므로 다른 샤드에서 진행 중인 거래가 커밋한
+    // 금액이 섞일 수 있다. 모든 샤드 락을 잡으면 분할의 의미가 없으므로 근사값으로 두고,
+    // 정확한 잔액은 대사처럼 거래 금액의 합으로 확인한다.
+    private Long getBalanceSnapshot(Account account) {
+        return account.isBalanceSharded()
+            ? balanceShardService.getTotalBalance(account) : account.getBalance();
+    }
+
+    static String generateTransactionId() {
+        return UUID.randomUUID().toString().replace("-", "");
     }
 
     private AccountUser getAccountUser(Long userId) {
@@ -160,8 +359,15 @@ public class TransactionService {
             .orElseThrow(() -> new AccountException(ACCOUNT_NOT_FOUND));
     }
 
+    // 보관 테이블이나 세그먼트 파일로 옮겨진 거래는 수정하지 않으므로 취소할 수 없다.
     private Transaction getTransaction(String transactionId) {
         return transactionRepository.findByTransactionId(transactionId)
-            .orElseThrow(() -> new AccountException(TRANSACTION_NOT_FOUND));
+            .orElseThrow(() -> new AccountException(isArchived(transactionId)
+                ? TRANSACTION_ARCHIVED : TRANSACTION_NOT_FOUND));
+    }
+
+    private boolean isArchived(String transactionId) {
+        return archivedTransactionRepository.findVersionByTransactionId(transactionId).isPresent()
+            || ledgerSegmentStore.findByTransactionId(transactionId).isPresent();
     }
 }
@@ -0,0 +1,8 @@
+package kr.co.zerobase.account.type;
+
+// 특정 시점 잔액을 어디서 구했는지
+public enum BalanceSource {
+    TRANSACTION,
+    DAILY_SUMMARY,
+    INITIAL_BALANCE
+}
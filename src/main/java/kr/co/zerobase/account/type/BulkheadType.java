@@ -0,0 +1,14 @@
+package kr.co.zerobase.account.type;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum BulkheadType {
+    READ(ErrorCode.READ_BULKHEAD_FULL),
+    WRITE(ErrorCode.WRITE_BULKHEAD_FULL),
+    EXPORT(ErrorCode.EXPORT_BULKHEAD_FULL);
+
+    private final ErrorCode errorCode;
+}
@@ -1,7 +1,9 @@
 package kr.co.zerobase.account.type;
 
 import static org.springframework.http.HttpStatus.BAD_REQUEST;
+import static org.springframework.http.HttpStatus.CONFLICT;
 import static org.springframework.http.HttpStatus.NOT_FOUND;
+import static org.springframework.http.HttpStatus.SERVICE_UNAVAILABLE;
 
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -16,6 +18,13 @@ public enum ErrorCode {
     TRANSACTION_LOCK(HttpStatus.INTERNAL_SERVER_ERROR.value(), null),
     CREATE_ACCOUNT_TRANSACTION_LOCK(HttpStatus.INTERNAL_SERVER_ERROR.value(), "다른 계좌가 생성 중입니다."),
     MODIFY_ACCOUNT_TRANSACTION_LOCK(HttpStatus.INTERNAL_SERVER_ERROR.value(), "해당 계좌는 사용 중입니다."),
+    TRANSACTION_LOCK_WAITERS_EXCEEDED(SERVICE_UNAVAILABLE.value(), null),
+    CONCURRENT_MODIFICATION(CONFLICT.value(), "다른 요청과 동시에 수정되었습니다. 다시 시도해주세요."),
+    MODIFY_ACCOUNT_LOCK_WAITERS_EXCEEDED(SERVICE_UNAVAILABLE.value(), "해당 계좌에 대기 중인 요청이 많습니다. 잠시 후 다시 시도해주세요."),
+
+    READ_BULKHEAD_FULL(SERVICE_UNAVAILABLE.value(), "조회 요청이 많습니다. 잠시 후 다시 시도해주세요."),
+    WRITE_BULKHEAD_FULL(SERVICE_UNAVAILABLE.value(), "거래 요청이 많습니다. 잠시 후 다시 시도해주세요."),
+    EXPORT_BULKHEAD_FULL(SERVICE_UNAVAILABLE.value(), "내보내기 요청이 많습니다. 잠시 후 다시 시도해주세요."),
 
     ACCOUNT_NUMBER_ALREADY_EXISTS(HttpStatus.INTERNAL_SERVER_ERROR.value(), "이미 존재하는 계좌번호입니다."),
     USER_NOT_FOUND(NOT_FOUND.value(), "사용자가 없습니다."),
@@ -26,13 +35,21 @@ public enum ErrorCode {
     ACCOUNT_ALREADY_UNREGISTERED(BAD_REQUEST.value(), "계좌가 이미 해지되었습니다."),
     BALANCE_NOT_EMPTY(BAD_REQUEST.value(), "잔액이 있는 계좌는 해지할 수 없습니다."),
     AMOUNT_EXCEED_BALANCE(BAD_REQUEST.value(), "거래 금액이 계좌 잔액보다 큽니다."),
+    ACCOUNT_BALANCE_ALREADY_SHARDED(BAD_REQUEST.value(), "이미 잔액이 분할된 계좌입니다."),
 
     TRANSACTION_NOT_FOUND(NOT_FOUND.value(), "해당 거래가 없습니다."),
     TRANSACTION_ACCOUNT_UN_MATCH(BAD_REQUEST.value(), "이 거래는 해당 계좌에서 발생한 거래가 아닙니다."),
     CANCEL_MUST_FULLY(BAD_REQUEST.value(), "거래 부분 취소는 허용되지 않습니다"),
     CANCEL_BALANCE_MUST_USE_TRANSACTION(BAD_REQUEST.value(), "취소된 거래는 취소할 수 없습니다."),
     CANCEL_BALANCE_MUST_SUCCESS_TRANSACTION(BAD_REQUEST.value(), "실패 거래 내역은 취소할 수 없습니다."),
-    TRANSACTION_ALREADY_CANCELED(BAD_REQUEST.value(), "이미 취소된 거래입니다.");
+    TRANSACTION_ALREADY_CANCELED(BAD_REQUEST.value(), "이미 취소된 거래입니다."),
+    TRANSACTION_ARCHIVED(BAD_REQUEST.value(), "보관된 거래는 취소할 수 없습니다."),
+
+    TRANSFER_SAME_ACCOUNT(BAD_REQUEST.value(), "같은 계좌로 송금할 수 없습니다."),
+
+    HOLD_NOT_FOUND(NOT_FOUND.value(), "해당 승인 내역이 없습니다."),
+    HOLD_ALREADY_SETTLED(BAD_REQUEST.value(), "이미 처리된 승인입니다."),
+    HOLD_EXPIRED(BAD_REQUEST.value(), "승인 유효 시간이 지났습니다.");
 
     private final int status;
     private final String description;
@@ -0,0 +1,8 @@
+package kr.co.zerobase.account.type;
+
+public enum HoldStatus {
+    HELD,
+    CAPTURED,
+    VOIDED,
+    EXPIRED
+}
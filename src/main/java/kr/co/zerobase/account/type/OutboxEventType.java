@@ -0,0 +1,7 @@
+package kr.co.zerobase.account.type;
+
+public enum OutboxEventType {
+    ACCOUNT_CREATED,
+    ACCOUNT_UNREGISTERED,
+    TRANSACTION_CREATED
+}
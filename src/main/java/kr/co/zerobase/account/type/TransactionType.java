@@ -1,6 +1,17 @@
 package kr.co.zerobase.account.type;
 
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
 public enum TransactionType {
-    USE,
-    CANCEL
+    USE(-1),
+    CANCEL(1),
+    TRANSFER_WITHDRAW(-1),
+    TRANSFER_DEPOSIT(1),
+    DEPOSIT(1);
+
+    // 성공 거래가 잔액에 더해지는 방향
+    private final int ledgerSign;
 }
@@ -11,6 +11,10 @@ public final class ValidationMessage {
     public static final String ACCOUNT_NUMBER_NOT_NULL = "계좌번호는 빈 값일 수 없습니다.";
     public static final String ACCOUNT_NUMBER_SIZE_10 = "계좌번호는 10자리입니다.";
 
+    public static final String BALANCE_SHARD_COUNT_NOT_NULL = "잔액 분할 수는 빈 값일 수 없습니다.";
+    public static final String BALANCE_SHARD_COUNT_MIN_2 = "잔액 분할 수는 2 이상이어야 합니다.";
+    public static final String BALANCE_SHARD_COUNT_MAX_32 = "잔액 분할 수는 32 이하여야 합니다.";
+
     public static final String USE_BALANCE_AMOUNT_NOT_NULL = "잔액 사용 금액은 빈 값일 수 없습니다.";
     public static final String USE_BALANCE_AMOUNT_MIN_10 = "최소 잔액 사용 금액은 10원입니다.";
     public static final String USE_BALANCE_AMOUNT_MAX_1_000_000_000 = "최대 잔액 사용 금액은 1,000,000,000원입니다.";
@@ -18,4 +22,12 @@ public final class ValidationMessage {
     public static final String CANCEL_BALANCE_AMOUNT_NOT_NULL = "거래 취소 금액은 빈 값일 수 없습니다.";
     public static final String CANCEL_BALANCE_AMOUNT_MIN_10 = "최소 거래 취소 금액은 10원입니다.";
     public static final String CANCEL_BALANCE_AMOUNT_MAX_1_000_000_000 = "최대 거래 취소 금액은 1,000,000,000원입니다.";
+
+    public static final String DEPOSIT_BALANCE_AMOUNT_NOT_NULL = "입금 금액은 빈 값일 수 없습니다.";
+    public static final String DEPOSIT_BALANCE_AMOUNT_MIN_10 = "최소 입금 금액은 10원입니다.";
+    public static final String DEPOSIT_BALANCE_AMOUNT_MAX_1_000_000_000 = "최대 입금 금액은 1,000,000,000원입니다.";
+
+    public static final String TRANSFER_BALANCE_AMOUNT_NOT_NULL = "송금 금액은 빈 값일 수 없습니다.";
+    public static final String TRANSFER_BALANCE_AMOUNT_MIN_10 = "최소 송금 금액은 10원입니다.";
+    public static final String TRANSFER_BALANCE_AMOUNT_MAX_1_000_000_000 = "최대 송금 금액은 1,000,000,000원입니다.";
 }
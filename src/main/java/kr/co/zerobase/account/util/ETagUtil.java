@@ -0,0 +1,11 @@
+package kr.co.zerobase.account.util;
+
+import java.nio.charset.StandardCharsets;
+import org.springframework.util.DigestUtils;
+
+public class ETagUtil {
+
+    public static String generate(String value) {
+        return "\"" + DigestUtils.md5DigestAsHex(value.getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+}
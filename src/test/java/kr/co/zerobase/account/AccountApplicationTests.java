@@ -3,7 +3,7 @@ package kr.co.zerobase.account;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 
-@SpringBootTest
+@SpringBootTest(properties = "account.scheduling.enabled=false")
 class AccountApplicationTests {
 
     @Test
@@ -1,32 +1,69 @@
 package kr.co.zerobase.account.controller;
 
+import static kr.co.zerobase.account.type.BulkheadType.EXPORT;
+import static kr.co.zerobase.account.type.ErrorCode.AMOUNT_EXCEED_BALANCE;
 import static kr.co.zerobase.account.type.ErrorCode.INVALID_REQUEST;
+import static kr.co.zerobase.account.type.TransactionResultType.S;
+import static kr.co.zerobase.account.type.TransactionType.USE;
+import static kr.co.zerobase.account.type.ValidationMessage.BALANCE_SHARD_COUNT_MIN_2;
 import static kr.co.zerobase.account.type.ValidationMessage.INITIAL_BALANCE_MIN_0;
 import static kr.co.zerobase.account.type.ValidationMessage.INITIAL_BALANCE_NOT_NULL;
 import static kr.co.zerobase.account.type.ValidationMessage.USER_ID_MIN_1;
 import static kr.co.zerobase.account.type.ValidationMessage.USER_ID_NOT_NULL;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import kr.co.zerobase.account.dto.AccountDailySummaryDto;
 import kr.co.zerobase.account.dto.AccountDto;
+import kr.co.zerobase.account.dto.BalanceAtDto;
 import kr.co.zerobase.account.dto.CreateAccount;
 import kr.co.zerobase.account.dto.DeleteAccount;
 import kr.co.zerobase.account.dto.DeleteAccount.RequestDto;
+import kr.co.zerobase.account.dto.ShardAccountBalance;
+import kr.co.zerobase.account.dto.TransactionDto;
+import kr.co.zerobase.account.dto.TransactionPageDto;
+import kr.co.zerobase.account.dto.TransactionSummaryDto;
+import kr.co.zerobase.account.dto.TransactionSummaryDto.TransactionTotal;
 import kr.co.zerobase.account.service.AccountService;
+import kr.co.zerobase.account.service.BalanceShardService;
+import kr.co.zerobase.account.service.BulkheadService;
+import kr.co.zerobase.account.service.DailySummaryService;
+import kr.co.zerobase.account.service.TransactionHistoryService;
+import kr.co.zerobase.account.type.BalanceSource;
+import kr.co.zerobase.account.type.ExportFormat;
 import kr.co.zerobase.account.util.MockMvcUtil;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
 
 @WebMvcTest(AccountController.class)
@@ -35,10 +72,24 @@ class AccountControllerTest {
     private static final String CREATE_ACCOUNT_URL = "/accounts";
     private static final String DELETE_ACCOUNT_URL = "/accounts/1234567890";
     private static final String GET_ACCOUNT_URL = "/accounts?user_id=1";
+    private static final String SHARD_ACCOUNT_BALANCE_URL = "/accounts/balance-shards";
+    private static final String GET_ACCOUNT_TRANSACTIONS_URL = "/accounts/1234567890/transactions";
 
     @MockBean
     private AccountService accountService;
 
+    @MockBean
+    private BalanceShardService balanceShardService;
+
+    @MockBean
+    private TransactionHistoryService transactionHistoryService;
+
+    @MockBean
+    private DailySummaryService dailySummaryService;
+
+    @MockBean
+    private BulkheadService bulkheadService;
+
     @Autowired
     private MockMvc mockMvc;
 
@@ -255,4 +306,257 @@ class AccountControllerTest {
             .andExpect(jsonPath("$[2].accountNumber").value("3000000000"))
             .andExpect(jsonPath("$[2].balance").value(2000));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("계좌 확인 성공 - ETag 응답")
+    void successGetAccounts_ETag() throws Exception {
+        // given
+        given(accountService.getAccountsETag(anyLong()))
+            .willReturn("\"etag\"");
+
+        given(accountService.getAccountsByUserId(anyLong()))
+            .willReturn(Arrays.asList(
+                AccountDto.builder().accountNumber("1000000000").balance(0L).build()));
+
+        // when
+        ResultActions resultActions = MockMvcUtil.performGet(mockMvc, GET_ACCOUNT_URL);
+
+        // then
+        resultActions
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, "\"etag\""))
+            .andExpect(jsonPath("$[0].accountNumber").value("1000000000"));
+    }
+
+    @Test
+    @DisplayName("계좌 확인 성공 - 변경 없음")
+    void successGetAccounts_NotModified() throws Exception {
+        // given
+        given(accountService.getAccountsETag(anyLong()))
+            .willReturn("\"etag\"");
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setIfNoneMatch("\"etag\"");
+
+        // when
+        ResultActions resultActions = MockMvcUtil.performGet(mockMvc, GET_ACCOUNT_URL, headers);
+
+        // then
+        resultActions
+            .andExpect(status().isNotModified());
+        verify(accountService, never()).getAccountsByUserId(anyLong());
+    }
+
+    @Test
+    @DisplayName("잔액 분할 성공")
+    void successShardAccountBalance() throws Exception {
+        // given
+        given(balanceShardService.shardBalance(anyLong(), anyString(), anyInt()))
+            .willReturn(AccountDto.builder()
+                .userId(1L)
+                .accountNumber("1234567890")
+                .balance(10000L)
+                .balanceShardCount(4)
+                .build());
+
+        // when
+        ShardAccountBalance.RequestDto request = ShardAccountBalance.RequestDto.builder()
+            .userId(1L)
+            .accountNumber("1234567890")
+            .shardCount(4)
+            .build();
+
+        ResultActions resultActions = MockMvcUtil.performPost(mockMvc,
+            SHARD_ACCOUNT_BALANCE_URL, request);
+
+        // then
+        resultActions
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.accountNumber").value("1234567890"))
+            .andExpect(jsonPath("$.balance").value(10000L))
+            .andExpect(jsonPath("$.shardCount").value(4));
+    }
+
+    @Test
+    @DisplayName("잔액 분할 실패 - 유효성 검사(shardCount @Min)")
+    void failShardAccountBalance_shardCount_Min() throws Exception {
+        // given
+        // when
+        ShardAccountBalance.RequestDto request = ShardAccountBalance.RequestDto.builder()
+            .userId(1L)
+            .accountNumber("1234567890")
+            .shardCount(1)
+            .build();
+
+        ResultActions resultActions = MockMvcUtil.performPost(mockMvc,
+            SHARD_ACCOUNT_BALANCE_URL, request);
+
+        // then
+        resultActions
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.errorCode").value(INVALID_REQUEST.toString()))
+            .andExpect(jsonPath("$.errorMessage").value(BALANCE_SHARD_COUNT_MIN_2));
+        verify(balanceShardService, never()).shardBalance(anyLong(), anyString(), anyInt());
+    }
+
+    @Test
+    @DisplayName("계좌 거래 내역 조회 성공")
+    void successGetAccountTransactions() throws Exception {
+        // given
+        given(transactionHistoryService.getTransactions(eq("1234567890"), eq(USE), isNull(),
+            eq("cursor"), eq(10)))
+            .willReturn(TransactionPageDto.builder()
+                .transactions(List.of(TransactionDto.builder()
+                    .accountNumber("1234567890")
+                    .transactionType(USE)
+                    .transactionResultType(S)
+                    .transactionId("transactionId")
+                    .amount(1000L)
+                    .balanceSnapshot(9000L)
+                    .transactedAt(LocalDateTime.now())
+                    .build()))
+                .nextCursor("nextCursor")
+                .build());
+
+        // when
+        ResultActions resultActions = MockMvcUtil.performGet(mockMvc,
+            GET_ACCOUNT_TRANSACTIONS_URL + "?transaction_type=USE&cursor=cursor&size=10");
+
+        // then
+        resultActions
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.transactions[0].transactionId").value("transactionId"))
+            .andExpect(jsonPath("$.transactions[0].transactionResult").value("S"))
+            .andExpect(jsonPath("$.transactions[0].balanceSnapshot").value(9000L))
+            .andExpect(jsonPath("$.nextCursor").value("nextCursor"));
+    }
+
+    @Test
+    @DisplayName("계좌 거래 내역 조회 실패 - 잘못된 거래 종류")
+    void failGetAccountTransactions_invalidTransactionType() throws Exception {
+        // given
+        // when
+        ResultActions resultActions = MockMvcUtil.performGet(mockMvc,
+            GET_ACCOUNT_TRANSACTIONS_URL + "?transaction_type=UNKNOWN");
+
+        // then
+        resultActions
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.errorCode").value(INVALID_REQUEST.toString()));
+    }
+
+    @Test
+    @DisplayName("계좌 거래 내역 내보내기 성공 - 응답을 스트리밍")
+    void successExportAccountTransactions() throws Exception {
+        // given
+        given(transactionHistoryService.getAccountId("1234567890"))
+            .willReturn(1L);
+        willAnswer(invocation -> {
+            OutputStream outputStream = invocation.getArgument(5);
+            outputStream.write("TRAN1,USE,S,1000,9000,2022-10-01T12:00\n"
+                .getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).given(transactionHistoryService).exportTransactions(eq(1L), eq("1234567890"),
+            isNull(), isNull(), eq(ExportFormat.CSV), any(OutputStream.class));
+
+        // when
+        MvcResult mvcResult = MockMvcUtil.performGet(mockMvc,
+                GET_ACCOUNT_TRANSACTIONS_URL + "/export?format=CSV")
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(mvcResult))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"1234567890-transactions.csv\""))
+            .andExpect(content().string("TRAN1,USE,S,1000,9000,2022-10-01T12:00\n"));
+
+        InOrder inOrder = inOrder(bulkheadService, transactionHistoryService);
+        inOrder.verify(bulkheadService).acquire(EXPORT);
+        inOrder.verify(transactionHistoryService).exportTransactions(eq(1L), eq("1234567890"),
+            isNull(), isNull(), eq(ExportFormat.CSV), any(OutputStream.class));
+        inOrder.verify(bulkheadService).release(EXPORT);
+    }
+
+    @Test
+    @DisplayName("계좌 거래 집계 조회 성공")
+    void successGetTransactionSummary() throws Exception {
+        // given
+        LocalDateTime from = LocalDateTime.of(2022, 10, 1, 0, 0);
+        LocalDateTime to = LocalDateTime.of(2022, 11, 1, 0, 0);
+        given(transactionHistoryService.getTransactionSummary("1234567890", from, to))
+            .willReturn(TransactionSummaryDto.builder()
+                .accountNumber("1234567890")
+                .from(from)
+                .to(to)
+                .totals(Map.of(USE, TransactionTotal.of(3L, 3000L)))
+                .failureCounts(Map.of(AMOUNT_EXCEED_BALANCE, 2L))
+                .build());
+
+        // when
+        ResultActions resultActions = MockMvcUtil.performGet(mockMvc,
+            GET_ACCOUNT_TRANSACTIONS_URL
+                + "/summary?from=2022-10-01T00:00:00&to=2022-11-01T00:00:00");
+
+        // then
+        resultActions
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.totals.USE.count").value(3))
+            .andExpect(jsonPath("$.totals.USE.amount").value(3000))
+            .andExpect(jsonPath("$.failureCounts.AMOUNT_EXCEED_BALANCE").value(2));
+    }
+
+    @Test
+    @DisplayName("계좌 일별 집계 조회 성공")
+    void successGetDailySummaries() throws Exception {
+        // given
+        LocalDate date = LocalDate.of(2022, 10, 1);
+        given(dailySummaryService.getDailySummaries("1234567890", date, date.plusDays(1)))
+            .willReturn(List.of(AccountDailySummaryDto.builder()
+                .summaryDate(date)
+                .openingBalance(10000L)
+                .closingBalance(9000L)
+                .debitAmount(1000L)
+                .debitCount(1L)
+                .creditAmount(0L)
+                .creditCount(0L)
+                .failureCount(0L)
+                .build()));
+
+        // when
+        ResultActions resultActions = MockMvcUtil.performGet(mockMvc,
+            "/accounts/1234567890/daily-summaries?from=2022-10-01&to=2022-10-02");
+
+        // then
+        resultActions
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[0].date").value("2022-10-01"))
+            .andExpect(jsonPath("$[0].openingBalance").value(10000L))
+            .andExpect(jsonPath("$[0].closingBalance").value(9000L));
+    }
+
+    @Test
+    @DisplayName("계좌 시점 잔액 조회 성공")
+    void successGetBalanceAt() throws Exception {
+        // given
+        LocalDateTime at = LocalDateTime.of(2022, 10, 1, 12, 0);
+        given(transactionHistoryService.getBalanceAt("1234567890", at))
+            .willReturn(BalanceAtDto.builder()
+                .accountNumber("1234567890")
+                .at(at)
+                .balance(9000L)
+                .source(BalanceSource.TRANSACTION)
+                .build());
+
+        // when
+        ResultActions resultActions = MockMvcUtil.performGet(mockMvc,
+            "/accounts/1234567890/balance?at=2022-10-01T12:00:00");
+
+        // then
+        resultActions
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.balance").value(9000L))
+            .andExpect(jsonPath("$.source").value("TRANSACTION"));
+    }
+}
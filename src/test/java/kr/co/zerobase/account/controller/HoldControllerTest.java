@@ -0,0 +1,157 @@
+package kr.co.zerobase.account.controller;
+
+import static kr.co.zerobase.account.type.ErrorCode.HOLD_ALREADY_SETTLED;
+import static kr.co.zerobase.account.type.ErrorCode.INVALID_REQUEST;
+import static kr.co.zerobase.account.type.HoldStatus.HELD;
+import static kr.co.zerobase.account.type.HoldStatus.VOIDED;
+import static kr.co.zerobase.account.type.TransactionResultType.S;
+import static kr.co.zerobase.account.type.ValidationMessage.USE_BALANCE_AMOUNT_MIN_10;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDateTime;
+import kr.co.zerobase.account.dto.AuthorizeBalance;
+import kr.co.zerobase.account.dto.BalanceHoldDto;
+import kr.co.zerobase.account.dto.TransactionDto;
+import kr.co.zerobase.account.exception.AccountException;
+import kr.co.zerobase.account.service.HoldService;
+import kr.co.zerobase.account.util.MockMvcUtil;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+@WebMvcTest(HoldController.class)
+class HoldControllerTest {
+
+    private final static String AUTHORIZE_URL = "/holds";
+    private final static String CAPTURE_URL = "/holds/holdId/capture";
+    private final static String VOID_URL = "/holds/holdId/void";
+
+    @MockBean
+    private HoldService holdService;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @DisplayName("잔액 승인 성공")
+    void successAuthorizeBalance() throws Exception {
+        // given
+        given(holdService.authorizeBalance(anyLong(), anyString(), anyLong()))
+            .willReturn(BalanceHoldDto.builder()
+                .holdId("holdId")
+                .accountNumber("1000000000")
+                .amount(1000L)
+                .status(HELD)
+                .expiresAt(LocalDateTime.now().plusMinutes(10))
+                .build());
+
+        // when
+        AuthorizeBalance.RequestDto request = AuthorizeBalance.RequestDto.builder()
+            .userId(1L)
+            .accountNumber("1000000000")
+            .amount(1000L)
+            .build();
+
+        ResultActions resultActions = MockMvcUtil.performPost(mockMvc, AUTHORIZE_URL, request);
+
+        // then
+        resultActions
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.holdId").value("holdId"))
+            .andExpect(jsonPath("$.accountNumber").value("1000000000"))
+            .andExpect(jsonPath("$.amount").value(1000L))
+            .andExpect(jsonPath("$.status").value("HELD"));
+    }
+
+    @Test
+    @DisplayName("잔액 승인 실패 - 최소 금액 미만")
+    void failAuthorizeBalance_amountMin() throws Exception {
+        // given
+        AuthorizeBalance.RequestDto request = AuthorizeBalance.RequestDto.builder()
+            .userId(1L)
+            .accountNumber("1000000000")
+            .amount(9L)
+            .build();
+
+        // when
+        ResultActions resultActions = MockMvcUtil.performPost(mockMvc, AUTHORIZE_URL, request);
+
+        // then
+        resultActions
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.errorCode").value(INVALID_REQUEST.toString()))
+            .andExpect(jsonPath("$.errorMessage").value(USE_BALANCE_AMOUNT_MIN_10));
+    }
+
+    @Test
+    @DisplayName("승인 캡처 성공")
+    void successCaptureBalance() throws Exception {
+        // given
+        given(holdService.captureBalance(anyString()))
+            .willReturn(TransactionDto.builder()
+                .accountNumber("1000000000")
+                .transactionResultType(S)
+                .transactionId("transactionId")
+                .amount(1000L)
+                .transactedAt(LocalDateTime.now())
+                .build());
+
+        // when
+        ResultActions resultActions = MockMvcUtil.performPost(mockMvc, CAPTURE_URL, null);
+
+        // then
+        resultActions
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.accountNumber").value("1000000000"))
+            .andExpect(jsonPath("$.transactionResult").value("S"))
+            .andExpect(jsonPath("$.transactionId").value("transactionId"))
+            .andExpect(jsonPath("$.amount").value(1000L));
+    }
+
+    @Test
+    @DisplayName("승인 취소 성공")
+    void successVoidBalance() throws Exception {
+        // given
+        given(holdService.voidBalance(anyString()))
+            .willReturn(BalanceHoldDto.builder()
+                .holdId("holdId")
+                .accountNumber("1000000000")
+                .amount(1000L)
+                .status(VOIDED)
+                .settledAt(LocalDateTime.now())
+                .build());
+
+        // when
+        ResultActions resultActions = MockMvcUtil.performPost(mockMvc, VOID_URL, null);
+
+        // then
+        resultActions
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.holdId").value("holdId"))
+            .andExpect(jsonPath("$.status").value("VOIDED"));
+    }
+
+    @Test
+    @DisplayName("승인 취소 실패 - 이미 정산된 승인")
+    void failVoidBalance_alreadySettled() throws Exception {
+        // given
+        given(holdService.voidBalance(anyString()))
+            .willThrow(new AccountException(HOLD_ALREADY_SETTLED));
+
+        // when
+        ResultActions resultActions = MockMvcUtil.performPost(mockMvc, VOID_URL, null);
+
+        // then
+        resultActions
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.errorCode").value(HOLD_ALREADY_SETTLED.toString()));
+    }
+}
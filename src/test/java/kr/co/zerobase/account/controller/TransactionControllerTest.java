@@ -1,7 +1,9 @@
 package kr.co.zerobase.account.controller;
 
 import static kr.co.zerobase.account.type.ErrorCode.INVALID_REQUEST;
+import static kr.co.zerobase.account.type.ErrorCode.TRANSFER_SAME_ACCOUNT;
 import static kr.co.zerobase.account.type.TransactionResultType.S;
+import static kr.co.zerobase.account.type.TransactionType.TRANSFER_WITHDRAW;
 import static kr.co.zerobase.account.type.TransactionType.USE;
 import static kr.co.zerobase.account.type.ValidationMessage.ACCOUNT_NUMBER_NOT_NULL;
 import static kr.co.zerobase.account.type.ValidationMessage.ACCOUNT_NUMBER_SIZE_10;
@@ -18,14 +20,19 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import java.time.LocalDateTime;
 import kr.co.zerobase.account.dto.CancelBalance;
+import kr.co.zerobase.account.dto.DepositBalance;
 import kr.co.zerobase.account.dto.TransactionDto;
+import kr.co.zerobase.account.dto.TransferBalance;
+import kr.co.zerobase.account.dto.TransferDto;
 import kr.co.zerobase.account.dto.UseBalance;
 import kr.co.zerobase.account.exception.AccountException;
 import kr.co.zerobase.account.service.TransactionService;
@@ -38,6 +45,7 @@ import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
 
@@ -46,6 +54,8 @@ class TransactionControllerTest {
 
     private final static String USE_TRANSACTION_URL = "/transactions/use";
     private final static String CANCEL_TRANSACTION_URL = "/transactions/transactionIdForCancel/cancel";
+    private final static String DEPOSIT_TRANSACTION_URL = "/transactions/deposit";
+    private final static String TRANSFER_TRANSACTION_URL = "/transactions/transfer";
     private final static String GET_TRANSACTION_URL = "/transactions/12345";
 
     @MockBean
@@ -421,6 +431,113 @@ class TransactionControllerTest {
             .andExpect(jsonPath("$.errorMessage").value(CANCEL_BALANCE_AMOUNT_MAX_1_000_000_000));
     }
 
+    @Test
+    @DisplayName("입금 성공")
+    void successDepositBalance() throws Exception {
+        // given
+        given(transactionService.depositBalance(anyString(), anyLong()))
+            .willReturn(TransactionDto.builder()
+                .accountNumber("1000000000")
+                .transactedAt(LocalDateTime.now())
+                .amount(1000L)
+                .balanceSnapshot(11000L)
+                .transactionId("depositTransactionId")
+                .transactionResultType(S)
+                .build());
+
+        // when
+        DepositBalance.RequestDto request = DepositBalance.RequestDto.builder()
+            .accountNumber("1000000000")
+            .amount(1000L)
+            .build();
+
+        ResultActions resultActions = MockMvcUtil.performPost(mockMvc,
+            DEPOSIT_TRANSACTION_URL,
+            request);
+
+        // then
+        resultActions
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.accountNumber").value("1000000000"))
+            .andExpect(jsonPath("$.transactionResult").value("S"))
+            .andExpect(jsonPath("$.transactionId").value("depositTransactionId"))
+            .andExpect(jsonPath("$.amount").value(1000L))
+            .andExpect(jsonPath("$.balanceSnapshot").value(11000L));
+    }
+
+    @Test
+    @DisplayName("송금 성공")
+    void successTransferBalance() throws Exception {
+        // given
+        LocalDateTime transactedAt = LocalDateTime.now();
+        given(transactionService.transferBalance(anyLong(), anyString(), anyString(), anyLong()))
+            .willReturn(TransferDto.builder()
+                .withdrawTransaction(TransactionDto.builder()
+                    .accountNumber("1000000000")
+                    .transactedAt(transactedAt)
+                    .amount(1000L)
+                    .transactionId("withdrawTransactionId")
+                    .transactionResultType(S)
+                    .build())
+                .depositTransaction(TransactionDto.builder()
+                    .accountNumber("2000000000")
+                    .transactedAt(transactedAt)
+                    .amount(1000L)
+                    .transactionId("depositTransactionId")
+                    .transactionResultType(S)
+                    .build())
+                .build());
+
+        // when
+        TransferBalance.RequestDto request = TransferBalance.RequestDto.builder()
+            .userId(1L)
+            .fromAccountNumber("1000000000")
+            .toAccountNumber("2000000000")
+            .amount(1000L)
+            .build();
+
+        ResultActions resultActions = MockMvcUtil.performPost(mockMvc,
+            TRANSFER_TRANSACTION_URL,
+            request);
+
+        // then
+        resultActions
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.fromAccountNumber").value("1000000000"))
+            .andExpect(jsonPath("$.toAccountNumber").value("2000000000"))
+            .andExpect(jsonPath("$.transactionResult").value("S"))
+            .andExpect(jsonPath("$.withdrawTransactionId").value("withdrawTransactionId"))
+            .andExpect(jsonPath("$.depositTransactionId").value("depositTransactionId"))
+            .andExpect(jsonPath("$.amount").value(1000L));
+    }
+
+    @Test
+    @DisplayName("송금 실패 - 실패 거래 기록")
+    void failTransferBalance_saveFailedTransaction() throws Exception {
+        // given
+        given(transactionService.transferBalance(anyLong(), anyString(), anyString(), anyLong()))
+            .willThrow(new AccountException(TRANSFER_SAME_ACCOUNT));
+
+        // when
+        TransferBalance.RequestDto request = TransferBalance.RequestDto.builder()
+            .userId(1L)
+            .fromAccountNumber("1000000000")
+            .toAccountNumber("1000000000")
+            .amount(1000L)
+            .build();
+
+        ResultActions resultActions = MockMvcUtil.performPost(mockMvc,
+            TRANSFER_TRANSACTION_URL,
+            request);
+
+        // then
+        resultActions
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.errorCode").value(TRANSFER_SAME_ACCOUNT.toString()));
+        verify(transactionService, times(1)).saveFailedUseTransaction(
+            TRANSFER_WITHDRAW, "1000000000", 1000L, TRANSFER_SAME_ACCOUNT);
+    }
+
     @Test
     @DisplayName("거래 조회 성공")
     void successGetTransaction() throws Exception {
@@ -446,4 +563,55 @@ class TransactionControllerTest {
             .andExpect(jsonPath("$.amount").value(54321))
             .andExpect(jsonPath("$.transactionId").value("transactionId"));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("거래 조회 성공 - ETag 응답")
+    void successGetTransaction_ETag() throws Exception {
+        // given
+        given(transactionService.getTransactionETag(anyString()))
+            .willReturn("\"etag\"");
+
+        given(transactionService.queryTransaction(anyString()))
+            .willReturn(TransactionDto.builder()
+                .accountNumber("100000000")
+                .transactionType(USE)
+                .transactedAt(LocalDateTime.now())
+                .amount(54321L)
+                .transactionId("transactionId")
+                .transactionResultType(S)
+                .build());
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setIfNoneMatch("\"other\"");
+
+        // when
+        ResultActions resultActions = MockMvcUtil.performGet(mockMvc, GET_TRANSACTION_URL,
+            headers);
+
+        // then
+        resultActions
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, "\"etag\""))
+            .andExpect(jsonPath("$.transactionId").value("transactionId"));
+    }
+
+    @Test
+    @DisplayName("거래 조회 성공 - 변경 없음")
+    void successGetTransaction_NotModified() throws Exception {
+        // given
+        given(transactionService.getTransactionETag(anyString()))
+            .willReturn("\"etag\"");
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setIfNoneMatch("\"etag\"");
+
+        // when
+        ResultActions resultActions = MockMvcUtil.performGet(mockMvc, GET_TRANSACTION_URL,
+            headers);
+
+        // then
+        resultActions
+            .andExpect(status().isNotModified());
+        verify(transactionService, never()).queryTransaction(anyString());
+    }
+}
@@ -0,0 +1,101 @@
+package kr.co.zerobase.account.integration;
+
+import static kr.co.zerobase.account.type.HoldStatus.HELD;
+import static kr.co.zerobase.account.type.TransactionResultType.S;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.jayway.jsonpath.JsonPath;
+import kr.co.zerobase.account.domain.Account;
+import kr.co.zerobase.account.dto.AuthorizeBalance;
+import kr.co.zerobase.account.dto.ShardAccountBalance;
+import kr.co.zerobase.account.dto.TransferBalance;
+import kr.co.zerobase.account.repository.AccountRepository;
+import kr.co.zerobase.account.service.BalanceShardService;
+import kr.co.zerobase.account.util.MockMvcUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.web.servlet.ResultActions;
+
+// 샤드 하나(2500)로는 부족한 금액을 써서 전체 샤드 락을 잡는 재분배 경로까지 확인한다.
+public class BalanceShardIntegrationTest extends BaseIntegrationTest {
+
+    private static final String ACCOUNT_NUMBER = "1000000000";
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private BalanceShardService balanceShardService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        MockMvcUtil.performPost(mockMvc, "/accounts/balance-shards",
+                ShardAccountBalance.RequestDto.builder()
+                    .userId(1L)
+                    .accountNumber(ACCOUNT_NUMBER)
+                    .shardCount(4)
+                    .build())
+            .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("분할 계좌에서 송금 성공 - 샤드에서 출금")
+    void successTransferBalance_FromShardedAccount() throws Exception {
+        // given
+        // when
+        ResultActions resultActions = MockMvcUtil.performPost(mockMvc, "/transactions/transfer",
+            TransferBalance.RequestDto.builder()
+                .userId(1L)
+                .fromAccountNumber(ACCOUNT_NUMBER)
+                .toAccountNumber("1000000001")
+                .amount(3000L)
+                .build());
+
+        // then
+        resultActions
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.transactionResult").value(S.toString()))
+            .andExpect(jsonPath("$.amount").value(3000));
+        assertEquals(7000L, getTotalBalance(ACCOUNT_NUMBER));
+        assertEquals(3000L, getTotalBalance("1000000001"));
+    }
+
+    @Test
+    @DisplayName("분할 계좌에서 승인 후 캡처 성공 - 샤드에서 나머지 잔액으로 옮겨 묶음")
+    void successAuthorizeAndCaptureBalance_ShardedAccount() throws Exception {
+        // given
+        // when
+        String response = MockMvcUtil.performPost(mockMvc, "/holds",
+                AuthorizeBalance.RequestDto.builder()
+                    .userId(1L)
+                    .accountNumber(ACCOUNT_NUMBER)
+                    .amount(3000L)
+                    .build())
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.status").value(HELD.toString()))
+            .andReturn().getResponse().getContentAsString();
+        String holdId = JsonPath.read(response, "$.holdId");
+
+        Account held = accountRepository.findByAccountNumber(ACCOUNT_NUMBER).orElseThrow();
+        long totalBalanceAfterHold = getTotalBalance(ACCOUNT_NUMBER);
+
+        mockMvc.perform(post("/holds/" + holdId + "/capture"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.amount").value(3000));
+
+        // then
+        assertEquals(3000L, held.getHeldBalance());
+        assertEquals(10000L, totalBalanceAfterHold);
+        assertEquals(7000L, getTotalBalance(ACCOUNT_NUMBER));
+    }
+
+    private long getTotalBalance(String accountNumber) {
+        return balanceShardService.getTotalBalance(
+            accountRepository.findByAccountNumber(accountNumber).orElseThrow());
+    }
+}
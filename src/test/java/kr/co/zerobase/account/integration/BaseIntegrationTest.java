@@ -11,7 +11,7 @@ import org.springframework.test.web.servlet.MockMvc;
 
 @Disabled
 @Transactional
-@SpringBootTest
+@SpringBootTest(properties = "account.scheduling.enabled=false")
 @AutoConfigureMockMvc
 @ExtendWith(SpringExtension.class)
 public class BaseIntegrationTest {
@@ -0,0 +1,180 @@
+package kr.co.zerobase.account.integration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.jayway.jsonpath.JsonPath;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import kr.co.zerobase.account.domain.AccountUser;
+import kr.co.zerobase.account.dto.CreateAccount;
+import kr.co.zerobase.account.dto.UseBalance;
+import kr.co.zerobase.account.metrics.TransactionMetrics;
+import kr.co.zerobase.account.metrics.TransactionOperation;
+import kr.co.zerobase.account.metrics.TransactionPhase;
+import kr.co.zerobase.account.repository.AccountRepository;
+import kr.co.zerobase.account.repository.AccountUserRepository;
+import kr.co.zerobase.account.service.TransactionService;
+import kr.co.zerobase.account.util.MockMvcUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.servlet.MockMvc;
+
+// 잔액 사용 트랜잭션이 계좌를 읽은 뒤 다른 스레드의 입금을 커밋시켜 버전 충돌을 만든다.
+// 입금이 실제로 커밋되어야 하므로 테스트 트랜잭션 없이 실행한다.
+@SpringBootTest(properties = "account.scheduling.enabled=false")
+@AutoConfigureMockMvc
+@ExtendWith(SpringExtension.class)
+public class OptimisticRetryIntegrationTest {
+
+    private static final long INITIAL_BALANCE = 10000L;
+    private static final long USE_AMOUNT = 1000L;
+    private static final long DEPOSIT_AMOUNT = 100L;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private AccountUserRepository accountUserRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @SpyBean
+    private TransactionMetrics transactionMetrics;
+
+    @Value("${account.lock.modify-account.optimistic-retries}")
+    private int maxOptimisticLockRetries;
+
+    private Long userId;
+
+    private String accountNumber;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        userId = accountUserRepository.save(AccountUser.builder()
+                .name("optimistic")
+                .build())
+            .getId();
+        accountNumber = createAccount();
+    }
+
+    @Test
+    @DisplayName("잔액 사용 - 동시 입금과 충돌하면 재시도 후 성공, 메트릭은 요청당 한 번")
+    void useBalance_RetryAfterConcurrentDeposit() throws Exception {
+        // given
+        depositConcurrently(1);
+        double successCount = countUseResults();
+        long lookupCount = countUseLookups();
+
+        // when
+        // then
+        MockMvcUtil.performPost(mockMvc, "/transactions/use",
+                UseBalance.RequestDto.builder()
+                    .userId(userId)
+                    .accountNumber(accountNumber)
+                    .amount(USE_AMOUNT)
+                    .build())
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.amount").value(USE_AMOUNT));
+
+        assertEquals(INITIAL_BALANCE + DEPOSIT_AMOUNT - USE_AMOUNT, getBalance());
+        assertEquals(successCount + 1, countUseResults());
+        assertEquals(lookupCount + 1, countUseLookups());
+    }
+
+    @Test
+    @DisplayName("잔액 사용 실패 - 재시도 횟수를 넘겨 계속 충돌하면 CONCURRENT_MODIFICATION")
+    void useBalance_ConcurrentModification() throws Exception {
+        // given
+        int attempts = maxOptimisticLockRetries + 1;
+        depositConcurrently(attempts);
+        double successCount = countUseResults();
+        long lookupCount = countUseLookups();
+
+        // when
+        // then
+        MockMvcUtil.performPost(mockMvc, "/transactions/use",
+                UseBalance.RequestDto.builder()
+                    .userId(userId)
+                    .accountNumber(accountNumber)
+                    .amount(USE_AMOUNT)
+                    .build())
+            .andExpect(status().isConflict())
+            .andExpect(jsonPath("$.errorCode").value("CONCURRENT_MODIFICATION"));
+
+        assertEquals(INITIAL_BALANCE + DEPOSIT_AMOUNT * attempts, getBalance());
+        assertEquals(successCount, countUseResults());
+        assertEquals(lookupCount + 1, countUseLookups());
+    }
+
+    // 잔액 사용의 검증 단계(계좌를 읽은 뒤, 변경 전)에서 다른 스레드의 입금을 커밋한다.
+    private void depositConcurrently(int conflicts) {
+        AtomicInteger remaining = new AtomicInteger(conflicts);
+        doAnswer(invocation -> {
+            if (remaining.getAndDecrement() > 0) {
+                CompletableFuture.runAsync(
+                        () -> transactionService.depositBalance(accountNumber, DEPOSIT_AMOUNT))
+                    .get(5, TimeUnit.SECONDS);
+            }
+            return invocation.callRealMethod();
+        }).when(transactionMetrics).record(eq(TransactionOperation.USE),
+            eq(TransactionPhase.VALIDATION), any(Runnable.class));
+    }
+
+    private String createAccount() throws Exception {
+        String response = MockMvcUtil.performPost(mockMvc, "/accounts",
+                CreateAccount.RequestDto.builder()
+                    .userId(userId)
+                    .initialBalance(INITIAL_BALANCE)
+                    .build())
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getContentAsString();
+
+        return JsonPath.read(response, "$.accountNumber");
+    }
+
+    private long getBalance() {
+        return accountRepository.findByAccountNumber(accountNumber)
+            .orElseThrow(IllegalStateException::new)
+            .getBalance();
+    }
+
+    private double countUseResults() {
+        Counter counter = meterRegistry.find("account.transaction.results")
+            .tag("type", "USE")
+            .tag("result", "S")
+            .counter();
+        return counter == null ? 0 : counter.count();
+    }
+
+    private long countUseLookups() {
+        Timer timer = meterRegistry.find("account.transaction.phase")
+            .tag("operation", TransactionOperation.USE.getTag())
+            .tag("phase", TransactionPhase.LOOKUP.getTag())
+            .timer();
+        return timer == null ? 0 : timer.count();
+    }
+}
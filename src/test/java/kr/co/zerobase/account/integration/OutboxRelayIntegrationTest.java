@@ -0,0 +1,86 @@
+package kr.co.zerobase.account.integration;
+
+import static kr.co.zerobase.account.type.OutboxEventType.ACCOUNT_CREATED;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import kr.co.zerobase.account.domain.AccountUser;
+import kr.co.zerobase.account.domain.OutboxEvent;
+import kr.co.zerobase.account.dto.AccountDto;
+import kr.co.zerobase.account.repository.AccountUserRepository;
+import kr.co.zerobase.account.repository.OutboxEventRepository;
+import kr.co.zerobase.account.scheduler.OutboxRelay;
+import kr.co.zerobase.account.service.AccountService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.StreamMessageId;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+// 릴레이가 커밋된 outbox 이벤트를 내장 Redis 의 스트림으로 옮기는지 확인한다.
+@SpringBootTest(properties = "account.scheduling.enabled=false")
+@ExtendWith(SpringExtension.class)
+public class OutboxRelayIntegrationTest {
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private AccountUserRepository accountUserRepository;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private OutboxRelay outboxRelay;
+
+    @Autowired
+    private RedissonClient redissonClient;
+
+    @Value("${account.outbox.stream-key}")
+    private String streamKey;
+
+    @Test
+    @DisplayName("계좌 생성 이벤트 발행 - 재실행해도 발행된 이벤트는 다시 보내지 않음")
+    void relayAccountCreatedEvent() throws Exception {
+        // given
+        Long userId = accountUserRepository.save(AccountUser.builder()
+                .name("outbox")
+                .build())
+            .getId();
+        AccountDto accountDto = accountService.createAccount(userId, 1000L);
+
+        // when
+        outboxRelay.relay();
+        outboxRelay.relay();
+
+        // then
+        List<Map<String, String>> entries = findStreamEntries(accountDto.getAccountNumber());
+        assertEquals(1, entries.size());
+        assertEquals(ACCOUNT_CREATED.name(), entries.get(0).get("eventType"));
+        assertNotNull(entries.get(0).get("eventId"));
+
+        List<OutboxEvent> events = outboxEventRepository.findAll().stream()
+            .filter(event -> accountDto.getAccountNumber().equals(event.getAggregateId()))
+            .collect(Collectors.toList());
+        assertEquals(1, events.size());
+        assertNotNull(events.get(0).getPublishedAt());
+        assertEquals(String.valueOf(events.get(0).getId()), entries.get(0).get("eventId"));
+    }
+
+    private List<Map<String, String>> findStreamEntries(String aggregateId) {
+        return redissonClient.<String, String>getStream(streamKey, StringCodec.INSTANCE)
+            .range(StreamMessageId.MIN, StreamMessageId.MAX)
+            .values().stream()
+            .filter(entry -> aggregateId.equals(entry.get("aggregateId")))
+            .collect(Collectors.toList());
+    }
+}
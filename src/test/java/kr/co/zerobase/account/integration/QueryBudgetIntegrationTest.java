@@ -0,0 +1,458 @@
+package kr.co.zerobase.account.integration;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.jayway.jsonpath.JsonPath;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import javax.persistence.EntityManagerFactory;
+import kr.co.zerobase.account.domain.AccountUser;
+import kr.co.zerobase.account.dto.AuthorizeBalance;
+import kr.co.zerobase.account.dto.CancelBalance;
+import kr.co.zerobase.account.dto.CreateAccount;
+import kr.co.zerobase.account.dto.DeleteAccount;
+import kr.co.zerobase.account.dto.DepositBalance;
+import kr.co.zerobase.account.dto.ShardAccountBalance;
+import kr.co.zerobase.account.dto.TransferBalance;
+import kr.co.zerobase.account.dto.UseBalance;
+import kr.co.zerobase.account.repository.AccountUserRepository;
+import kr.co.zerobase.account.util.MockMvcUtil;
+import kr.co.zerobase.account.util.QueryCounter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+// 커밋 시점의 UPDATE 까지 세기 위해 테스트 트랜잭션 없이 실행하고, 매번 새 사용자로 데이터를 만든다.
+@SpringBootTest(properties = "account.scheduling.enabled=false")
+@AutoConfigureMockMvc
+@ExtendWith(SpringExtension.class)
+public class QueryBudgetIntegrationTest {
+
+    // 쓰기 요청은 같은 트랜잭션에 outbox 이벤트 INSERT 가 하나씩 더해진다.
+    // 거래 저장은 일별 집계 UPDATE 가 하나 더해지고, 그날 계좌의 첫 거래는
+    // 집계 행을 만들기 위해 계좌 행 잠금, 재확인 UPDATE, INSERT 가 더해진다.
+    private static final long CREATE_ACCOUNT_BUDGET = 6;
+    private static final long DELETE_ACCOUNT_BUDGET = 5;
+    private static final long GET_ACCOUNTS_BUDGET = 4;
+    private static final long GET_ACCOUNTS_NOT_MODIFIED_BUDGET = 1;
+    // 계좌 락을 잡기 전에 계좌의 샤드 수를 읽는 SELECT 가 하나 더해진다.
+    private static final long USE_BALANCE_BUDGET = 11;
+    private static final long FAILED_USE_BALANCE_BUDGET = 11;
+    private static final long CANCEL_BALANCE_BUDGET = 10;
+    // 사용자와 두 계좌를 읽고, 두 계좌에 거래를 하나씩 저장하므로 거래 INSERT, outbox INSERT,
+    // 집계 UPDATE 와 그날 첫 거래의 집계 행 생성이 계좌마다 더해진다. 커밋 때 두 계좌를 UPDATE 한다.
+    private static final long TRANSFER_BALANCE_BUDGET = 18;
+    // 락 없는 원자적 UPDATE 뒤에 계좌와 (영속성 컨텍스트가 비워져) 사용자를 다시 읽는다.
+    private static final long DEPOSIT_BALANCE_BUDGET = 10;
+    // 승인/캡처/취소의 조건부 UPDATE 는 영속성 컨텍스트를 비우므로, 뒤에서 다시 읽는
+    // 승인 건과 계좌는 계좌와 사용자를 각각 읽는 SELECT 까지 센다.
+    private static final long AUTHORIZE_BALANCE_BUDGET = 5;
+    // 캡처는 거래 저장까지 하므로 outbox INSERT, 집계 UPDATE 와 그날 첫 거래의 집계 행 생성이 더해진다.
+    private static final long CAPTURE_BALANCE_BUDGET = 14;
+    private static final long VOID_BALANCE_BUDGET = 9;
+    // 샤드 행은 IDENTITY 키라 묶이지 않고 샤드마다 INSERT 가 하나씩 나가므로 샤드 4 개 기준이다.
+    // 합계를 읽기 전 자동 flush 로 계좌 UPDATE 가 나간다.
+    private static final int SHARD_COUNT = 4;
+    private static final long SHARD_ACCOUNT_BALANCE_BUDGET = 10;
+    private static final long GET_TRANSACTION_BUDGET = 4;
+    private static final long GET_ACCOUNT_TRANSACTIONS_BUDGET = 2;
+    private static final long GET_TRANSACTION_SUMMARY_BUDGET = 2;
+    private static final long GET_BALANCE_AT_BUDGET = 2;
+    // 스트리밍 전에 계좌 id 를 확인하고, 거래는 한 번의 조회를 끝까지 읽어 내보낸다.
+    // 시작 시점 없이 내보내면 세그먼트 목록 확인과 보관 테이블 조회가 더해진다.
+    private static final long EXPORT_ACCOUNT_TRANSACTIONS_BUDGET = 4;
+    // 계좌 id 를 확인하고 기간의 집계 행을 한 번에 읽는다.
+    private static final long GET_DAILY_SUMMARIES_BUDGET = 2;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private AccountUserRepository accountUserRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private QueryCounter queryCounter;
+
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        queryCounter = new QueryCounter(entityManagerFactory);
+        userId = accountUserRepository.save(AccountUser.builder()
+                .name("budget")
+                .build())
+            .getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        queryCounter.close();
+    }
+
+    @Test
+    @DisplayName("계좌 생성 쿼리 수")
+    void createAccount() throws Exception {
+        queryCounter.assertAtMost(CREATE_ACCOUNT_BUDGET,
+            () -> createAccount(10000L));
+    }
+
+    @Test
+    @DisplayName("계좌 해지 쿼리 수")
+    void deleteAccount() throws Exception {
+        // given
+        String accountNumber = createAccount(0L);
+
+        // when
+        // then
+        queryCounter.assertAtMost(DELETE_ACCOUNT_BUDGET,
+            () -> MockMvcUtil.performDelete(mockMvc, "/accounts/" + accountNumber,
+                    DeleteAccount.RequestDto.builder()
+                        .userId(userId)
+                        .build())
+                .andExpect(status().isOk()));
+    }
+
+    @Test
+    @DisplayName("계좌 목록 조회 쿼리 수 - 계좌 수와 무관")
+    void getAccounts() throws Exception {
+        // given
+        for (int i = 0; i < 5; i++) {
+            createAccount(10000L);
+        }
+
+        // when
+        // then
+        queryCounter.assertAtMost(GET_ACCOUNTS_BUDGET,
+            () -> MockMvcUtil.performGet(mockMvc, "/accounts?user_id=" + userId)
+                .andExpect(status().isOk()));
+    }
+
+    @Test
+    @DisplayName("계좌 목록 조건부 조회 쿼리 수 - 버전 조회만 수행")
+    void getAccounts_NotModified() throws Exception {
+        // given
+        createAccount(10000L);
+        String eTag = MockMvcUtil.performGet(mockMvc, "/accounts?user_id=" + userId)
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setIfNoneMatch(eTag);
+
+        // when
+        // then
+        queryCounter.assertAtMost(GET_ACCOUNTS_NOT_MODIFIED_BUDGET,
+            () -> MockMvcUtil.performGet(mockMvc, "/accounts?user_id=" + userId, headers)
+                .andExpect(status().isNotModified()));
+    }
+
+    @Test
+    @DisplayName("잔액 사용 쿼리 수")
+    void useBalance() throws Exception {
+        // given
+        String accountNumber = createAccount(10000L);
+
+        // when
+        // then
+        queryCounter.assertAtMost(USE_BALANCE_BUDGET,
+            () -> useBalance(accountNumber, 1000L));
+    }
+
+    @Test
+    @DisplayName("잔액 사용 실패 쿼리 수 - 실패 거래 저장 포함")
+    void failUseBalance() throws Exception {
+        // given
+        String accountNumber = createAccount(100L);
+
+        // when
+        // then
+        queryCounter.assertAtMost(FAILED_USE_BALANCE_BUDGET,
+            () -> MockMvcUtil.performPost(mockMvc, "/transactions/use",
+                    UseBalance.RequestDto.builder()
+                        .userId(userId)
+                        .accountNumber(accountNumber)
+                        .amount(1000L)
+                        .build())
+                .andExpect(status().isBadRequest()));
+    }
+
+    @Test
+    @DisplayName("잔액 사용 취소 쿼리 수")
+    void cancelBalance() throws Exception {
+        // given
+        String accountNumber = createAccount(10000L);
+        String transactionId = useBalance(accountNumber, 1000L);
+
+        // when
+        // then
+        queryCounter.assertAtMost(CANCEL_BALANCE_BUDGET,
+            () -> MockMvcUtil.performPost(mockMvc, "/transactions/" + transactionId + "/cancel",
+                    CancelBalance.RequestDto.builder()
+                        .accountNumber(accountNumber)
+                        .amount(1000L)
+                        .build())
+                .andExpect(status().isOk()));
+    }
+
+    @Test
+    @DisplayName("송금 쿼리 수")
+    void transferBalance() throws Exception {
+        // given
+        String fromAccountNumber = createAccount(10000L);
+        String toAccountNumber = createAccount(0L);
+
+        // when
+        // then
+        queryCounter.assertAtMost(TRANSFER_BALANCE_BUDGET,
+            () -> MockMvcUtil.performPost(mockMvc, "/transactions/transfer",
+                    TransferBalance.RequestDto.builder()
+                        .userId(userId)
+                        .fromAccountNumber(fromAccountNumber)
+                        .toAccountNumber(toAccountNumber)
+                        .amount(1000L)
+                        .build())
+                .andExpect(status().isOk()));
+    }
+
+    @Test
+    @DisplayName("입금 쿼리 수")
+    void depositBalance() throws Exception {
+        // given
+        String accountNumber = createAccount(0L);
+
+        // when
+        // then
+        queryCounter.assertAtMost(DEPOSIT_BALANCE_BUDGET,
+            () -> MockMvcUtil.performPost(mockMvc, "/transactions/deposit",
+                    DepositBalance.RequestDto.builder()
+                        .accountNumber(accountNumber)
+                        .amount(1000L)
+                        .build())
+                .andExpect(status().isOk()));
+    }
+
+    @Test
+    @DisplayName("잔액 승인 쿼리 수")
+    void authorizeBalance() throws Exception {
+        // given
+        String accountNumber = createAccount(10000L);
+
+        // when
+        // then
+        queryCounter.assertAtMost(AUTHORIZE_BALANCE_BUDGET,
+            () -> authorizeBalance(accountNumber, 1000L));
+    }
+
+    @Test
+    @DisplayName("승인 캡처 쿼리 수")
+    void captureBalance() throws Exception {
+        // given
+        String accountNumber = createAccount(10000L);
+        String holdId = authorizeBalance(accountNumber, 1000L);
+
+        // when
+        // then
+        queryCounter.assertAtMost(CAPTURE_BALANCE_BUDGET,
+            () -> mockMvc.perform(post("/holds/" + holdId + "/capture"))
+                .andExpect(status().isOk()));
+    }
+
+    @Test
+    @DisplayName("승인 취소 쿼리 수")
+    void voidBalance() throws Exception {
+        // given
+        String accountNumber = createAccount(10000L);
+        String holdId = authorizeBalance(accountNumber, 1000L);
+
+        // when
+        // then
+        queryCounter.assertAtMost(VOID_BALANCE_BUDGET,
+            () -> mockMvc.perform(post("/holds/" + holdId + "/void"))
+                .andExpect(status().isOk()));
+    }
+
+    @Test
+    @DisplayName("잔액 분할 쿼리 수")
+    void shardAccountBalance() throws Exception {
+        // given
+        String accountNumber = createAccount(10000L);
+
+        // when
+        // then
+        queryCounter.assertAtMost(SHARD_ACCOUNT_BALANCE_BUDGET,
+            () -> MockMvcUtil.performPost(mockMvc, "/accounts/balance-shards",
+                    ShardAccountBalance.RequestDto.builder()
+                        .userId(userId)
+                        .accountNumber(accountNumber)
+                        .shardCount(SHARD_COUNT)
+                        .build())
+                .andExpect(status().isOk()));
+    }
+
+    @Test
+    @DisplayName("거래 조회 쿼리 수")
+    void getTransaction() throws Exception {
+        // given
+        String accountNumber = createAccount(10000L);
+        String transactionId = useBalance(accountNumber, 1000L);
+
+        // when
+        // then
+        queryCounter.assertAtMost(GET_TRANSACTION_BUDGET,
+            () -> MockMvcUtil.performGet(mockMvc, "/transactions/" + transactionId)
+                .andExpect(status().isOk()));
+    }
+
+    @Test
+    @DisplayName("계좌 거래 내역 조회 쿼리 수 - 커서 페이지도 동일")
+    void getAccountTransactions() throws Exception {
+        // given
+        String accountNumber = createAccount(10000L);
+        for (int i = 0; i < 5; i++) {
+            useBalance(accountNumber, 100L);
+        }
+        String response = MockMvcUtil.performGet(mockMvc,
+                "/accounts/" + accountNumber + "/transactions?size=2")
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getContentAsString();
+        String nextCursor = JsonPath.read(response, "$.nextCursor");
+
+        // when
+        // then
+        queryCounter.assertAtMost(GET_ACCOUNT_TRANSACTIONS_BUDGET,
+            () -> MockMvcUtil.performGet(mockMvc,
+                    "/accounts/" + accountNumber + "/transactions?size=2&cursor=" + nextCursor)
+                .andExpect(status().isOk()));
+    }
+
+    @Test
+    @DisplayName("거래 집계 쿼리 수 - 거래 수와 무관")
+    void getTransactionSummary() throws Exception {
+        // given
+        String accountNumber = createAccount(10000L);
+        for (int i = 0; i < 5; i++) {
+            useBalance(accountNumber, 100L);
+        }
+
+        // when
+        // then
+        queryCounter.assertAtMost(GET_TRANSACTION_SUMMARY_BUDGET,
+            () -> MockMvcUtil.performGet(mockMvc,
+                    "/accounts/" + accountNumber + "/transactions/summary")
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totals.USE.count").value(5))
+                .andExpect(jsonPath("$.totals.USE.amount").value(500)));
+    }
+
+    @Test
+    @DisplayName("시점 잔액 조회 쿼리 수 - 원장 재계산 없이 한 번 탐색")
+    void getBalanceAt() throws Exception {
+        // given
+        String accountNumber = createAccount(10000L);
+        for (int i = 0; i < 5; i++) {
+            useBalance(accountNumber, 100L);
+        }
+
+        // when
+        // then
+        queryCounter.assertAtMost(GET_BALANCE_AT_BUDGET,
+            () -> MockMvcUtil.performGet(mockMvc, "/accounts/" + accountNumber
+                    + "/balance?at=" + LocalDateTime.now().plusMinutes(1))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.balance").value(9500))
+                .andExpect(jsonPath("$.source").value("TRANSACTION")));
+    }
+
+    @Test
+    @DisplayName("계좌 거래 내역 내보내기 쿼리 수 - 거래 수와 무관")
+    void exportAccountTransactions() throws Exception {
+        // given
+        String accountNumber = createAccount(10000L);
+        for (int i = 0; i < 5; i++) {
+            useBalance(accountNumber, 100L);
+        }
+
+        // when
+        // then
+        queryCounter.assertAtMost(EXPORT_ACCOUNT_TRANSACTIONS_BUDGET, () -> {
+            MvcResult mvcResult = MockMvcUtil.performGet(mockMvc,
+                    "/accounts/" + accountNumber + "/transactions/export?format=CSV")
+                .andExpect(request().asyncStarted())
+                .andReturn();
+            // 응답 본문은 비동기로 쓰이므로 다 쓸 때까지 기다린 뒤 센다.
+            mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk());
+        });
+    }
+
+    @Test
+    @DisplayName("일별 집계 조회 쿼리 수 - 기간과 무관")
+    void getDailySummaries() throws Exception {
+        // given
+        String accountNumber = createAccount(10000L);
+        for (int i = 0; i < 5; i++) {
+            useBalance(accountNumber, 100L);
+        }
+        LocalDate today = LocalDate.now();
+
+        // when
+        // then
+        queryCounter.assertAtMost(GET_DAILY_SUMMARIES_BUDGET,
+            () -> MockMvcUtil.performGet(mockMvc, "/accounts/" + accountNumber
+                    + "/daily-summaries?from=" + today.minusDays(30) + "&to=" + today)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1)));
+    }
+
+    private String createAccount(Long initialBalance) throws Exception {
+        String response = MockMvcUtil.performPost(mockMvc, "/accounts",
+                CreateAccount.RequestDto.builder()
+                    .userId(userId)
+                    .initialBalance(initialBalance)
+                    .build())
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getContentAsString();
+
+        return JsonPath.read(response, "$.accountNumber");
+    }
+
+    private String useBalance(String accountNumber, Long amount) throws Exception {
+        String response = MockMvcUtil.performPost(mockMvc, "/transactions/use",
+                UseBalance.RequestDto.builder()
+                    .userId(userId)
+                    .accountNumber(accountNumber)
+                    .amount(amount)
+                    .build())
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getContentAsString();
+
+        return JsonPath.read(response, "$.transactionId");
+    }
+
+    private String authorizeBalance(String accountNumber, Long amount) throws Exception {
+        String response = MockMvcUtil.performPost(mockMvc, "/holds",
+                AuthorizeBalance.RequestDto.builder()
+                    .userId(userId)
+                    .accountNumber(accountNumber)
+                    .amount(amount)
+                    .build())
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getContentAsString();
+
+        return JsonPath.read(response, "$.holdId");
+    }
+}
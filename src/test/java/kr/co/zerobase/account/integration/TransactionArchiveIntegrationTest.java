@@ -0,0 +1,78 @@
+package kr.co.zerobase.account.integration;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDateTime;
+import kr.co.zerobase.account.repository.ArchivedTransactionRepository;
+import kr.co.zerobase.account.repository.TransactionRepository;
+import kr.co.zerobase.account.service.TransactionArchiveService;
+import kr.co.zerobase.account.util.MockMvcUtil;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.ResultActions;
+
+public class TransactionArchiveIntegrationTest extends BaseIntegrationTest {
+
+    @Autowired
+    private TransactionArchiveService transactionArchiveService;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private ArchivedTransactionRepository archivedTransactionRepository;
+
+    @Test
+    @DisplayName("보관된 거래도 거래 아이디로 조회")
+    void queryArchivedTransaction() throws Exception {
+        // given
+        int archived = archiveAll();
+
+        // when
+        ResultActions resultActions = MockMvcUtil.performGet(mockMvc, "/transactions/TRAN1");
+
+        // then
+        assertTrue(archived > 0);
+        assertTrue(transactionRepository.findByTransactionId("TRAN1").isEmpty());
+        assertTrue(archivedTransactionRepository.findByTransactionId("TRAN1").isPresent());
+        resultActions
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.transactionId").value("TRAN1"))
+            .andExpect(jsonPath("$.accountNumber").value("1000000000"))
+            .andExpect(jsonPath("$.amount").value(1000));
+    }
+
+    @Test
+    @DisplayName("시점 잔액 조회 - 원장에 없으면 보관된 거래의 잔액 스냅샷")
+    void getBalanceAtFromArchivedTransactions() throws Exception {
+        // given
+        archiveAll();
+
+        // when
+        ResultActions resultActions = MockMvcUtil.performGet(mockMvc,
+            "/accounts/1000000000/balance?at=" + LocalDateTime.now().plusMinutes(1));
+
+        // then
+        assertTrue(transactionRepository.findByTransactionId("TRAN4").isEmpty());
+        resultActions
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.balance").value(9000))
+            .andExpect(jsonPath("$.source").value("TRANSACTION"));
+    }
+
+    // 보관 기준을 0일로 낮춰 지금까지의 거래를 모두 옮긴다.
+    private int archiveAll() {
+        Object target = AopTestUtils.getTargetObject(transactionArchiveService);
+        ReflectionTestUtils.setField(target, "minAgeDays", 0);
+        try {
+            return transactionArchiveService.archiveBatch();
+        } finally {
+            ReflectionTestUtils.setField(target, "minAgeDays", 365);
+        }
+    }
+}
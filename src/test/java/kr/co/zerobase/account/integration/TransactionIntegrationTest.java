@@ -18,6 +18,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import kr.co.zerobase.account.dto.CancelBalance;
+import kr.co.zerobase.account.dto.DepositBalance;
 import kr.co.zerobase.account.dto.UseBalance;
 import kr.co.zerobase.account.util.MockMvcUtil;
 import org.junit.jupiter.api.DisplayName;
@@ -27,6 +28,7 @@ import org.springframework.test.web.servlet.ResultActions;
 public class TransactionIntegrationTest extends BaseIntegrationTest {
 
     private static final String USE_BALANCE_URL = "/transactions/use";
+    private static final String DEPOSIT_BALANCE_URL = "/transactions/deposit";
 
     @Test
     @DisplayName("잔액 사용 성공")
@@ -51,6 +53,29 @@ public class TransactionIntegrationTest extends BaseIntegrationTest {
             .andExpect(jsonPath("$.transactedAt").isNotEmpty());
     }
 
+    @Test
+    @DisplayName("입금 성공 - 락 없이 원자적 갱신")
+    void successDepositBalance() throws Exception {
+        // given
+        // when
+        DepositBalance.RequestDto request = DepositBalance.RequestDto.builder()
+            .accountNumber("1000000000")
+            .amount(1000L)
+            .build();
+
+        ResultActions resultActions = MockMvcUtil.performPost(mockMvc, DEPOSIT_BALANCE_URL,
+            request);
+
+        // then
+        resultActions
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.accountNumber").value("1000000000"))
+            .andExpect(jsonPath("$.transactionResult").value(S.toString()))
+            .andExpect(jsonPath("$.transactionId").value(hasLength(32)))
+            .andExpect(jsonPath("$.amount").value(1000))
+            .andExpect(jsonPath("$.balanceSnapshot").value(11000));
+    }
+
     @Test
     @DisplayName("잔액 사용 실패 - 사용자 없음")
     void failUseBalance_UserNotFound() throws Exception {
@@ -0,0 +1,67 @@
+package kr.co.zerobase.account.integration;
+
+import static kr.co.zerobase.account.type.ErrorCode.INVALID_REQUEST;
+import static kr.co.zerobase.account.type.ErrorCode.USER_NOT_FOUND;
+import static kr.co.zerobase.account.type.TransactionResultType.F;
+import static kr.co.zerobase.account.type.TransactionResultType.S;
+import static kr.co.zerobase.account.type.TransactionType.CANCEL;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import kr.co.zerobase.account.domain.Transaction;
+import kr.co.zerobase.account.repository.TransactionRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+
+public class TransactionRetentionIntegrationTest extends BaseIntegrationTest {
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Test
+    @DisplayName("삭제 대상 실패 거래 조회 - 결과/오류 코드/기준 시각으로 거름")
+    void findPurgeableIds() {
+        // given
+        LocalDateTime cutoff = LocalDateTime.now().plusMinutes(1);
+
+        // when
+        List<Long> ids = transactionRepository.findPurgeableIds(F, INVALID_REQUEST, cutoff,
+            PageRequest.of(0, 10));
+
+        // then
+        assertEquals(List.of(2L), ids);
+        assertTrue(transactionRepository.findPurgeableIds(F, USER_NOT_FOUND, cutoff,
+            PageRequest.of(0, 10)).isEmpty());
+        assertTrue(transactionRepository.findPurgeableIds(F, INVALID_REQUEST,
+            LocalDateTime.now().minusDays(1), PageRequest.of(0, 10)).isEmpty());
+    }
+
+    @Test
+    @DisplayName("삭제 대상 실패 거래 조회 - 다른 거래가 참조하는 거래는 남김")
+    void findPurgeableIds_referenced() {
+        // given
+        Transaction failed = transactionRepository.findByTransactionId("TRAN2")
+            .orElseThrow(IllegalStateException::new);
+        transactionRepository.save(Transaction.builder()
+            .transactionType(CANCEL)
+            .transactionResultType(S)
+            .account(failed.getAccount())
+            .amount(failed.getAmount())
+            .balanceSnapshot(failed.getBalanceSnapshot())
+            .transactionId("TRAN6")
+            .transactedAt(LocalDateTime.now())
+            .transactionForCancel(failed)
+            .build());
+
+        // when
+        List<Long> ids = transactionRepository.findPurgeableIds(F, INVALID_REQUEST,
+            LocalDateTime.now().plusMinutes(1), PageRequest.of(0, 10));
+
+        // then
+        assertTrue(ids.isEmpty());
+    }
+}
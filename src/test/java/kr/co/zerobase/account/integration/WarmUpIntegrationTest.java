@@ -0,0 +1,62 @@
+package kr.co.zerobase.account.integration;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import jdk.jfr.consumer.RecordedEvent;
+import kr.co.zerobase.account.config.WarmUpRunner;
+import kr.co.zerobase.account.domain.Account;
+import kr.co.zerobase.account.repository.AccountRepository;
+import kr.co.zerobase.account.util.JfrEvents;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+@SpringBootTest(properties = {
+    "account.scheduling.enabled=false",
+    "account.warm-up.enabled=true",
+    "account.warm-up.iterations=2"
+})
+@ExtendWith({SpringExtension.class, OutputCaptureExtension.class})
+public class WarmUpIntegrationTest {
+
+    @Autowired
+    private WarmUpRunner warmUpRunner;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Test
+    @DisplayName("워밍업 - 메트릭/JFR 이벤트 미기록, 합성 데이터 롤백")
+    void warmUp(CapturedOutput output) throws Exception {
+        // given
+        // when
+        List<RecordedEvent> events = JfrEvents.record(
+            () -> warmUpRunner.run(new DefaultApplicationArguments()),
+            "kr.co.zerobase.account.LedgerWrite",
+            "kr.co.zerobase.account.LockAcquire",
+            "kr.co.zerobase.account.LockRelease");
+
+        // then
+        assertTrue(output.getOut().contains("warm-up finished"));
+        assertFalse(output.getOut().contains("warm-up stopped"));
+        assertTrue(events.isEmpty());
+        assertTrue(meterRegistry.find("account.transaction.results").counters().isEmpty());
+        assertTrue(meterRegistry.find("account.transaction.phase").timers().isEmpty());
+        assertTrue(meterRegistry.find("account.lock.acquire").timers().isEmpty());
+        assertTrue(accountRepository.findAll().stream()
+            .map(Account::getAccountNumber)
+            .noneMatch(accountNumber -> accountNumber.startsWith("W")));
+    }
+}
@@ -0,0 +1,296 @@
+package kr.co.zerobase.account.load;
+
+import static java.util.stream.Collectors.counting;
+import static java.util.stream.Collectors.groupingBy;
+import static kr.co.zerobase.account.type.ErrorCode.MODIFY_ACCOUNT_LOCK_WAITERS_EXCEEDED;
+import static kr.co.zerobase.account.type.ErrorCode.MODIFY_ACCOUNT_TRANSACTION_LOCK;
+import static kr.co.zerobase.account.type.ErrorCode.WRITE_BULKHEAD_FULL;
+import static kr.co.zerobase.account.type.TransactionResultType.S;
+import static kr.co.zerobase.account.type.TransactionType.CANCEL;
+import static kr.co.zerobase.account.type.TransactionType.USE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.boot.test.context.SpringBootTest.WebEnvironment.RANDOM_PORT;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import kr.co.zerobase.account.domain.Account;
+import kr.co.zerobase.account.domain.Transaction;
+import kr.co.zerobase.account.dto.CancelBalance;
+import kr.co.zerobase.account.dto.CreateAccount;
+import kr.co.zerobase.account.dto.UseBalance;
+import kr.co.zerobase.account.repository.AccountRepository;
+import kr.co.zerobase.account.repository.TransactionRepository;
+import kr.co.zerobase.account.type.ErrorCode;
+import kr.co.zerobase.account.type.TransactionType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.ResponseEntity;
+
+// ./gradlew loadTest -Dload.threads=32 -Dload.duration-seconds=30
+@Tag("load")
+@SpringBootTest(webEnvironment = RANDOM_PORT)
+class TransactionLoadTest {
+
+    private static final int THREADS = Integer.getInteger("load.threads", 32);
+    private static final int DURATION_SECONDS = Integer.getInteger("load.duration-seconds", 30);
+
+    private static final int HOT_ACCOUNTS = 3;
+    private static final int HOT_TRAFFIC_PERCENT = 80;
+    private static final int CANCEL_PERCENT = 30;
+    private static final int DUPLICATE_CANCEL_PERCENT = 10;
+    private static final int MAX_ACCOUNT_PER_USER = 10;
+    private static final long INITIAL_BALANCE = 100_000_000L;
+
+    private static final Set<ErrorCode> LOCK_FAILURES = EnumSet.of(
+        MODIFY_ACCOUNT_TRANSACTION_LOCK,
+        MODIFY_ACCOUNT_LOCK_WAITERS_EXCEEDED,
+        WRITE_BULKHEAD_FULL);
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    private final Map<String, Long> accountOwners = new LinkedHashMap<>();
+    private final List<String> hotAccounts = new ArrayList<>();
+    private final List<String> coldAccounts = new ArrayList<>();
+    private final ConcurrentLinkedQueue<UsedBalance> cancelQueue = new ConcurrentLinkedQueue<>();
+    private final Stats useStats = new Stats();
+    private final Stats cancelStats = new Stats();
+
+    @Test
+    @DisplayName("핫/콜드 계좌 동시 사용/취소 - 잔액 및 중복 취소 불변식")
+    void useAndCancelUnderContention() throws Exception {
+        // given
+        // 사용자 3(계좌 없음)에 핫 계좌와 콜드 계좌, 사용자 2(계좌 1개)에 콜드 계좌 생성
+        for (int i = 0; i < MAX_ACCOUNT_PER_USER; i++) {
+            (i < HOT_ACCOUNTS ? hotAccounts : coldAccounts).add(createAccount(3L));
+        }
+        for (int i = 1; i < MAX_ACCOUNT_PER_USER; i++) {
+            coldAccounts.add(createAccount(2L));
+        }
+
+        long lastTransactionId = transactionRepository.findAll().stream()
+            .mapToLong(Transaction::getId)
+            .max()
+            .orElse(0L);
+
+        // when
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(DURATION_SECONDS);
+
+        List<Future<?>> workers = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            workers.add(executor.submit(() -> {
+                start.await();
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                while (System.nanoTime() < deadline) {
+                    UsedBalance usedBalance = random.nextBoolean() ? cancelQueue.poll() : null;
+                    if (usedBalance == null) {
+                        useBalance(random);
+                    } else {
+                        cancelBalance(usedBalance, random);
+                    }
+                }
+                return null;
+            }));
+        }
+
+        long startedAt = System.nanoTime();
+        start.countDown();
+        for (Future<?> worker : workers) {
+            worker.get();
+        }
+        long elapsedNanos = System.nanoTime() - startedAt;
+        executor.shutdown();
+
+        report("use", useStats, elapsedNanos);
+        report("cancel", cancelStats, elapsedNanos);
+
+        // then
+        List<Transaction> ledger = transactionRepository.findAll().stream()
+            .filter(transaction -> transaction.getId() > lastTransactionId)
+            .collect(Collectors.toList());
+
+        for (String accountNumber : accountOwners.keySet()) {
+            long used = sumSucceeded(ledger, accountNumber, USE);
+            long canceled = sumSucceeded(ledger, accountNumber, CANCEL);
+            Account account = accountRepository.findByAccountNumber(accountNumber).orElseThrow();
+
+            assertEquals(INITIAL_BALANCE - used + canceled, account.getBalance(),
+                "balance mismatch for " + accountNumber);
+        }
+
+        Map<Long, Long> cancelsPerTransaction = ledger.stream()
+            .filter(transaction -> transaction.getTransactionType() == CANCEL
+                && transaction.getTransactionResultType() == S)
+            .collect(groupingBy(transaction -> transaction.getTransactionForCancel().getId(),
+                counting()));
+
+        assertTrue(cancelsPerTransaction.values().stream().allMatch(count -> count == 1),
+            "transaction canceled more than once");
+        assertEquals(cancelsPerTransaction.size(), ledger.stream()
+            .filter(transaction -> transaction.getTransactionType() == USE
+                && transaction.getTransactionResultType() == S
+                && transaction.isCanceled())
+            .count());
+        assertEquals(useStats.succeeded.sum(), ledger.stream()
+            .filter(transaction -> transaction.getTransactionType() == USE
+                && transaction.getTransactionResultType() == S)
+            .count());
+        assertEquals(cancelStats.succeeded.sum(), cancelsPerTransaction.size());
+    }
+
+    private String createAccount(Long userId) {
+        JsonNode response = restTemplate.postForObject("/accounts",
+            CreateAccount.RequestDto.builder()
+                .userId(userId)
+                .initialBalance(INITIAL_BALANCE)
+                .build(),
+            JsonNode.class);
+
+        String accountNumber = response.get("accountNumber").asText();
+        accountOwners.put(accountNumber, userId);
+        return accountNumber;
+    }
+
+    private void useBalance(ThreadLocalRandom random) {
+        List<String> accounts = random.nextInt(100) < HOT_TRAFFIC_PERCENT
+            ? hotAccounts : coldAccounts;
+        String accountNumber = accounts.get(random.nextInt(accounts.size()));
+        long amount = random.nextLong(10, 1_000);
+
+        ResponseEntity<JsonNode> response = useStats.record(() ->
+            restTemplate.postForEntity("/transactions/use",
+                UseBalance.RequestDto.builder()
+                    .userId(accountOwners.get(accountNumber))
+                    .accountNumber(accountNumber)
+                    .amount(amount)
+                    .build(),
+                JsonNode.class));
+
+        if (response.getStatusCode().is2xxSuccessful()
+            && random.nextInt(100) < CANCEL_PERCENT) {
+            cancelQueue.offer(new UsedBalance(
+                response.getBody().get("transactionId").asText(), accountNumber, amount));
+        }
+    }
+
+    private void cancelBalance(UsedBalance usedBalance, ThreadLocalRandom random) {
+        // 일부 거래는 다시 넣어 다른 스레드와 동시에 중복 취소를 시도한다.
+        if (random.nextInt(100) < DUPLICATE_CANCEL_PERCENT) {
+            cancelQueue.offer(usedBalance);
+        }
+
+        cancelStats.record(() ->
+            restTemplate.postForEntity(
+                "/transactions/" + usedBalance.transactionId + "/cancel",
+                CancelBalance.RequestDto.builder()
+                    .accountNumber(usedBalance.accountNumber)
+                    .amount(usedBalance.amount)
+                    .build(),
+                JsonNode.class));
+    }
+
+    private static long sumSucceeded(List<Transaction> ledger, String accountNumber,
+        TransactionType transactionType) {
+        return ledger.stream()
+            .filter(transaction -> transaction.getTransactionType() == transactionType
+                && transaction.getTransactionResultType() == S
+                && transaction.getAccount().getAccountNumber().equals(accountNumber))
+            .mapToLong(Transaction::getAmount)
+            .sum();
+    }
+
+    private static void report(String name, Stats stats, long elapsedNanos) {
+        long[] latencies = stats.latencies.stream().mapToLong(Long::longValue).sorted().toArray();
+        long requests = latencies.length;
+
+        System.out.printf(
+            "[load] %s: requests=%d, throughput=%.1f req/s, succeeded=%d, failed=%d, "
+                + "lockFailureRate=%.2f%%, p50=%.2f ms, p99=%.2f ms%n",
+            name,
+            requests,
+            requests / (elapsedNanos / 1e9),
+            stats.succeeded.sum(),
+            stats.failed.sum(),
+            requests == 0 ? 0.0 : stats.lockFailed.sum() * 100.0 / requests,
+            percentile(latencies, 50) / 1e6,
+            percentile(latencies, 99) / 1e6);
+    }
+
+    private static long percentile(long[] sortedLatencies, int percentile) {
+        if (sortedLatencies.length == 0) {
+            return 0L;
+        }
+
+        int index = (int) Math.ceil(percentile / 100.0 * sortedLatencies.length) - 1;
+        return sortedLatencies[Math.max(index, 0)];
+    }
+
+    private static class UsedBalance {
+
+        private final String transactionId;
+        private final String accountNumber;
+        private final long amount;
+
+        private UsedBalance(String transactionId, String accountNumber, long amount) {
+            this.transactionId = transactionId;
+            this.accountNumber = accountNumber;
+            this.amount = amount;
+        }
+    }
+
+    private static class Stats {
+
+        private final ConcurrentLinkedQueue<Long> latencies = new ConcurrentLinkedQueue<>();
+        private final LongAdder succeeded = new LongAdder();
+        private final LongAdder failed = new LongAdder();
+        private final LongAdder lockFailed = new LongAdder();
+
+        private ResponseEntity<JsonNode> record(
+            Supplier<ResponseEntity<JsonNode>> request) {
+            long startedAt = System.nanoTime();
+            ResponseEntity<JsonNode> response = request.get();
+            latencies.add(System.nanoTime() - startedAt);
+
+            if (response.getStatusCode().is2xxSuccessful()) {
+                succeeded.increment();
+                return response;
+            }
+
+            failed.increment();
+            JsonNode errorCode = response.getBody() == null
+                ? null : response.getBody().get("errorCode");
+            if (errorCode != null && LOCK_FAILURES.contains(ErrorCode.valueOf(errorCode.asText()))) {
+                lockFailed.increment();
+            }
+            return response;
+        }
+    }
+}
@@ -0,0 +1,256 @@
+package kr.co.zerobase.account.segment;
+
+import static kr.co.zerobase.account.type.ErrorCode.AMOUNT_EXCEED_BALANCE;
+import static kr.co.zerobase.account.type.TransactionResultType.F;
+import static kr.co.zerobase.account.type.TransactionResultType.S;
+import static kr.co.zerobase.account.type.TransactionType.CANCEL;
+import static kr.co.zerobase.account.type.TransactionType.USE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.BDDMockito.given;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import kr.co.zerobase.account.domain.LedgerSegmentFile;
+import kr.co.zerobase.account.repository.LedgerSegmentFileRepository;
+import kr.co.zerobase.account.repository.LedgerSum;
+import kr.co.zerobase.account.type.TransactionType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class LedgerSegmentStoreTest {
+
+    private static final LocalDateTime TRANSACTED_AT = LocalDateTime.of(2020, 1, 1, 9, 30, 15,
+        123_456_789);
+
+    @TempDir
+    Path directory;
+
+    @Mock
+    private LedgerSegmentFileRepository ledgerSegmentFileRepository;
+
+    private LedgerSegmentStore ledgerSegmentStore;
+
+    @BeforeEach
+    void setUp() {
+        ledgerSegmentStore = newStore(directory);
+    }
+
+    @Test
+    @DisplayName("세그먼트 조회 - 여러 블록에 걸친 거래를 거래 아이디로 조회")
+    void findByTransactionId() throws IOException {
+        // given
+        seal(records(3000));
+
+        // when
+        SegmentRecord first = ledgerSegmentStore.findByTransactionId("TRAN00000").orElseThrow();
+        SegmentRecord last = ledgerSegmentStore.findByTransactionId("TRAN02999").orElseThrow();
+        SegmentRecord failed = ledgerSegmentStore.findByTransactionId("TRAN02000").orElseThrow();
+
+        // then
+        assertEquals(1L, first.getId());
+        assertEquals("1000000001", first.getAccountNumber());
+        assertEquals(USE, first.getTransactionType());
+        assertEquals(S, first.getTransactionResultType());
+        assertNull(first.getErrorCode());
+        assertEquals(TRANSACTED_AT, first.getTransactedAt());
+        assertEquals(3000L, last.getId());
+        assertEquals(2L, last.getVersion());
+        assertEquals(AMOUNT_EXCEED_BALANCE, failed.getErrorCode());
+        assertTrue(ledgerSegmentStore.findByTransactionId("TRAN03000").isEmpty());
+        assertTrue(ledgerSegmentStore.findByTransactionId("TRAN01500X").isEmpty());
+    }
+
+    @Test
+    @DisplayName("세그먼트 조회 - 계좌 범위의 원장 합계")
+    void sumAmountsByAccountIdRange() throws IOException {
+        // given
+        LedgerSegment segment = seal(records(3000));
+        given(ledgerSegmentFileRepository.findFileNames())
+            .willReturn(List.of(segment.getPath().getFileName().toString()));
+
+        // when
+        Map<TransactionType, Long> sums = sums(2L, 2L);
+        Map<TransactionType, Long> allSums = sums(1L, 3L);
+
+        // then
+        // 계좌 2 는 인덱스 1, 4, 7 ... 의 거래이다. 1000 번째 이후는 취소, 2000 번째 이후는 실패
+        assertEquals(333L * 1000, sums.get(USE));
+        assertEquals(334L * 1000, sums.get(CANCEL));
+        assertEquals(1000L * 1000, allSums.get(USE));
+        assertEquals(1000L * 1000, allSums.get(CANCEL));
+        assertTrue(sums(4L, 10L).isEmpty());
+    }
+
+    @Test
+    @DisplayName("세그먼트 조회 - 호출한 트랜잭션에서 보이지 않는 세그먼트는 합계에서 제외")
+    void sumAmountsByAccountIdRange_NotVisibleSegment() throws IOException {
+        // given
+        seal(records(3000));
+        given(ledgerSegmentFileRepository.findFileNames())
+            .willReturn(List.of());
+
+        // when
+        Map<TransactionType, Long> sums = sums(1L, 3L);
+
+        // then
+        assertTrue(sums.isEmpty());
+    }
+
+    @Test
+    @DisplayName("세그먼트 조회 - 여러 블록에 걸친 계좌 하나의 거래")
+    void findByAccountId() throws IOException {
+        // given
+        seal(records(3000));
+
+        // when
+        List<SegmentRecord> records = ledgerSegmentStore.findByAccountId(2L);
+
+        // then
+        assertEquals(1000, records.size());
+        assertTrue(records.stream().allMatch(record -> record.getAccountId() == 2L
+            && "1000000002".equals(record.getAccountNumber())
+            && TRANSACTED_AT.equals(record.getTransactedAt())));
+        assertTrue(ledgerSegmentStore.findByAccountId(4L).isEmpty());
+    }
+
+    @Test
+    @DisplayName("세그먼트 로드 - 재시작 후 등록된 세그먼트를 다시 읽음")
+    void load() throws IOException {
+        // given
+        LedgerSegment segment = seal(records(10));
+        given(ledgerSegmentFileRepository.findByIdGreaterThanOrderByIdAsc(0L))
+            .willReturn(List.of(recorded(1L, segment)));
+        LedgerSegmentStore reloaded = newStore(directory);
+
+        // when
+        reloaded.load();
+
+        // then
+        assertEquals(5L, reloaded.findByTransactionId("TRAN00004").orElseThrow().getId());
+    }
+
+    @Test
+    @DisplayName("세그먼트 로드 - 봉인이 커밋되지 않아 등록되지 않은 파일은 읽지 않음")
+    void load_UnrecordedFile() throws IOException {
+        // given
+        ledgerSegmentStore.write(records(10));
+        LedgerSegmentStore reloaded = newStore(directory);
+
+        // when
+        reloaded.load();
+
+        // then
+        assertTrue(reloaded.findByTransactionId("TRAN00004").isEmpty());
+    }
+
+    @Test
+    @DisplayName("세그먼트 로드 실패 - 등록된 파일이 없는 디렉토리면 시작하지 않음")
+    void load_OtherDirectory() throws IOException {
+        // given
+        LedgerSegment segment = ledgerSegmentStore.write(records(10));
+        given(ledgerSegmentFileRepository.findByIdGreaterThanOrderByIdAsc(0L))
+            .willReturn(List.of(recorded(1L, segment)));
+        LedgerSegmentStore other = newStore(directory.resolve("other"));
+
+        // when
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+            other::load);
+
+        // then
+        assertTrue(exception.getMessage().contains(segment.getPath().getFileName().toString()));
+    }
+
+    @Test
+    @DisplayName("세그먼트 로드 실패 - 봉인을 켰는데 디렉토리가 없으면 시작하지 않음")
+    void load_DirectoryNotConfigured() {
+        // given
+        LedgerSegmentStore store = new LedgerSegmentStore(ledgerSegmentFileRepository);
+        ReflectionTestUtils.setField(store, "directory", "");
+        ReflectionTestUtils.setField(store, "enabled", true);
+
+        // when
+        // then
+        assertThrows(IllegalStateException.class, store::load);
+    }
+
+    @Test
+    @DisplayName("세그먼트 조회 - 다른 노드가 나중에 봉인한 세그먼트도 조회")
+    void findByTransactionId_SealedByOtherNode() throws IOException {
+        // given
+        LedgerSegment segment = ledgerSegmentStore.write(records(10));
+        given(ledgerSegmentFileRepository.findByIdGreaterThanOrderByIdAsc(0L))
+            .willReturn(List.of(), List.of(recorded(1L, segment)));
+        LedgerSegmentStore reader = newStore(directory);
+        reader.load();
+
+        // when
+        Optional<SegmentRecord> record = reader.findByTransactionId("TRAN00004");
+
+        // then
+        assertEquals(5L, record.orElseThrow().getId());
+    }
+
+    private LedgerSegmentStore newStore(Path directory) {
+        LedgerSegmentStore store = new LedgerSegmentStore(ledgerSegmentFileRepository);
+        ReflectionTestUtils.setField(store, "directory", directory.toString());
+        return store;
+    }
+
+    private LedgerSegment seal(List<SegmentRecord> records) throws IOException {
+        LedgerSegment segment = ledgerSegmentStore.write(records);
+        ledgerSegmentStore.publish(segment);
+        return segment;
+    }
+
+    private Map<TransactionType, Long> sums(long fromId, long toId) {
+        return ledgerSegmentStore.sumAmountsByAccountIdRange(fromId, toId, S).stream()
+            .collect(Collectors.toMap(LedgerSum::getTransactionType, LedgerSum::getAmount));
+    }
+
+    private static LedgerSegmentFile recorded(Long id, LedgerSegment segment) {
+        return LedgerSegmentFile.builder()
+            .id(id)
+            .fileName(segment.getPath().getFileName().toString())
+            .rowCount(segment.getRowCount())
+            .fileSize(segment.getFileSize())
+            .build();
+    }
+
+    // 계좌 1~3 을 번갈아 쓰고 1000 건마다 USE(S), CANCEL(S), USE(F) 로 바뀐다.
+    private static List<SegmentRecord> records(int count) {
+        List<SegmentRecord> records = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            boolean failed = i >= 2000;
+            records.add(SegmentRecord.builder()
+                .id(i + 1)
+                .version(2L)
+                .accountId(i % 3 + 1)
+                .accountNumber("100000000" + (i % 3 + 1))
+                .transactionType(i >= 1000 && i < 2000 ? CANCEL : USE)
+                .transactionResultType(failed ? F : S)
+                .errorCode(failed ? AMOUNT_EXCEED_BALANCE : null)
+                .amount(1000L)
+                .balanceSnapshot(9000L)
+                .transactionId(String.format("TRAN%05d", i))
+                .transactedAt(TRANSACTED_AT)
+                .build());
+        }
+        return records;
+    }
+}
@@ -7,17 +7,23 @@ import static kr.co.zerobase.account.type.ErrorCode.BALANCE_NOT_EMPTY;
 import static kr.co.zerobase.account.type.ErrorCode.MAX_ACCOUNT_PER_USER;
 import static kr.co.zerobase.account.type.ErrorCode.USER_ACCOUNT_UN_MATCH;
 import static kr.co.zerobase.account.type.ErrorCode.USER_NOT_FOUND;
+import static kr.co.zerobase.account.type.OutboxEventType.ACCOUNT_CREATED;
+import static kr.co.zerobase.account.type.OutboxEventType.ACCOUNT_UNREGISTERED;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import kr.co.zerobase.account.domain.Account;
@@ -26,10 +32,12 @@ import kr.co.zerobase.account.dto.AccountDto;
 import kr.co.zerobase.account.exception.AccountException;
 import kr.co.zerobase.account.repository.AccountRepository;
 import kr.co.zerobase.account.repository.AccountUserRepository;
+import kr.co.zerobase.account.repository.EntityVersion;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -44,6 +52,12 @@ class AccountServiceTest {
     @Mock
     private AccountUserRepository accountUserRepository;
 
+    @Mock
+    private BalanceShardService balanceShardService;
+
+    @Mock
+    private OutboxService outboxService;
+
     @InjectMocks
     private AccountService accountService;
 
@@ -79,6 +93,7 @@ class AccountServiceTest {
 
         // then
         verify(accountRepository, times(1)).saveAndFlush(captor.capture());
+        verify(outboxService, times(1)).append(ACCOUNT_CREATED, "1000000000", accountDto);
         assertEquals(1L, accountDto.getUserId());
         assertEquals("1000000000", accountDto.getAccountNumber());
     }
@@ -141,6 +156,35 @@ class AccountServiceTest {
         assertEquals("1000000000", captor.getValue().getAccountNumber());
         assertEquals(UNREGISTERED, captor.getValue().getAccountStatus());
         assertNotNull(captor.getValue().getUnregisteredAt());
+        verify(outboxService, times(1)).append(ACCOUNT_UNREGISTERED, "1000000000", accountDto);
+    }
+
+    @Test
+    @DisplayName("분할 계좌 해지 성공 - 모든 샤드 락을 잡은 뒤 샤드 잔액 확인")
+    void successDeleteAccount_balanceSharded() {
+        // given
+        Account account = Account.builder()
+            .accountUser(pobi)
+            .balance(0L)
+            .accountNumber("1000000000")
+            .balanceShardCount(3)
+            .build();
+
+        given(accountUserRepository.findById(anyLong()))
+            .willReturn(Optional.of(pobi));
+        given(accountRepository.findByAccountNumber(anyString()))
+            .willReturn(Optional.of(account));
+        given(balanceShardService.getTotalBalance(account))
+            .willReturn(0L);
+
+        // when
+        accountService.deleteAccount(1L, "1000000000");
+
+        // then
+        InOrder inOrder = inOrder(balanceShardService);
+        inOrder.verify(balanceShardService).lockAllShards(account);
+        inOrder.verify(balanceShardService).getTotalBalance(account);
+        assertEquals(UNREGISTERED, account.getAccountStatus());
     }
 
     @Test
@@ -286,4 +330,49 @@ class AccountServiceTest {
         // then
         assertEquals(USER_NOT_FOUND, accountException.getErrorCode());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("계좌 목록 ETag 생성 - 버전 변경 시 ETag 변경")
+    void successGetAccountsETag() {
+        // given
+        given(accountRepository.findVersionsByAccountUserId(anyLong()))
+            .willReturn(Collections.singletonList(entityVersion(1L, 0L)))
+            .willReturn(Collections.singletonList(entityVersion(1L, 1L)));
+
+        // when
+        String before = accountService.getAccountsETag(1L);
+        String after = accountService.getAccountsETag(1L);
+
+        // then
+        assertNotNull(before);
+        assertNotEquals(before, after);
+    }
+
+    @Test
+    @DisplayName("계좌 목록 ETag 생성 - 계좌 없음")
+    void successGetAccountsETag_Empty() {
+        // given
+        given(accountRepository.findVersionsByAccountUserId(anyLong()))
+            .willReturn(Collections.emptyList());
+
+        // when
+        String eTag = accountService.getAccountsETag(1L);
+
+        // then
+        assertNull(eTag);
+    }
+
+    private static EntityVersion entityVersion(Long id, Long version) {
+        return new EntityVersion() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public Long getVersion() {
+                return version;
+            }
+        };
+    }
+}
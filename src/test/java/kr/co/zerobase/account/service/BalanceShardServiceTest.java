@@ -0,0 +1,349 @@
+package kr.co.zerobase.account.service;
+
+import static kr.co.zerobase.account.type.AccountStatus.IN_USE;
+import static kr.co.zerobase.account.type.ErrorCode.ACCOUNT_ALREADY_UNREGISTERED;
+import static kr.co.zerobase.account.type.ErrorCode.ACCOUNT_BALANCE_ALREADY_SHARDED;
+import static kr.co.zerobase.account.type.ErrorCode.AMOUNT_EXCEED_BALANCE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+import java.util.Optional;
+import kr.co.zerobase.account.domain.Account;
+import kr.co.zerobase.account.domain.AccountBalanceShard;
+import kr.co.zerobase.account.domain.AccountUser;
+import kr.co.zerobase.account.dto.AccountDto;
+import kr.co.zerobase.account.exception.AccountException;
+import kr.co.zerobase.account.repository.AccountBalanceShardRepository;
+import kr.co.zerobase.account.repository.AccountRepository;
+import kr.co.zerobase.account.repository.AccountUserRepository;
+import kr.co.zerobase.account.repository.ShardBalance;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class BalanceShardServiceTest {
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    @Mock
+    private AccountUserRepository accountUserRepository;
+
+    @Mock
+    private AccountBalanceShardRepository accountBalanceShardRepository;
+
+    @Mock
+    private LockService lockService;
+
+    @InjectMocks
+    private BalanceShardService balanceShardService;
+
+    private final AccountUser pobi = AccountUser.builder()
+        .id(1L)
+        .name("Pobi")
+        .build();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(balanceShardService, "maxModifyAccountLockWaiters", 5);
+    }
+
+    @Test
+    @DisplayName("잔액 분할 성공 - 가용 잔액을 샤드에 고르게 나눔")
+    void successShardBalance() {
+        // given
+        Account account = Account.builder()
+            .id(1L)
+            .accountUser(pobi)
+            .accountStatus(IN_USE)
+            .accountNumber("1000000000")
+            .balance(10000L)
+            .heldBalance(0L)
+            .build();
+
+        given(accountUserRepository.findById(anyLong()))
+            .willReturn(Optional.of(pobi));
+        given(accountRepository.findByAccountNumber(anyString()))
+            .willReturn(Optional.of(account));
+        given(accountBalanceShardRepository.sumBalanceByAccountId(1L))
+            .willReturn(10000L);
+
+        ArgumentCaptor<List<AccountBalanceShard>> captor = ArgumentCaptor.forClass(List.class);
+
+        // when
+        AccountDto accountDto = balanceShardService.shardBalance(1L, "1000000000", 3);
+
+        // then
+        verify(accountBalanceShardRepository, times(1)).saveAll(captor.capture());
+        assertEquals(3334L, captor.getValue().get(0).getBalance());
+        assertEquals(3333L, captor.getValue().get(1).getBalance());
+        assertEquals(3333L, captor.getValue().get(2).getBalance());
+        assertEquals(0L, account.getBalance());
+        assertEquals(3, account.getBalanceShardCount());
+        assertEquals(10000L, accountDto.getBalance());
+        assertTrue(balanceShardService.isBalanceSharded("1000000000"));
+    }
+
+    @Test
+    @DisplayName("잔액 분할 실패 - 이미 분할된 계좌")
+    void failShardBalance_alreadySharded() {
+        // given
+        given(accountUserRepository.findById(anyLong()))
+            .willReturn(Optional.of(pobi));
+        given(accountRepository.findByAccountNumber(anyString()))
+            .willReturn(Optional.of(shardedAccount(0L, 2)));
+
+        // when
+        AccountException exception = assertThrows(AccountException.class,
+            () -> balanceShardService.shardBalance(1L, "1000000000", 3));
+
+        // then
+        assertEquals(ACCOUNT_BALANCE_ALREADY_SHARDED, exception.getErrorCode());
+        verify(accountBalanceShardRepository, never()).saveAll(any());
+    }
+
+    @Test
+    @DisplayName("분할 계좌 잔액 사용 - 잔액이 충분한 샤드의 락만 잡음")
+    void successUseBalance_routeToShardWithEnoughBalance() throws Exception {
+        // given
+        Account account = shardedAccount(0L, 3);
+
+        given(accountBalanceShardRepository.findShardBalancesByAccountId(1L))
+            .willReturn(List.of(
+                shardBalance(11L, 0, 100L),
+                shardBalance(12L, 1, 5000L),
+                shardBalance(13L, 2, 200L)));
+        given(accountBalanceShardRepository.withdrawBalance(eq(12L), eq(1000L), any()))
+            .willReturn(1);
+
+        // when
+        balanceShardService.useBalance(account, 1000L);
+
+        // then
+        verify(lockService, times(1)).lock("ModifyAccountShardLock:1000000000:1", 5);
+        verify(lockService, never()).lock("ModifyAccountShardLock:1000000000:0", 5);
+        verify(lockService, times(1)).unlock("ModifyAccountShardLock:1000000000:1");
+        verify(accountBalanceShardRepository, never()).addBalance(anyLong(), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("분할 계좌 잔액 사용 - 한 샤드로 부족하면 재분배")
+    void successUseBalance_rebalance() throws Exception {
+        // given
+        Account account = shardedAccount(0L, 3);
+
+        given(accountBalanceShardRepository.findShardBalancesByAccountId(1L))
+            .willReturn(List.of(
+                shardBalance(11L, 0, 400L),
+                shardBalance(12L, 1, 400L),
+                shardBalance(13L, 2, 400L)));
+
+        // when
+        balanceShardService.useBalance(account, 1000L);
+
+        // then
+        verify(lockService, times(3)).lock(anyString(), anyInt());
+        verify(accountBalanceShardRepository, times(1)).addBalance(eq(11L), eq(-333L), any());
+        verify(accountBalanceShardRepository, times(1)).addBalance(eq(12L), eq(-333L), any());
+        verify(accountBalanceShardRepository, times(1)).addBalance(eq(13L), eq(-334L), any());
+    }
+
+    @Test
+    @DisplayName("분할 계좌 잔액 사용 - 샤드 합이 부족하면 나머지 잔액에서 채움")
+    void successUseBalance_rebalanceWithRemainingBalance() {
+        // given
+        Account account = shardedAccount(1000L, 2);
+
+        given(accountBalanceShardRepository.findShardBalancesByAccountId(1L))
+            .willReturn(List.of(
+                shardBalance(11L, 0, 100L),
+                shardBalance(12L, 1, 100L)));
+
+        // when
+        balanceShardService.useBalance(account, 500L);
+
+        // then
+        assertEquals(700L, account.getBalance());
+        verify(accountBalanceShardRepository, times(1)).addBalance(eq(11L), eq(-100L), any());
+        verify(accountBalanceShardRepository, times(1)).addBalance(eq(12L), eq(-100L), any());
+    }
+
+    @Test
+    @DisplayName("분할 계좌 잔액 사용 실패 - 전체 잔액 부족")
+    void failUseBalance_amountExceedBalance() {
+        // given
+        Account account = shardedAccount(100L, 2);
+
+        given(accountBalanceShardRepository.findShardBalancesByAccountId(1L))
+            .willReturn(List.of(
+                shardBalance(11L, 0, 100L),
+                shardBalance(12L, 1, 100L)));
+
+        // when
+        AccountException exception = assertThrows(AccountException.class,
+            () -> balanceShardService.useBalance(account, 500L));
+
+        // then
+        assertEquals(AMOUNT_EXCEED_BALANCE, exception.getErrorCode());
+        verify(accountBalanceShardRepository, never()).addBalance(anyLong(), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("분할 계좌 승인 준비 - 샤드에서 뺀 금액을 나머지 잔액에 더함")
+    void successMoveToUnshardedBalance() throws Exception {
+        // given
+        Account account = shardedAccount(0L, 2);
+
+        given(accountBalanceShardRepository.findShardBalancesByAccountId(1L))
+            .willReturn(List.of(
+                shardBalance(11L, 0, 5000L),
+                shardBalance(12L, 1, 100L)));
+        given(accountBalanceShardRepository.withdrawBalance(eq(11L), eq(1000L), any()))
+            .willReturn(1);
+        given(accountRepository.depositBalance(eq("1000000000"), eq(1000L), eq(IN_USE), any()))
+            .willReturn(1);
+
+        // when
+        balanceShardService.moveToUnshardedBalance(account, 1000L);
+
+        // then
+        verify(lockService, times(1)).lock("ModifyAccountShardLock:1000000000:0", 5);
+        verify(accountRepository, times(1))
+            .depositBalance(eq("1000000000"), eq(1000L), eq(IN_USE), any());
+    }
+
+    @Test
+    @DisplayName("분할 계좌 승인 준비 실패 - 해지된 계좌")
+    void failMoveToUnshardedBalance_alreadyUnregistered() {
+        // given
+        Account account = shardedAccount(0L, 1);
+
+        given(accountBalanceShardRepository.findShardBalancesByAccountId(1L))
+            .willReturn(List.of(shardBalance(11L, 0, 5000L)));
+        given(accountBalanceShardRepository.withdrawBalance(eq(11L), eq(1000L), any()))
+            .willReturn(1);
+        given(accountRepository.depositBalance(eq("1000000000"), eq(1000L), eq(IN_USE), any()))
+            .willReturn(0);
+
+        // when
+        AccountException exception = assertThrows(AccountException.class,
+            () -> balanceShardService.moveToUnshardedBalance(account, 1000L));
+
+        // then
+        assertEquals(ACCOUNT_ALREADY_UNREGISTERED, exception.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("분할 계좌 잔액 취소 - 샤드 하나의 락을 잡고 사용 중인 계좌에만 더함")
+    void successCancelBalance() throws Exception {
+        // given
+        Account account = shardedAccount(0L, 1);
+
+        given(accountBalanceShardRepository.addBalanceByShardIndex(eq(1L), eq(0), eq(1000L),
+            eq(IN_USE), any()))
+            .willReturn(1);
+
+        // when
+        balanceShardService.cancelBalance(account, 1000L);
+
+        // then
+        verify(lockService, times(1)).lock("ModifyAccountShardLock:1000000000:0", 5);
+        verify(lockService, times(1)).unlock("ModifyAccountShardLock:1000000000:0");
+    }
+
+    @Test
+    @DisplayName("분할 계좌 잔액 취소 실패 - 락을 기다리는 동안 해지된 계좌")
+    void failCancelBalance_alreadyUnregistered() {
+        // given
+        Account account = shardedAccount(0L, 1);
+
+        given(accountBalanceShardRepository.addBalanceByShardIndex(eq(1L), eq(0), eq(1000L),
+            eq(IN_USE), any()))
+            .willReturn(0);
+
+        // when
+        AccountException exception = assertThrows(AccountException.class,
+            () -> balanceShardService.cancelBalance(account, 1000L));
+
+        // then
+        assertEquals(ACCOUNT_ALREADY_UNREGISTERED, exception.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("분할 계좌 확인 - 계좌의 샤드 수로 확인하고 분할된 계좌는 기억")
+    void isBalanceSharded_sharded() {
+        // given
+        given(accountRepository.findBalanceShardCountByAccountNumber("1000000000"))
+            .willReturn(Optional.of(3));
+
+        // when
+        // then
+        assertTrue(balanceShardService.isBalanceSharded("1000000000"));
+        assertTrue(balanceShardService.isBalanceSharded("1000000000"));
+        verify(accountRepository, times(1)).findBalanceShardCountByAccountNumber("1000000000");
+    }
+
+    @Test
+    @DisplayName("분할하지 않은 계좌는 계좌 락을 사용")
+    void isBalanceSharded_notSharded() {
+        // given
+        given(accountRepository.findBalanceShardCountByAccountNumber("1000000000"))
+            .willReturn(Optional.empty());
+
+        // when
+        // then
+        assertFalse(balanceShardService.isBalanceSharded("1000000000"));
+        assertFalse(balanceShardService.isBalanceSharded("1000000000"));
+        verify(accountRepository, times(2)).findBalanceShardCountByAccountNumber("1000000000");
+    }
+
+    private Account shardedAccount(Long balance, int shardCount) {
+        return Account.builder()
+            .id(1L)
+            .accountUser(pobi)
+            .accountStatus(IN_USE)
+            .accountNumber("1000000000")
+            .balance(balance)
+            .heldBalance(0L)
+            .balanceShardCount(shardCount)
+            .build();
+    }
+
+    private static ShardBalance shardBalance(Long id, Integer shardIndex, Long balance) {
+        return new ShardBalance() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public Integer getShardIndex() {
+                return shardIndex;
+            }
+
+            @Override
+            public Long getBalance() {
+                return balance;
+            }
+        };
+    }
+}
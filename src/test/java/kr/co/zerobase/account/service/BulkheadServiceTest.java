@@ -0,0 +1,98 @@
+package kr.co.zerobase.account.service;
+
+import static kr.co.zerobase.account.type.BulkheadType.EXPORT;
+import static kr.co.zerobase.account.type.BulkheadType.READ;
+import static kr.co.zerobase.account.type.BulkheadType.WRITE;
+import static kr.co.zerobase.account.type.ErrorCode.EXPORT_BULKHEAD_FULL;
+import static kr.co.zerobase.account.type.ErrorCode.READ_BULKHEAD_FULL;
+import static kr.co.zerobase.account.type.ErrorCode.WRITE_BULKHEAD_FULL;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import kr.co.zerobase.account.exception.AccountException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class BulkheadServiceTest {
+
+    private final BulkheadService bulkheadService = new BulkheadService(1, 0, 1, 0, 1, 0);
+
+    @Test
+    @DisplayName("벌크헤드 획득 성공")
+    void successAcquire() throws InterruptedException {
+        // given
+        // when
+        bulkheadService.acquire(READ);
+
+        // then
+        assertEquals(0, bulkheadService.getAvailableCalls(READ));
+        assertEquals(1, bulkheadService.getAvailableCalls(WRITE));
+    }
+
+    @Test
+    @DisplayName("벌크헤드 획득 실패 - 조회 요청 초과")
+    void failAcquire_ReadBulkheadFull() throws InterruptedException {
+        // given
+        bulkheadService.acquire(READ);
+
+        // when
+        AccountException exception = assertThrows(AccountException.class,
+            () -> bulkheadService.acquire(READ));
+
+        // then
+        assertEquals(READ_BULKHEAD_FULL, exception.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("벌크헤드 획득 실패 - 거래 요청 초과")
+    void failAcquire_WriteBulkheadFull() throws InterruptedException {
+        // given
+        bulkheadService.acquire(WRITE);
+
+        // when
+        AccountException exception = assertThrows(AccountException.class,
+            () -> bulkheadService.acquire(WRITE));
+
+        // then
+        assertEquals(WRITE_BULKHEAD_FULL, exception.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("벌크헤드 획득 실패 - 내보내기 요청 초과, 조회 요청은 처리")
+    void failAcquire_ExportBulkheadFull() throws InterruptedException {
+        // given
+        bulkheadService.acquire(EXPORT);
+
+        // when
+        AccountException exception = assertThrows(AccountException.class,
+            () -> bulkheadService.acquire(EXPORT));
+
+        // then
+        assertEquals(EXPORT_BULKHEAD_FULL, exception.getErrorCode());
+        assertDoesNotThrow(() -> bulkheadService.acquire(READ));
+    }
+
+    @Test
+    @DisplayName("거래 요청이 가득 차도 조회 요청은 처리")
+    void successAcquire_ReadIsolatedFromWrite() throws InterruptedException {
+        // given
+        bulkheadService.acquire(WRITE);
+
+        // when
+        // then
+        assertDoesNotThrow(() -> bulkheadService.acquire(READ));
+    }
+
+    @Test
+    @DisplayName("벌크헤드 반환 후 재획득 성공")
+    void successAcquire_AfterRelease() throws InterruptedException {
+        // given
+        bulkheadService.acquire(WRITE);
+        bulkheadService.release(WRITE);
+
+        // when
+        // then
+        assertDoesNotThrow(() -> bulkheadService.acquire(WRITE));
+    }
+}
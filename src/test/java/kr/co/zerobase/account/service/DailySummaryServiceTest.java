@@ -0,0 +1,144 @@
+package kr.co.zerobase.account.service;
+
+import static kr.co.zerobase.account.type.ErrorCode.AMOUNT_EXCEED_BALANCE;
+import static kr.co.zerobase.account.type.ErrorCode.INVALID_REQUEST;
+import static kr.co.zerobase.account.type.TransactionResultType.F;
+import static kr.co.zerobase.account.type.TransactionResultType.S;
+import static kr.co.zerobase.account.type.TransactionType.USE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import kr.co.zerobase.account.domain.Account;
+import kr.co.zerobase.account.domain.AccountDailySummary;
+import kr.co.zerobase.account.domain.Transaction;
+import kr.co.zerobase.account.exception.AccountException;
+import kr.co.zerobase.account.repository.AccountDailySummaryRepository;
+import kr.co.zerobase.account.repository.AccountRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class DailySummaryServiceTest {
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    @Mock
+    private AccountDailySummaryRepository accountDailySummaryRepository;
+
+    @InjectMocks
+    private DailySummaryService dailySummaryService;
+
+    private final Account account = Account.builder()
+        .id(1L)
+        .accountNumber("1000000000")
+        .balance(9000L)
+        .build();
+
+    private final LocalDate today = LocalDate.of(2022, 10, 1);
+
+    @Test
+    @DisplayName("일별 집계 누적 - 이미 있는 행에 원자적으로 더함")
+    void accumulate_existingRow() {
+        // given
+        given(accountDailySummaryRepository.accumulate(eq(1L), eq(today), eq(-1000L),
+            eq(1000L), eq(1L), eq(0L), eq(0L), eq(0L), any()))
+            .willReturn(1);
+
+        // when
+        dailySummaryService.accumulate(useTransaction(1000L, 9000L));
+
+        // then
+        verify(accountRepository, never()).lockById(anyLong());
+        verify(accountDailySummaryRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("일별 집계 누적 - 그날 첫 거래면 계좌를 잠그고 행 생성")
+    void accumulate_firstTransactionOfDay() {
+        // given
+        given(accountDailySummaryRepository.accumulate(eq(1L), eq(today), eq(-1000L),
+            eq(1000L), eq(1L), eq(0L), eq(0L), eq(0L), any()))
+            .willReturn(0);
+        ArgumentCaptor<AccountDailySummary> captor =
+            ArgumentCaptor.forClass(AccountDailySummary.class);
+
+        // when
+        dailySummaryService.accumulate(useTransaction(1000L, 9000L));
+
+        // then
+        verify(accountRepository, times(1)).lockById(1L);
+        verify(accountDailySummaryRepository, times(1)).save(captor.capture());
+        assertEquals(today, captor.getValue().getSummaryDate());
+        assertEquals(10000L, captor.getValue().getOpeningBalance());
+        assertEquals(9000L, captor.getValue().getClosingBalance());
+        assertEquals(1000L, captor.getValue().getDebitAmount());
+        assertEquals(1L, captor.getValue().getDebitCount());
+        assertEquals(0L, captor.getValue().getFailureCount());
+    }
+
+    @Test
+    @DisplayName("일별 집계 누적 - 잠그는 사이 다른 거래가 행을 만들었으면 더하기만 함")
+    void accumulate_createdConcurrently() {
+        // given
+        given(accountDailySummaryRepository.accumulate(eq(1L), eq(today), eq(0L),
+            eq(0L), eq(0L), eq(0L), eq(0L), eq(1L), any()))
+            .willReturn(0, 1);
+
+        // when
+        Transaction transaction = Transaction.builder()
+            .account(account)
+            .transactionType(USE)
+            .transactionResultType(F)
+            .errorCode(AMOUNT_EXCEED_BALANCE)
+            .amount(100000L)
+            .balanceSnapshot(9000L)
+            .transactedAt(today.atTime(10, 0))
+            .build();
+        dailySummaryService.accumulate(transaction);
+
+        // then
+        verify(accountRepository, times(1)).lockById(1L);
+        verify(accountDailySummaryRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("일별 집계 조회 실패 - 잘못된 기간")
+    void failGetDailySummaries_invalidPeriod() {
+        // given
+        // when
+        AccountException exception = assertThrows(AccountException.class,
+            () -> dailySummaryService.getDailySummaries("1000000000", today,
+                today.minusDays(1)));
+
+        // then
+        assertEquals(INVALID_REQUEST, exception.getErrorCode());
+        verify(accountRepository, never()).findIdByAccountNumber(anyString());
+    }
+
+    private Transaction useTransaction(Long amount, Long balanceSnapshot) {
+        return Transaction.builder()
+            .account(account)
+            .transactionType(USE)
+            .transactionResultType(S)
+            .amount(amount)
+            .balanceSnapshot(balanceSnapshot)
+            .transactedAt(LocalDateTime.of(2022, 10, 1, 12, 0))
+            .build();
+    }
+}
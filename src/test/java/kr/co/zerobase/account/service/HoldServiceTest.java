@@ -0,0 +1,338 @@
+package kr.co.zerobase.account.service;
+
+import static kr.co.zerobase.account.type.AccountStatus.IN_USE;
+import static kr.co.zerobase.account.type.ErrorCode.AMOUNT_EXCEED_BALANCE;
+import static kr.co.zerobase.account.type.ErrorCode.HOLD_ALREADY_SETTLED;
+import static kr.co.zerobase.account.type.ErrorCode.HOLD_EXPIRED;
+import static kr.co.zerobase.account.type.ErrorCode.HOLD_NOT_FOUND;
+import static kr.co.zerobase.account.type.HoldStatus.CAPTURED;
+import static kr.co.zerobase.account.type.HoldStatus.EXPIRED;
+import static kr.co.zerobase.account.type.HoldStatus.HELD;
+import static kr.co.zerobase.account.type.HoldStatus.VOIDED;
+import static kr.co.zerobase.account.type.TransactionResultType.S;
+import static kr.co.zerobase.account.type.TransactionType.USE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import kr.co.zerobase.account.domain.Account;
+import kr.co.zerobase.account.domain.AccountUser;
+import kr.co.zerobase.account.domain.BalanceHold;
+import kr.co.zerobase.account.dto.BalanceHoldDto;
+import kr.co.zerobase.account.dto.TransactionDto;
+import kr.co.zerobase.account.exception.AccountException;
+import kr.co.zerobase.account.repository.AccountRepository;
+import kr.co.zerobase.account.repository.AccountUserRepository;
+import kr.co.zerobase.account.repository.BalanceHoldRepository;
+import kr.co.zerobase.account.type.HoldStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class HoldServiceTest {
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    @Mock
+    private AccountUserRepository accountUserRepository;
+
+    @Mock
+    private BalanceHoldRepository balanceHoldRepository;
+
+    @Mock
+    private TransactionService transactionService;
+
+    @Mock
+    private BalanceShardService balanceShardService;
+
+    @InjectMocks
+    private HoldService holdService;
+
+    private final AccountUser pobi = AccountUser.builder()
+        .id(1L)
+        .name("Pobi")
+        .build();
+
+    private final Account account = Account.builder()
+        .id(1L)
+        .accountUser(pobi)
+        .accountStatus(IN_USE)
+        .balance(10000L)
+        .heldBalance(3000L)
+        .accountNumber("1000000000")
+        .build();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(holdService, "holdTtlSeconds", 600L);
+        ReflectionTestUtils.setField(holdService, "sweepBatchSize", 100);
+    }
+
+    @Test
+    @DisplayName("잔액 승인 성공")
+    void successAuthorizeBalance() {
+        // given
+        given(accountUserRepository.findById(anyLong()))
+            .willReturn(Optional.of(pobi));
+        given(accountRepository.findByAccountNumber(anyString()))
+            .willReturn(Optional.of(account));
+        given(accountRepository.holdBalance(eq(1L), eq(5000L), eq(IN_USE), any()))
+            .willReturn(1);
+        given(balanceHoldRepository.save(any()))
+            .willAnswer(invocation -> invocation.getArgument(0));
+
+        ArgumentCaptor<BalanceHold> captor = ArgumentCaptor.forClass(BalanceHold.class);
+
+        // when
+        BalanceHoldDto balanceHoldDto = holdService.authorizeBalance(1L, "1000000000", 5000L);
+
+        // then
+        verify(balanceHoldRepository, times(1)).save(captor.capture());
+        assertEquals(HELD, captor.getValue().getStatus());
+        assertEquals(5000L, captor.getValue().getAmount());
+        assertEquals(32, balanceHoldDto.getHoldId().length());
+        assertEquals("1000000000", balanceHoldDto.getAccountNumber());
+        assertEquals(HELD, balanceHoldDto.getStatus());
+    }
+
+    @Test
+    @DisplayName("잔액 승인 성공 - 분할 계좌는 샤드에서 나머지 잔액으로 옮긴 뒤 묶음")
+    void successAuthorizeBalance_ShardedAccount() {
+        // given
+        Account shardedAccount = Account.builder()
+            .id(1L)
+            .accountUser(pobi)
+            .accountStatus(IN_USE)
+            .balance(0L)
+            .heldBalance(0L)
+            .balanceShardCount(4)
+            .accountNumber("1000000000")
+            .build();
+        given(accountUserRepository.findById(anyLong()))
+            .willReturn(Optional.of(pobi));
+        given(accountRepository.findByAccountNumber(anyString()))
+            .willReturn(Optional.of(shardedAccount));
+        given(accountRepository.holdBalance(eq(1L), eq(5000L), eq(IN_USE), any()))
+            .willReturn(1);
+        given(balanceHoldRepository.save(any()))
+            .willAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        BalanceHoldDto balanceHoldDto = holdService.authorizeBalance(1L, "1000000000", 5000L);
+
+        // then
+        InOrder inOrder = inOrder(balanceShardService, accountRepository);
+        inOrder.verify(balanceShardService).moveToUnshardedBalance(shardedAccount, 5000L);
+        inOrder.verify(accountRepository).holdBalance(eq(1L), eq(5000L), eq(IN_USE), any());
+        assertEquals(HELD, balanceHoldDto.getStatus());
+    }
+
+    @Test
+    @DisplayName("잔액 승인 실패 - 승인 금액을 제외한 잔액 부족")
+    void failAuthorizeBalance_amountExceedAvailableBalance() {
+        // given
+        given(accountUserRepository.findById(anyLong()))
+            .willReturn(Optional.of(pobi));
+        given(accountRepository.findByAccountNumber(anyString()))
+            .willReturn(Optional.of(account));
+
+        // when
+        AccountException exception = assertThrows(AccountException.class,
+            () -> holdService.authorizeBalance(1L, "1000000000", 8000L));
+
+        // then
+        assertEquals(AMOUNT_EXCEED_BALANCE, exception.getErrorCode());
+        verify(accountRepository, never()).holdBalance(anyLong(), anyLong(), any(), any());
+        verify(balanceHoldRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("잔액 승인 실패 - 동시 승인으로 조건부 갱신 실패")
+    void failAuthorizeBalance_concurrentHold() {
+        // given
+        given(accountUserRepository.findById(anyLong()))
+            .willReturn(Optional.of(pobi));
+        given(accountRepository.findByAccountNumber(anyString()))
+            .willReturn(Optional.of(account));
+        given(accountRepository.holdBalance(anyLong(), anyLong(), any(), any()))
+            .willReturn(0);
+
+        // when
+        AccountException exception = assertThrows(AccountException.class,
+            () -> holdService.authorizeBalance(1L, "1000000000", 5000L));
+
+        // then
+        assertEquals(AMOUNT_EXCEED_BALANCE, exception.getErrorCode());
+        verify(balanceHoldRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("승인 캡처 성공")
+    void successCaptureBalance() {
+        // given
+        given(balanceHoldRepository.findByHoldId(anyString()))
+            .willReturn(Optional.of(balanceHold(HELD, LocalDateTime.now().plusMinutes(1))));
+        given(balanceHoldRepository.changeStatus(eq(1L), eq(HELD), eq(CAPTURED), any()))
+            .willReturn(1);
+        given(transactionService.saveCapturedHoldTransaction("1000000000", 3000L))
+            .willReturn(TransactionDto.builder()
+                .accountNumber("1000000000")
+                .transactionType(USE)
+                .transactionResultType(S)
+                .amount(3000L)
+                .build());
+
+        // when
+        TransactionDto transactionDto = holdService.captureBalance("holdId");
+
+        // then
+        verify(accountRepository, times(1)).captureHeldBalance(eq(1L), eq(3000L), any());
+        assertEquals(USE, transactionDto.getTransactionType());
+        assertEquals(3000L, transactionDto.getAmount());
+    }
+
+    @Test
+    @DisplayName("승인 캡처 실패 - 승인 없음")
+    void failCaptureBalance_holdNotFound() {
+        // given
+        given(balanceHoldRepository.findByHoldId(anyString()))
+            .willReturn(Optional.empty());
+
+        // when
+        AccountException exception = assertThrows(AccountException.class,
+            () -> holdService.captureBalance("holdId"));
+
+        // then
+        assertEquals(HOLD_NOT_FOUND, exception.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("승인 캡처 실패 - 만료된 승인")
+    void failCaptureBalance_holdExpired() {
+        // given
+        given(balanceHoldRepository.findByHoldId(anyString()))
+            .willReturn(Optional.of(balanceHold(HELD, LocalDateTime.now().minusSeconds(1))));
+
+        // when
+        AccountException exception = assertThrows(AccountException.class,
+            () -> holdService.captureBalance("holdId"));
+
+        // then
+        assertEquals(HOLD_EXPIRED, exception.getErrorCode());
+        verify(accountRepository, never()).captureHeldBalance(anyLong(), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("승인 캡처 실패 - 동시에 취소되어 상태 전이 실패")
+    void failCaptureBalance_concurrentlySettled() {
+        // given
+        given(balanceHoldRepository.findByHoldId(anyString()))
+            .willReturn(Optional.of(balanceHold(HELD, LocalDateTime.now().plusMinutes(1))));
+        given(balanceHoldRepository.changeStatus(anyLong(), any(), any(), any()))
+            .willReturn(0);
+
+        // when
+        AccountException exception = assertThrows(AccountException.class,
+            () -> holdService.captureBalance("holdId"));
+
+        // then
+        assertEquals(HOLD_ALREADY_SETTLED, exception.getErrorCode());
+        verify(accountRepository, never()).captureHeldBalance(anyLong(), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("승인 취소 성공")
+    void successVoidBalance() {
+        // given
+        given(balanceHoldRepository.findByHoldId(anyString()))
+            .willReturn(Optional.of(balanceHold(HELD, LocalDateTime.now().plusMinutes(1))))
+            .willReturn(Optional.of(balanceHold(VOIDED, LocalDateTime.now().plusMinutes(1))));
+        given(balanceHoldRepository.changeStatus(eq(1L), eq(HELD), eq(VOIDED), any()))
+            .willReturn(1);
+
+        // when
+        BalanceHoldDto balanceHoldDto = holdService.voidBalance("holdId");
+
+        // then
+        verify(accountRepository, times(1)).releaseHeldBalance(eq(1L), eq(3000L), any());
+        assertEquals(VOIDED, balanceHoldDto.getStatus());
+    }
+
+    @Test
+    @DisplayName("승인 취소 실패 - 이미 캡처된 승인")
+    void failVoidBalance_alreadyCaptured() {
+        // given
+        given(balanceHoldRepository.findByHoldId(anyString()))
+            .willReturn(Optional.of(balanceHold(CAPTURED, LocalDateTime.now().plusMinutes(1))));
+
+        // when
+        AccountException exception = assertThrows(AccountException.class,
+            () -> holdService.voidBalance("holdId"));
+
+        // then
+        assertEquals(HOLD_ALREADY_SETTLED, exception.getErrorCode());
+        verify(accountRepository, never()).releaseHeldBalance(anyLong(), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("만료 승인 정리 - 상태 전이에 성공한 건만 잔액 해제")
+    void successExpireBalanceHolds() {
+        // given
+        BalanceHold expired = balanceHold(HELD, LocalDateTime.now().minusMinutes(1));
+        BalanceHold settled = BalanceHold.builder()
+            .id(2L)
+            .account(account)
+            .holdId("settledHoldId")
+            .amount(1000L)
+            .status(HELD)
+            .expiresAt(LocalDateTime.now().minusMinutes(1))
+            .build();
+
+        given(balanceHoldRepository.findExpiredHolds(eq(HELD), any(), any()))
+            .willReturn(List.of(expired, settled));
+        given(balanceHoldRepository.changeStatus(eq(1L), eq(HELD), eq(EXPIRED), any()))
+            .willReturn(1);
+        given(balanceHoldRepository.changeStatus(eq(2L), eq(HELD), eq(EXPIRED), any()))
+            .willReturn(0);
+
+        // when
+        int count = holdService.expireBalanceHolds();
+
+        // then
+        assertEquals(1, count);
+        verify(accountRepository, times(1)).releaseHeldBalance(eq(1L), eq(3000L), any());
+        verify(accountRepository, never()).releaseHeldBalance(eq(1L), eq(1000L), any());
+    }
+
+    private BalanceHold balanceHold(HoldStatus status,
+        LocalDateTime expiresAt) {
+        return BalanceHold.builder()
+            .id(1L)
+            .account(account)
+            .holdId("holdId")
+            .amount(3000L)
+            .status(status)
+            .expiresAt(expiresAt)
+            .build();
+    }
+}
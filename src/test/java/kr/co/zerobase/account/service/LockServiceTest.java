@@ -1,15 +1,26 @@
 package kr.co.zerobase.account.service;
 
+import static kr.co.zerobase.account.metrics.LockOutcome.REJECTED;
+import static kr.co.zerobase.account.metrics.LockOutcome.TIMEOUT;
 import static kr.co.zerobase.account.type.ErrorCode.TRANSACTION_LOCK;
+import static kr.co.zerobase.account.type.ErrorCode.TRANSACTION_LOCK_WAITERS_EXCEEDED;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
+import java.util.List;
+import jdk.jfr.consumer.RecordedEvent;
 import kr.co.zerobase.account.exception.AccountException;
+import kr.co.zerobase.account.metrics.LockMetrics;
+import kr.co.zerobase.account.util.JfrEvents;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -28,6 +39,9 @@ class LockServiceTest {
     @Mock
     private RLock lock;
 
+    @Mock
+    private LockMetrics lockMetrics;
+
     @InjectMocks
     private LockService lockService;
 
@@ -63,5 +77,95 @@ class LockServiceTest {
 
         // then
         assertEquals(TRANSACTION_LOCK, exception.getErrorCode());
+        verify(lockMetrics).recordAcquire(eq("lock-key"), eq(TIMEOUT), anyLong());
+    }
+
+    @Test
+    @DisplayName("락 획득 실패 - 대기자 수 초과")
+    void failLock_WaitersExceeded() throws InterruptedException {
+        // given
+        given(redissonClient.getLock(anyString()))
+            .willReturn(lock);
+
+        // when
+        AccountException exception = assertThrows(AccountException.class, () ->
+            lockService.lock("lock-key", 0));
+
+        // then
+        assertEquals(TRANSACTION_LOCK_WAITERS_EXCEEDED, exception.getErrorCode());
+        assertEquals(0, lockService.getWaiters("lock-key"));
+        verify(lockMetrics).recordAcquire(eq("lock-key"), eq(REJECTED), anyLong());
+        verify(lock, never()).tryLock(anyLong(), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("락 획득 후 대기자 수 감소")
+    void successLock_LeaveWaiters() throws InterruptedException {
+        // given
+        given(redissonClient.getLock(anyString()))
+            .willReturn(lock);
+
+        given(lock.tryLock(anyLong(), anyLong(), any()))
+            .willReturn(true);
+
+        // when
+        lockService.lock("lock-key", 1);
+
+        // then
+        assertEquals(0, lockService.getWaiters("lock-key"));
+    }
+
+    @Test
+    @DisplayName("락 해제 시 점유 시간 기록")
+    void successUnlock_RecordHold() throws InterruptedException {
+        // given
+        given(redissonClient.getLock(anyString()))
+            .willReturn(lock);
+
+        given(lock.tryLock(anyLong(), anyLong(), any()))
+            .willReturn(true);
+
+        lockService.lock("ModifyAccountLock:1000000000");
+
+        // when
+        lockService.unlock("ModifyAccountLock:1000000000");
+
+        // then
+        verify(lockMetrics).recordHold(eq("ModifyAccountLock"), anyLong());
+    }
+
+    @Test
+    @DisplayName("락 획득/해제 시 JFR 이벤트 기록")
+    void lockEvents() throws Exception {
+        // given
+        given(redissonClient.getLock(anyString()))
+            .willReturn(lock);
+
+        given(lock.tryLock(anyLong(), anyLong(), any()))
+            .willReturn(true);
+
+        // when
+        List<RecordedEvent> events = JfrEvents.record(() -> {
+                lockService.lock("ModifyAccountLock:1000000000");
+                lockService.unlock("ModifyAccountLock:1000000000");
+            },
+            "kr.co.zerobase.account.LockAcquire",
+            "kr.co.zerobase.account.LockRelease");
+
+        // then
+        RecordedEvent acquire = findEvent(events, "kr.co.zerobase.account.LockAcquire");
+        assertEquals("ModifyAccountLock", acquire.getString("keyCategory"));
+        assertEquals("acquired", acquire.getString("outcome"));
+
+        RecordedEvent release = findEvent(events, "kr.co.zerobase.account.LockRelease");
+        assertEquals("ModifyAccountLock", release.getString("keyCategory"));
+        assertTrue(release.getDuration("holdTime").toNanos() >= 0);
+    }
+
+    private static RecordedEvent findEvent(List<RecordedEvent> events, String name) {
+        return events.stream()
+            .filter(event -> event.getEventType().getName().equals(name))
+            .findFirst()
+            .orElseThrow();
     }
-}
\ No newline at end of file
+}
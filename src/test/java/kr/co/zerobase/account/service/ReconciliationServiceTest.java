@@ -0,0 +1,201 @@
+package kr.co.zerobase.account.service;
+
+import static kr.co.zerobase.account.type.TransactionResultType.S;
+import static kr.co.zerobase.account.type.TransactionType.CANCEL;
+import static kr.co.zerobase.account.type.TransactionType.DEPOSIT;
+import static kr.co.zerobase.account.type.TransactionType.USE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import kr.co.zerobase.account.dto.ReconciliationResult;
+import kr.co.zerobase.account.repository.AccountLedgerBalance;
+import kr.co.zerobase.account.repository.AccountRepository;
+import kr.co.zerobase.account.repository.ArchivedTransactionRepository;
+import kr.co.zerobase.account.repository.IdRange;
+import kr.co.zerobase.account.repository.LedgerSum;
+import kr.co.zerobase.account.repository.TransactionRepository;
+import kr.co.zerobase.account.segment.LedgerSegmentStore;
+import kr.co.zerobase.account.type.TransactionType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+class ReconciliationServiceTest {
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    @Mock
+    private TransactionRepository transactionRepository;
+
+    @Mock
+    private ArchivedTransactionRepository archivedTransactionRepository;
+
+    @Mock
+    private LedgerSegmentStore ledgerSegmentStore;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @InjectMocks
+    private ReconciliationService reconciliationService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(reconciliationService, "parallelism", 2);
+        ReflectionTestUtils.setField(reconciliationService, "rangeSize", 2);
+        ReflectionTestUtils.setField(reconciliationService, "pauseMillis", 0L);
+    }
+
+    @Test
+    @DisplayName("원장 대사 - id 범위를 나눠 불일치 계좌만 보고")
+    void reconcile_reportMismatches() {
+        // given
+        given(accountRepository.findIdRange())
+            .willReturn(idRange(1L, 4L));
+        given(accountRepository.findLedgerBalances(1L, 2L))
+            .willReturn(List.of(
+                accountLedgerBalance(1L, "1000000000", 10000L, 9500L),
+                accountLedgerBalance(2L, "1000000001", 0L, 0L)));
+        given(accountRepository.findLedgerBalances(3L, 4L))
+            .willReturn(List.of(
+                accountLedgerBalance(3L, "1000000002", 5000L, 7000L)));
+        given(transactionRepository.sumAmountsByAccountIdRange(1L, 2L, S))
+            .willReturn(List.of(
+                ledgerSum(1L, USE, 1000L),
+                ledgerSum(1L, CANCEL, 500L)));
+        given(transactionRepository.sumAmountsByAccountIdRange(3L, 4L, S))
+            .willReturn(List.of(
+                ledgerSum(3L, DEPOSIT, 1000L)));
+
+        // when
+        ReconciliationResult result = reconciliationService.reconcile();
+
+        // then
+        assertEquals(3L, result.getCheckedAccounts());
+        assertEquals(1, result.getMismatches().size());
+        assertEquals("1000000002", result.getMismatches().get(0).getAccountNumber());
+        assertEquals(6000L, result.getMismatches().get(0).getLedgerBalance());
+        assertEquals(1000L, result.getMismatches().get(0).getDifference());
+        assertEquals(1.0, meterRegistry.get("account.reconciliation.mismatches")
+            .counter().count());
+    }
+
+    @Test
+    @DisplayName("원장 대사 - 계좌가 없으면 집계하지 않음")
+    void reconcile_noAccounts() {
+        // given
+        given(accountRepository.findIdRange())
+            .willReturn(idRange(null, null));
+
+        // when
+        ReconciliationResult result = reconciliationService.reconcile();
+
+        // then
+        assertEquals(0L, result.getCheckedAccounts());
+        verify(accountRepository, never()).findLedgerBalances(anyLong(), anyLong());
+        verify(transactionRepository, never()).sumAmountsByAccountIdRange(anyLong(), anyLong(),
+            eq(S));
+    }
+
+    @Test
+    @DisplayName("원장 대사 - 중단되면 중단으로 보고하고 집계하지 않음")
+    void reconcile_aborted() {
+        // given
+        ReflectionTestUtils.setField(reconciliationService, "parallelism", 1);
+        given(accountRepository.findIdRange())
+            .willReturn(idRange(1L, 6L));
+        // 첫 범위를 읽는 중에 인터럽트되면 다음 범위는 쉬는 동안 중단된다.
+        given(accountRepository.findLedgerBalances(anyLong(), anyLong()))
+            .willAnswer(invocation -> {
+                Thread.currentThread().interrupt();
+                return List.of();
+            });
+
+        // when
+        ReconciliationResult result = reconciliationService.reconcile();
+
+        // then
+        assertTrue(result.isAborted());
+        assertNull(meterRegistry.find("account.reconciliation.mismatches").counter());
+    }
+
+    private static IdRange idRange(Long minId, Long maxId) {
+        return new IdRange() {
+            @Override
+            public Long getMinId() {
+                return minId;
+            }
+
+            @Override
+            public Long getMaxId() {
+                return maxId;
+            }
+        };
+    }
+
+    private static AccountLedgerBalance accountLedgerBalance(Long id, String accountNumber,
+        Long initialBalance, Long balance) {
+        return new AccountLedgerBalance() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getAccountNumber() {
+                return accountNumber;
+            }
+
+            @Override
+            public Long getInitialBalance() {
+                return initialBalance;
+            }
+
+            @Override
+            public Long getBalance() {
+                return balance;
+            }
+        };
+    }
+
+    private static LedgerSum ledgerSum(Long accountId, TransactionType transactionType,
+        Long amount) {
+        return new LedgerSum() {
+            @Override
+            public Long getAccountId() {
+                return accountId;
+            }
+
+            @Override
+            public TransactionType getTransactionType() {
+                return transactionType;
+            }
+
+            @Override
+            public Long getAmount() {
+                return amount;
+            }
+        };
+    }
+}
@@ -0,0 +1,163 @@
+package kr.co.zerobase.account.service;
+
+import static kr.co.zerobase.account.type.ErrorCode.TRANSACTION_NOT_FOUND;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import kr.co.zerobase.account.exception.AccountException;
+import kr.co.zerobase.account.service.RequestCoalescer.CoalescedCall;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class RequestCoalescerTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final RequestCoalescer requestCoalescer = new RequestCoalescer(meterRegistry, 5000L);
+
+    @Test
+    @DisplayName("동시 요청 합치기 성공")
+    void successCoalesce() throws Exception {
+        // given
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<Object> leader = executeAsync(() -> {
+            calls.incrementAndGet();
+            started.countDown();
+            release.await();
+            return "leader";
+        });
+        started.await();
+
+        // when
+        CompletableFuture<Object> follower = executeFollower(() -> {
+            calls.incrementAndGet();
+            return "follower";
+        });
+        release.countDown();
+
+        // then
+        assertEquals("leader", leader.get(5, TimeUnit.SECONDS));
+        assertEquals("leader", follower.get(5, TimeUnit.SECONDS));
+        assertEquals(1, calls.get());
+        assertEquals(1, count("follower"));
+    }
+
+    @Test
+    @DisplayName("동시 요청 합치기 - 선행 요청 실패 시 같은 예외 전달")
+    void failCoalesce_LeaderFailed() throws Exception {
+        // given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<Object> leader = executeAsync(() -> {
+            started.countDown();
+            release.await();
+            throw new AccountException(TRANSACTION_NOT_FOUND);
+        });
+        started.await();
+
+        // when
+        CompletableFuture<Object> follower = executeFollower(() -> "follower");
+        release.countDown();
+
+        // then
+        ExecutionException leaderException = assertThrows(ExecutionException.class,
+            () -> leader.get(5, TimeUnit.SECONDS));
+        ExecutionException followerException = assertThrows(ExecutionException.class,
+            () -> follower.get(5, TimeUnit.SECONDS));
+        assertEquals(TRANSACTION_NOT_FOUND,
+            ((AccountException) leaderException.getCause()).getErrorCode());
+        assertEquals(TRANSACTION_NOT_FOUND,
+            ((AccountException) followerException.getCause()).getErrorCode());
+        assertEquals(1, count("error"));
+    }
+
+    @Test
+    @DisplayName("동시 요청 합치기 - 대기 시간 초과 시 직접 조회")
+    void successCoalesce_Timeout() throws Throwable {
+        // given
+        RequestCoalescer coalescer = new RequestCoalescer(meterRegistry, 10L);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Thread leader = new Thread(() -> {
+            try {
+                coalescer.execute("test", "key", () -> {
+                    started.countDown();
+                    release.await();
+                    return "leader";
+                });
+            } catch (Throwable ignored) {
+            }
+        });
+        leader.start();
+        started.await();
+
+        // when
+        Object result = coalescer.execute("test", "key", () -> "follower");
+        release.countDown();
+        leader.join();
+
+        // then
+        assertEquals("follower", result);
+        assertEquals(1, count("timeout"));
+    }
+
+    @Test
+    @DisplayName("완료된 요청은 재사용하지 않음")
+    void successCoalesce_NotReuseCompleted() throws Throwable {
+        // given
+        requestCoalescer.execute("test", "key", () -> "first");
+
+        // when
+        Object result = requestCoalescer.execute("test", "key", () -> "second");
+
+        // then
+        assertEquals("second", result);
+        assertEquals(2, count("leader"));
+    }
+
+    private CompletableFuture<Object> executeAsync(CoalescedCall call) {
+        return executeAsync(call, new CountDownLatch(1));
+    }
+
+    // 선행 요청은 release 전까지 끝나지 않으므로, 후행 요청 스레드가 execute 를
+    // 호출하기 직전까지 온 뒤에 release 하면 선행 요청에 합류한다.
+    private CompletableFuture<Object> executeFollower(CoalescedCall call)
+        throws InterruptedException {
+        CountDownLatch arrived = new CountDownLatch(1);
+        CompletableFuture<Object> future = executeAsync(call, arrived);
+        assertTrue(arrived.await(5, TimeUnit.SECONDS));
+        return future;
+    }
+
+    private CompletableFuture<Object> executeAsync(CoalescedCall call, CountDownLatch arrived) {
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        Thread thread = new Thread(() -> {
+            arrived.countDown();
+            try {
+                future.complete(requestCoalescer.execute("test", "key", call));
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+            }
+        });
+        thread.start();
+        return future;
+    }
+
+    private double count(String role) {
+        return meterRegistry.counter("account.coalescing.calls", "name", "test", "role", role)
+            .count();
+    }
+}
@@ -0,0 +1,95 @@
+package kr.co.zerobase.account.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.List;
+import kr.co.zerobase.account.repository.ArchivedTransactionRepository;
+import kr.co.zerobase.account.repository.TransactionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class TransactionArchiveServiceTest {
+
+    @Mock
+    private TransactionRepository transactionRepository;
+
+    @Mock
+    private ArchivedTransactionRepository archivedTransactionRepository;
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @InjectMocks
+    private TransactionArchiveService transactionArchiveService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(transactionArchiveService, "minAgeDays", 365);
+        ReflectionTestUtils.setField(transactionArchiveService, "batchSize", 2);
+    }
+
+    @Test
+    @DisplayName("거래 보관 - 기준일 이전 거래를 복사 후 삭제")
+    void archiveBatch() {
+        // given
+        given(transactionRepository.findArchivableIds(any(LocalDateTime.class),
+            any(Pageable.class)))
+            .willReturn(List.of(1L, 2L));
+        given(transactionRepository.deleteByIdIn(List.of(1L, 2L)))
+            .willReturn(2);
+        ArgumentCaptor<LocalDateTime> cutoffCaptor = ArgumentCaptor.forClass(LocalDateTime.class);
+        ArgumentCaptor<Pageable> pageableCaptor = ArgumentCaptor.forClass(Pageable.class);
+
+        // when
+        int archived = transactionArchiveService.archiveBatch();
+
+        // then
+        assertEquals(2, archived);
+        verify(transactionRepository).findArchivableIds(cutoffCaptor.capture(),
+            pageableCaptor.capture());
+        assertEquals(2, pageableCaptor.getValue().getPageSize());
+        assertEquals(true,
+            cutoffCaptor.getValue().isBefore(LocalDateTime.now().minusDays(364)));
+        verify(archivedTransactionRepository, times(1))
+            .copyFromTransactions(eq(List.of(1L, 2L)), any(LocalDateTime.class));
+        assertEquals(2.0, meterRegistry.get("account.transaction.archived").counter().count());
+    }
+
+    @Test
+    @DisplayName("거래 보관 - 옮길 거래가 없으면 아무것도 하지 않음")
+    void archiveBatch_nothingToArchive() {
+        // given
+        given(transactionRepository.findArchivableIds(any(LocalDateTime.class),
+            any(Pageable.class)))
+            .willReturn(List.of());
+
+        // when
+        int archived = transactionArchiveService.archiveBatch();
+
+        // then
+        assertEquals(0, archived);
+        verify(archivedTransactionRepository, never())
+            .copyFromTransactions(anyList(), any(LocalDateTime.class));
+        verify(transactionRepository, never()).deleteByIdIn(anyList());
+    }
+}
@@ -0,0 +1,603 @@
+package kr.co.zerobase.account.service;
+
+import static kr.co.zerobase.account.type.ErrorCode.ACCOUNT_NOT_FOUND;
+import static kr.co.zerobase.account.type.ErrorCode.INVALID_REQUEST;
+import static kr.co.zerobase.account.type.ErrorCode.AMOUNT_EXCEED_BALANCE;
+import static kr.co.zerobase.account.type.TransactionResultType.F;
+import static kr.co.zerobase.account.type.TransactionResultType.S;
+import static kr.co.zerobase.account.type.TransactionType.CANCEL;
+import static kr.co.zerobase.account.type.TransactionType.USE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+import kr.co.zerobase.account.domain.AccountDailySummary;
+import kr.co.zerobase.account.dto.BalanceAtDto;
+import kr.co.zerobase.account.dto.TransactionCursor;
+import kr.co.zerobase.account.dto.TransactionPageDto;
+import kr.co.zerobase.account.dto.TransactionSummaryDto;
+import kr.co.zerobase.account.exception.AccountException;
+import kr.co.zerobase.account.repository.AccountDailySummaryRepository;
+import kr.co.zerobase.account.repository.AccountOpening;
+import kr.co.zerobase.account.repository.AccountRepository;
+import kr.co.zerobase.account.repository.ArchivedTransactionRepository;
+import kr.co.zerobase.account.repository.TransactionAggregate;
+import kr.co.zerobase.account.repository.TransactionHistory;
+import kr.co.zerobase.account.repository.TransactionRepository;
+import kr.co.zerobase.account.segment.LedgerSegmentStore;
+import kr.co.zerobase.account.segment.SegmentRecord;
+import kr.co.zerobase.account.type.BalanceSource;
+import kr.co.zerobase.account.type.ErrorCode;
+import kr.co.zerobase.account.type.ExportFormat;
+import kr.co.zerobase.account.type.TransactionResultType;
+import kr.co.zerobase.account.type.TransactionType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+class TransactionHistoryServiceTest {
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    @Mock
+    private TransactionRepository transactionRepository;
+
+    @Mock
+    private ArchivedTransactionRepository archivedTransactionRepository;
+
+    @Mock
+    private AccountDailySummaryRepository accountDailySummaryRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private LedgerSegmentStore ledgerSegmentStore;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @InjectMocks
+    private TransactionHistoryService transactionHistoryService;
+
+    private final LocalDateTime now = LocalDateTime.of(2022, 10, 1, 12, 0, 0, 123456000);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(transactionHistoryService, "archiveMinAgeDays", 365);
+        ReflectionTestUtils.setField(transactionHistoryService, "segmentMinAgeDays", 730);
+    }
+
+    @Test
+    @DisplayName("거래 내역 조회 성공 - 한 건 더 읽어 다음 커서 생성")
+    void successGetTransactions_hasNext() {
+        // given
+        given(accountRepository.findOpeningByAccountNumber(anyString()))
+            .willReturn(Optional.of(accountOpening(0L, LocalDateTime.now())));
+        given(transactionRepository.findHistoryByAccountId(eq(1L), eq(USE), eq(S),
+            any(Pageable.class)))
+            .willReturn(List.of(
+                transactionHistory(3L, "TRAN3", now),
+                transactionHistory(2L, "TRAN2", now.minusSeconds(1)),
+                transactionHistory(1L, "TRAN1", now.minusSeconds(2))));
+        ArgumentCaptor<Pageable> captor = ArgumentCaptor.forClass(Pageable.class);
+
+        // when
+        TransactionPageDto transactionPageDto = transactionHistoryService.getTransactions(
+            "1000000000", USE, S, null, 2);
+
+        // then
+        verify(transactionRepository).findHistoryByAccountId(eq(1L), eq(USE), eq(S),
+            captor.capture());
+        assertEquals(3, captor.getValue().getPageSize());
+        assertEquals(2, transactionPageDto.getTransactions().size());
+        assertEquals("TRAN3", transactionPageDto.getTransactions().get(0).getTransactionId());
+        assertEquals("1000000000",
+            transactionPageDto.getTransactions().get(0).getAccountNumber());
+
+        TransactionCursor nextCursor = TransactionCursor.decode(
+            transactionPageDto.getNextCursor());
+        assertEquals(now.minusSeconds(1), nextCursor.getTransactedAt());
+        assertEquals(2L, nextCursor.getId());
+    }
+
+    @Test
+    @DisplayName("거래 내역 조회 성공 - 커서 이후 마지막 페이지")
+    void successGetTransactions_lastPage() {
+        // given
+        given(accountRepository.findOpeningByAccountNumber(anyString()))
+            .willReturn(Optional.of(accountOpening(0L, LocalDateTime.now())));
+        given(transactionRepository.findHistoryByAccountIdBefore(eq(1L),
+            eq(now.minusSeconds(1)), eq(2L), isNull(), isNull(), any(Pageable.class)))
+            .willReturn(List.of(transactionHistory(1L, "TRAN1", now.minusSeconds(2))));
+        String cursor = TransactionCursor.from(
+            transactionHistory(2L, "TRAN2", now.minusSeconds(1))).encode();
+
+        // when
+        TransactionPageDto transactionPageDto = transactionHistoryService.getTransactions(
+            "1000000000", null, null, cursor, 2);
+
+        // then
+        assertEquals(1, transactionPageDto.getTransactions().size());
+        assertEquals("TRAN1", transactionPageDto.getTransactions().get(0).getTransactionId());
+        assertNull(transactionPageDto.getNextCursor());
+        verify(transactionRepository, never()).findHistoryByAccountId(anyLong(), any(), any(),
+            any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("거래 내역 조회 성공 - 원장으로 못 채운 페이지를 보관 테이블과 세그먼트에서 이어 읽음")
+    void successGetTransactions_archivedAndSealed() {
+        // given
+        given(accountRepository.findOpeningByAccountNumber(anyString()))
+            .willReturn(Optional.of(accountOpening(0L, LocalDateTime.now().minusYears(3))));
+        given(transactionRepository.findHistoryByAccountId(eq(1L), isNull(), isNull(),
+            any(Pageable.class)))
+            .willReturn(List.of(transactionHistory(5L, "TRAN5", now)));
+        given(archivedTransactionRepository.findHistoryByAccountId(eq(1L), isNull(), isNull(),
+            any(Pageable.class)))
+            .willReturn(List.of(transactionHistory(4L, "TRAN4", now.minusDays(400))));
+        given(ledgerSegmentStore.findByAccountId(1L))
+            .willReturn(List.of(
+                segmentRecord(2L, "TRAN2", now.minusDays(900)),
+                segmentRecord(3L, "TRAN3", now.minusDays(800))));
+
+        // when
+        TransactionPageDto transactionPageDto = transactionHistoryService.getTransactions(
+            "1000000000", null, null, null, 2);
+
+        // then
+        assertEquals(2, transactionPageDto.getTransactions().size());
+        assertEquals("TRAN5", transactionPageDto.getTransactions().get(0).getTransactionId());
+        assertEquals("TRAN4", transactionPageDto.getTransactions().get(1).getTransactionId());
+
+        TransactionCursor nextCursor = TransactionCursor.decode(
+            transactionPageDto.getNextCursor());
+        assertEquals(now.minusDays(400), nextCursor.getTransactedAt());
+        assertEquals(4L, nextCursor.getId());
+    }
+
+    @Test
+    @DisplayName("거래 내역 조회 성공 - 세그먼트의 거래도 커서 이후만 읽음")
+    void successGetTransactions_sealedAfterCursor() {
+        // given
+        given(accountRepository.findOpeningByAccountNumber(anyString()))
+            .willReturn(Optional.of(accountOpening(0L, LocalDateTime.now().minusYears(3))));
+        given(ledgerSegmentStore.findByAccountId(1L))
+            .willReturn(List.of(
+                segmentRecord(2L, "TRAN2", now.minusDays(900)),
+                segmentRecord(3L, "TRAN3", now.minusDays(800))));
+        String cursor = TransactionCursor.from(
+            transactionHistory(3L, "TRAN3", now.minusDays(800))).encode();
+
+        // when
+        TransactionPageDto transactionPageDto = transactionHistoryService.getTransactions(
+            "1000000000", null, null, cursor, 2);
+
+        // then
+        assertEquals(1, transactionPageDto.getTransactions().size());
+        assertEquals("TRAN2", transactionPageDto.getTransactions().get(0).getTransactionId());
+        assertNull(transactionPageDto.getNextCursor());
+    }
+
+    @Test
+    @DisplayName("거래 내역 조회 실패 - 잘못된 커서")
+    void failGetTransactions_invalidCursor() {
+        // given
+        given(accountRepository.findOpeningByAccountNumber(anyString()))
+            .willReturn(Optional.of(accountOpening(0L, LocalDateTime.now())));
+
+        // when
+        AccountException exception = assertThrows(AccountException.class,
+            () -> transactionHistoryService.getTransactions(
+                "1000000000", null, null, "not-a-cursor", 20));
+
+        // then
+        assertEquals(INVALID_REQUEST, exception.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("거래 내역 조회 실패 - 페이지 크기 초과")
+    void failGetTransactions_sizeExceeded() {
+        // given
+        // when
+        AccountException exception = assertThrows(AccountException.class,
+            () -> transactionHistoryService.getTransactions("1000000000", null, null, null,
+                TransactionHistoryService.MAX_PAGE_SIZE + 1));
+
+        // then
+        assertEquals(INVALID_REQUEST, exception.getErrorCode());
+        verify(accountRepository, never()).findOpeningByAccountNumber(anyString());
+    }
+
+    @Test
+    @DisplayName("거래 내역 조회 실패 - 계좌 없음")
+    void failGetTransactions_accountNotFound() {
+        // given
+        given(accountRepository.findOpeningByAccountNumber(anyString()))
+            .willReturn(Optional.empty());
+
+        // when
+        AccountException exception = assertThrows(AccountException.class,
+            () -> transactionHistoryService.getTransactions("1000000000", null, null, null, 20));
+
+        // then
+        assertEquals(ACCOUNT_NOT_FOUND, exception.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("거래 내역 내보내기 성공 - CSV")
+    void successExportTransactions_csv() {
+        // given
+        given(transactionRepository.streamHistoryByAccountId(1L, null, null))
+            .willReturn(Stream.of(
+                transactionHistory(1L, "TRAN1", now.minusSeconds(1)),
+                transactionHistory(2L, "TRAN2", now)));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // when
+        transactionHistoryService.exportTransactions(1L, "1000000000", null, null,
+            ExportFormat.CSV, outputStream);
+
+        // then
+        String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(3, lines.length);
+        assertEquals(
+            "transactionId,transactionType,transactionResult,amount,balanceSnapshot,transactedAt",
+            lines[0]);
+        assertEquals("TRAN1,USE,S,1000,9000," + now.minusSeconds(1), lines[1]);
+        assertEquals("TRAN2,USE,S,1000,9000," + now, lines[2]);
+    }
+
+    @Test
+    @DisplayName("거래 내역 내보내기 성공 - 세그먼트, 보관 테이블, 원장 순으로 오래된 거래부터")
+    void successExportTransactions_archivedAndSealed() {
+        // given
+        given(ledgerSegmentStore.findByAccountId(1L))
+            .willReturn(List.of(
+                segmentRecord(2L, "TRAN2", now.minusDays(800)),
+                segmentRecord(1L, "TRAN1", now.minusDays(900))));
+        given(archivedTransactionRepository.streamHistoryByAccountId(1L, null, null))
+            .willReturn(Stream.of(transactionHistory(3L, "TRAN3", now.minusDays(400))));
+        given(transactionRepository.streamHistoryByAccountId(1L, null, null))
+            .willReturn(Stream.of(transactionHistory(4L, "TRAN4", now)));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // when
+        transactionHistoryService.exportTransactions(1L, "1000000000", null, null,
+            ExportFormat.CSV, outputStream);
+
+        // then
+        String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(5, lines.length);
+        assertEquals("TRAN1,USE,S,1000,9000," + now.minusDays(900), lines[1]);
+        assertEquals("TRAN2,USE,S,1000,9000," + now.minusDays(800), lines[2]);
+        assertEquals("TRAN3,USE,S,1000,9000," + now.minusDays(400), lines[3]);
+        assertEquals("TRAN4,USE,S,1000,9000," + now, lines[4]);
+    }
+
+    @Test
+    @DisplayName("거래 내역 내보내기 성공 - NDJSON")
+    void successExportTransactions_ndjson() throws Exception {
+        // given
+        given(transactionRepository.streamHistoryByAccountId(1L, now.minusDays(1), now))
+            .willReturn(Stream.of(transactionHistory(1L, "TRAN1", now.minusSeconds(1))));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // when
+        transactionHistoryService.exportTransactions(1L, "1000000000", now.minusDays(1), now,
+            ExportFormat.NDJSON, outputStream);
+
+        // then
+        String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(1, lines.length);
+        assertEquals("TRAN1", objectMapper.readTree(lines[0]).get("transactionId").asText());
+        assertEquals("1000000000",
+            objectMapper.readTree(lines[0]).get("accountNumber").asText());
+    }
+
+    @Test
+    @DisplayName("거래 집계 성공 - 성공 거래 합계와 오류 코드별 실패 건수")
+    void successGetTransactionSummary() {
+        // given
+        given(accountRepository.findOpeningByAccountNumber(anyString()))
+            .willReturn(Optional.of(accountOpening(0L, LocalDateTime.now())));
+        given(transactionRepository.aggregateByAccountId(1L, now.minusDays(1), now))
+            .willReturn(List.of(
+                transactionAggregate(USE, S, null, 3L, 3000L),
+                transactionAggregate(CANCEL, S, null, 1L, 1000L),
+                transactionAggregate(USE, F, AMOUNT_EXCEED_BALANCE, 2L, 50000L),
+                transactionAggregate(CANCEL, F, AMOUNT_EXCEED_BALANCE, 1L, 100L)));
+
+        // when
+        TransactionSummaryDto transactionSummaryDto =
+            transactionHistoryService.getTransactionSummary("1000000000",
+                now.minusDays(1), now);
+
+        // then
+        assertEquals(3L, transactionSummaryDto.getTotals().get(USE).getCount());
+        assertEquals(3000L, transactionSummaryDto.getTotals().get(USE).getAmount());
+        assertEquals(1000L, transactionSummaryDto.getTotals().get(CANCEL).getAmount());
+        assertEquals(3L, transactionSummaryDto.getFailureCounts().get(AMOUNT_EXCEED_BALANCE));
+        verify(archivedTransactionRepository, never()).aggregateByAccountId(anyLong(), any(),
+            any());
+        verify(ledgerSegmentStore, never()).findByAccountId(anyLong());
+    }
+
+    @Test
+    @DisplayName("거래 집계 성공 - 보관된 거래와 세그먼트의 거래까지 합침")
+    void successGetTransactionSummary_archivedAndSealed() {
+        // given
+        given(accountRepository.findOpeningByAccountNumber(anyString()))
+            .willReturn(Optional.of(accountOpening(0L, LocalDateTime.now().minusYears(3))));
+        given(transactionRepository.aggregateByAccountId(1L, null, null))
+            .willReturn(List.of(transactionAggregate(USE, S, null, 1L, 1000L)));
+        given(archivedTransactionRepository.aggregateByAccountId(1L, null, null))
+            .willReturn(List.of(
+                transactionAggregate(USE, S, null, 2L, 2000L),
+                transactionAggregate(USE, F, AMOUNT_EXCEED_BALANCE, 1L, 50000L)));
+        given(ledgerSegmentStore.findByAccountId(1L))
+            .willReturn(List.of(segmentRecord(1L, "TRAN1", now.minusDays(900))));
+
+        // when
+        TransactionSummaryDto transactionSummaryDto =
+            transactionHistoryService.getTransactionSummary("1000000000", null, null);
+
+        // then
+        assertEquals(4L, transactionSummaryDto.getTotals().get(USE).getCount());
+        assertEquals(4000L, transactionSummaryDto.getTotals().get(USE).getAmount());
+        assertEquals(1L, transactionSummaryDto.getFailureCounts().get(AMOUNT_EXCEED_BALANCE));
+    }
+
+    @Test
+    @DisplayName("거래 집계 실패 - 잘못된 기간")
+    void failGetTransactionSummary_invalidPeriod() {
+        // given
+        // when
+        AccountException exception = assertThrows(AccountException.class,
+            () -> transactionHistoryService.getTransactionSummary("1000000000", now,
+                now.minusDays(1)));
+
+        // then
+        assertEquals(INVALID_REQUEST, exception.getErrorCode());
+        verify(accountRepository, never()).findOpeningByAccountNumber(anyString());
+    }
+
+    @Test
+    @DisplayName("시점 잔액 조회 성공 - 마지막 성공 거래의 잔액 스냅샷")
+    void successGetBalanceAt_transaction() {
+        // given
+        given(accountRepository.findOpeningByAccountNumber(anyString()))
+            .willReturn(Optional.of(accountOpening(10000L, now.minusDays(10))));
+        given(transactionRepository.findLatestBalanceSnapshots(eq(1L), eq(now), eq(S),
+            any(Pageable.class)))
+            .willReturn(List.of(7000L));
+
+        // when
+        BalanceAtDto balanceAtDto = transactionHistoryService.getBalanceAt("1000000000", now);
+
+        // then
+        assertEquals(7000L, balanceAtDto.getBalance());
+        assertEquals(BalanceSource.TRANSACTION, balanceAtDto.getSource());
+        verify(archivedTransactionRepository, never()).findLatestBalanceSnapshots(anyLong(),
+            any(), any(), any(Pageable.class));
+        verify(accountDailySummaryRepository, never()).findLatestByAccountId(anyLong(), any(),
+            any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("시점 잔액 조회 성공 - 원장에 없으면 보관된 거래의 잔액 스냅샷")
+    void successGetBalanceAt_archivedTransaction() {
+        // given
+        given(accountRepository.findOpeningByAccountNumber(anyString()))
+            .willReturn(Optional.of(accountOpening(10000L, now.minusDays(10))));
+        given(transactionRepository.findLatestBalanceSnapshots(eq(1L), eq(now), eq(S),
+            any(Pageable.class)))
+            .willReturn(List.of());
+        given(archivedTransactionRepository.findLatestBalanceSnapshots(eq(1L), eq(now), eq(S),
+            any(Pageable.class)))
+            .willReturn(List.of(6000L));
+
+        // when
+        BalanceAtDto balanceAtDto = transactionHistoryService.getBalanceAt("1000000000", now);
+
+        // then
+        assertEquals(6000L, balanceAtDto.getBalance());
+        assertEquals(BalanceSource.TRANSACTION, balanceAtDto.getSource());
+        verify(accountDailySummaryRepository, never()).findLatestByAccountId(anyLong(), any(),
+            any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("시점 잔액 조회 성공 - 원장에 없으면 일별 집계의 마감 잔액")
+    void successGetBalanceAt_dailySummary() {
+        // given
+        given(accountRepository.findOpeningByAccountNumber(anyString()))
+            .willReturn(Optional.of(accountOpening(10000L, now.minusDays(10))));
+        given(transactionRepository.findLatestBalanceSnapshots(eq(1L), eq(now), eq(S),
+            any(Pageable.class)))
+            .willReturn(List.of());
+        given(accountDailySummaryRepository.findLatestByAccountId(eq(1L),
+            eq(now.toLocalDate()), any(Pageable.class)))
+            .willReturn(List.of(AccountDailySummary.builder()
+                .summaryDate(now.toLocalDate().minusDays(2))
+                .openingBalance(10000L)
+                .closingBalance(8000L)
+                .build()));
+
+        // when
+        BalanceAtDto balanceAtDto = transactionHistoryService.getBalanceAt("1000000000", now);
+
+        // then
+        assertEquals(8000L, balanceAtDto.getBalance());
+        assertEquals(BalanceSource.DAILY_SUMMARY, balanceAtDto.getSource());
+    }
+
+    @Test
+    @DisplayName("시점 잔액 조회 성공 - 거래도 집계도 없으면 개설 시 잔액")
+    void successGetBalanceAt_initialBalance() {
+        // given
+        given(accountRepository.findOpeningByAccountNumber(anyString()))
+            .willReturn(Optional.of(accountOpening(10000L, now.minusDays(10))));
+        given(transactionRepository.findLatestBalanceSnapshots(eq(1L), eq(now), eq(S),
+            any(Pageable.class)))
+            .willReturn(List.of());
+        given(accountDailySummaryRepository.findLatestByAccountId(eq(1L),
+            eq(now.toLocalDate()), any(Pageable.class)))
+            .willReturn(List.of());
+
+        // when
+        BalanceAtDto balanceAtDto = transactionHistoryService.getBalanceAt("1000000000", now);
+
+        // then
+        assertEquals(10000L, balanceAtDto.getBalance());
+        assertEquals(BalanceSource.INITIAL_BALANCE, balanceAtDto.getSource());
+    }
+
+    @Test
+    @DisplayName("시점 잔액 조회 실패 - 계좌 개설 이전 시점")
+    void failGetBalanceAt_beforeRegistered() {
+        // given
+        given(accountRepository.findOpeningByAccountNumber(anyString()))
+            .willReturn(Optional.of(accountOpening(10000L, now.plusDays(1))));
+
+        // when
+        AccountException exception = assertThrows(AccountException.class,
+            () -> transactionHistoryService.getBalanceAt("1000000000", now));
+
+        // then
+        assertEquals(INVALID_REQUEST, exception.getErrorCode());
+    }
+
+    private static AccountOpening accountOpening(Long initialBalance,
+        LocalDateTime registeredAt) {
+        return new AccountOpening() {
+            @Override
+            public Long getId() {
+                return 1L;
+            }
+
+            @Override
+            public Long getInitialBalance() {
+                return initialBalance;
+            }
+
+            @Override
+            public LocalDateTime getRegisteredAt() {
+                return registeredAt;
+            }
+        };
+    }
+
+    private static TransactionAggregate transactionAggregate(TransactionType transactionType,
+        TransactionResultType transactionResultType, ErrorCode errorCode, Long count,
+        Long amount) {
+        return new TransactionAggregate() {
+            @Override
+            public TransactionType getTransactionType() {
+                return transactionType;
+            }
+
+            @Override
+            public TransactionResultType getTransactionResultType() {
+                return transactionResultType;
+            }
+
+            @Override
+            public ErrorCode getErrorCode() {
+                return errorCode;
+            }
+
+            @Override
+            public Long getCount() {
+                return count;
+            }
+
+            @Override
+            public Long getAmount() {
+                return amount;
+            }
+        };
+    }
+
+    private static SegmentRecord segmentRecord(long id, String transactionId,
+        LocalDateTime transactedAt) {
+        return SegmentRecord.builder()
+            .id(id)
+            .accountId(1L)
+            .accountNumber("1000000000")
+            .transactionType(USE)
+            .transactionResultType(S)
+            .amount(1000L)
+            .balanceSnapshot(9000L)
+            .transactionId(transactionId)
+            .transactedAt(transactedAt)
+            .build();
+    }
+
+    private static TransactionHistory transactionHistory(Long id, String transactionId,
+        LocalDateTime transactedAt) {
+        return new TransactionHistory() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public TransactionType getTransactionType() {
+                return USE;
+            }
+
+            @Override
+            public TransactionResultType getTransactionResultType() {
+                return S;
+            }
+
+            @Override
+            public Long getAmount() {
+                return 1000L;
+            }
+
+            @Override
+            public Long getBalanceSnapshot() {
+                return 9000L;
+            }
+
+            @Override
+            public String getTransactionId() {
+                return transactionId;
+            }
+
+            @Override
+            public LocalDateTime getTransactedAt() {
+                return transactedAt;
+            }
+        };
+    }
+}
@@ -0,0 +1,119 @@
+package kr.co.zerobase.account.service;
+
+import static kr.co.zerobase.account.type.ErrorCode.AMOUNT_EXCEED_BALANCE;
+import static kr.co.zerobase.account.type.ErrorCode.USER_NOT_FOUND;
+import static kr.co.zerobase.account.type.TransactionResultType.F;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import kr.co.zerobase.account.repository.TransactionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class TransactionRetentionServiceTest {
+
+    @Mock
+    private TransactionRepository transactionRepository;
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @InjectMocks
+    private TransactionRetentionService transactionRetentionService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(transactionRetentionService, "defaultMaxAgeDays", 90);
+        ReflectionTestUtils.setField(transactionRetentionService, "maxAgeDays",
+            Map.of("USER_NOT_FOUND", 7));
+        ReflectionTestUtils.setField(transactionRetentionService, "batchSize", 2);
+        ReflectionTestUtils.setField(transactionRetentionService, "archiveMinAgeDays", 365);
+    }
+
+    @Test
+    @DisplayName("보관 기간 검증 - 보관 테이블로 옮기기 전보다 짧으면 통과")
+    void validateMaxAgeDays() {
+        // given
+        // when
+        // then
+        assertDoesNotThrow(() -> transactionRetentionService.validateMaxAgeDays());
+    }
+
+    @Test
+    @DisplayName("보관 기간 검증 실패 - 보관 테이블로 옮기는 기간 이상이면 시작하지 않음")
+    void failValidateMaxAgeDays() {
+        // given
+        ReflectionTestUtils.setField(transactionRetentionService, "maxAgeDays",
+            Map.of("USER_NOT_FOUND", 365));
+
+        // when
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+            () -> transactionRetentionService.validateMaxAgeDays());
+
+        // then
+        assertTrue(exception.getMessage().contains("USER_NOT_FOUND"));
+    }
+
+    @Test
+    @DisplayName("실패 거래 정리 - 오류 코드별 보관 기간이 지난 거래 삭제")
+    void purgeBatch() {
+        // given
+        given(transactionRepository.findPurgeableIds(eq(F), eq(USER_NOT_FOUND),
+            any(LocalDateTime.class), any(Pageable.class)))
+            .willReturn(List.of(1L, 2L));
+        given(transactionRepository.deleteByIdIn(List.of(1L, 2L)))
+            .willReturn(2);
+        ArgumentCaptor<LocalDateTime> cutoffCaptor = ArgumentCaptor.forClass(LocalDateTime.class);
+
+        // when
+        int purged = transactionRetentionService.purgeBatch(USER_NOT_FOUND);
+
+        // then
+        assertEquals(2, purged);
+        verify(transactionRepository).findPurgeableIds(eq(F), eq(USER_NOT_FOUND),
+            cutoffCaptor.capture(), any(Pageable.class));
+        assertTrue(cutoffCaptor.getValue().isAfter(LocalDateTime.now().minusDays(8)));
+        assertEquals(2.0, meterRegistry.get("account.transaction.purged")
+            .tag("errorCode", "USER_NOT_FOUND").counter().count());
+    }
+
+    @Test
+    @DisplayName("실패 거래 정리 - 보관 기간이 지난 거래가 없으면 삭제하지 않음")
+    void purgeBatch_nothingToPurge() {
+        // given
+        given(transactionRepository.findPurgeableIds(eq(F), eq(AMOUNT_EXCEED_BALANCE),
+            any(LocalDateTime.class), any(Pageable.class)))
+            .willReturn(List.of());
+
+        // when
+        int purged = transactionRetentionService.purgeBatch(AMOUNT_EXCEED_BALANCE);
+
+        // then
+        assertEquals(0, purged);
+        assertEquals(90, transactionRetentionService.getMaxAgeDays(AMOUNT_EXCEED_BALANCE));
+        verify(transactionRepository, never()).deleteByIdIn(anyList());
+    }
+}
@@ -0,0 +1,203 @@
+package kr.co.zerobase.account.service;
+
+import static kr.co.zerobase.account.type.TransactionResultType.S;
+import static kr.co.zerobase.account.type.TransactionType.USE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import kr.co.zerobase.account.exception.AccountException;
+import kr.co.zerobase.account.repository.ArchivedTransactionRepository;
+import kr.co.zerobase.account.repository.ArchivedTransactionRow;
+import kr.co.zerobase.account.segment.LedgerSegmentStore;
+import kr.co.zerobase.account.type.ErrorCode;
+import kr.co.zerobase.account.type.TransactionResultType;
+import kr.co.zerobase.account.type.TransactionType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+class TransactionSegmentServiceTest {
+
+    @Mock
+    private ArchivedTransactionRepository archivedTransactionRepository;
+
+    @Mock
+    private LedgerSegmentStore ledgerSegmentStore;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @InjectMocks
+    private TransactionSegmentService transactionSegmentService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(transactionSegmentService, "minAgeDays", 730);
+        ReflectionTestUtils.setField(transactionSegmentService, "rowsPerSegment", 100);
+    }
+
+    @Test
+    @DisplayName("세그먼트 생성 - 보관된 거래를 파일로 쓰고 보관 테이블에서 삭제")
+    void sealSegment() throws IOException {
+        // given
+        given(archivedTransactionRepository.findSealableRows(any(LocalDateTime.class),
+            any(Pageable.class)))
+            .willReturn(List.of(row(1L, "TRAN1"), row(2L, "TRAN2")));
+        given(archivedTransactionRepository.deleteByIdIn(List.of(1L, 2L)))
+            .willReturn(2);
+
+        // when
+        int sealed = transactionSegmentService.sealSegment();
+
+        // then
+        assertEquals(2, sealed);
+        InOrder inOrder = inOrder(ledgerSegmentStore, archivedTransactionRepository);
+        inOrder.verify(ledgerSegmentStore).write(anyList());
+        inOrder.verify(archivedTransactionRepository).deleteByIdIn(List.of(1L, 2L));
+        inOrder.verify(ledgerSegmentStore).record(any());
+        inOrder.verify(ledgerSegmentStore).publish(any());
+        assertEquals(2.0, meterRegistry.get("account.transaction.sealed").counter().count());
+    }
+
+    @Test
+    @DisplayName("세그먼트 생성 실패 - 보관 테이블에서 지우지 못하면 파일을 버림")
+    void sealSegment_DeleteFailed() throws IOException {
+        // given
+        given(archivedTransactionRepository.findSealableRows(any(LocalDateTime.class),
+            any(Pageable.class)))
+            .willReturn(List.of(row(1L, "TRAN1")));
+        given(archivedTransactionRepository.deleteByIdIn(anyList()))
+            .willThrow(new QueryTimeoutException("timeout"));
+
+        // when
+        assertThrows(QueryTimeoutException.class,
+            () -> transactionSegmentService.sealSegment());
+
+        // then
+        verify(ledgerSegmentStore).write(anyList());
+        verify(ledgerSegmentStore).discard(any());
+        verify(ledgerSegmentStore, never()).record(any());
+        verify(ledgerSegmentStore, never()).publish(any());
+    }
+
+    @Test
+    @DisplayName("세그먼트 생성 실패 - 그 사이 지워진 거래가 있으면 등록하지 않고 파일을 버림")
+    void sealSegment_RowsChanged() throws IOException {
+        // given
+        given(archivedTransactionRepository.findSealableRows(any(LocalDateTime.class),
+            any(Pageable.class)))
+            .willReturn(List.of(row(1L, "TRAN1"), row(2L, "TRAN2")));
+        given(archivedTransactionRepository.deleteByIdIn(List.of(1L, 2L)))
+            .willReturn(1);
+
+        // when
+        AccountException exception = assertThrows(AccountException.class,
+            () -> transactionSegmentService.sealSegment());
+
+        // then
+        assertEquals(ErrorCode.CONCURRENT_MODIFICATION, exception.getErrorCode());
+        verify(ledgerSegmentStore, never()).record(any());
+        verify(ledgerSegmentStore).discard(any());
+        verify(ledgerSegmentStore, never()).publish(any());
+    }
+
+    @Test
+    @DisplayName("세그먼트 생성 - 옮길 거래가 없으면 파일을 만들지 않음")
+    void sealSegment_nothingToSeal() throws IOException {
+        // given
+        given(archivedTransactionRepository.findSealableRows(any(LocalDateTime.class),
+            any(Pageable.class)))
+            .willReturn(List.of());
+
+        // when
+        int sealed = transactionSegmentService.sealSegment();
+
+        // then
+        assertEquals(0, sealed);
+        verify(ledgerSegmentStore, never()).write(anyList());
+    }
+
+    private static ArchivedTransactionRow row(Long id, String transactionId) {
+        return new ArchivedTransactionRow() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public Long getVersion() {
+                return 0L;
+            }
+
+            @Override
+            public Long getAccountId() {
+                return 1L;
+            }
+
+            @Override
+            public String getAccountNumber() {
+                return "1000000000";
+            }
+
+            @Override
+            public TransactionType getTransactionType() {
+                return USE;
+            }
+
+            @Override
+            public TransactionResultType getTransactionResultType() {
+                return S;
+            }
+
+            @Override
+            public ErrorCode getErrorCode() {
+                return null;
+            }
+
+            @Override
+            public Long getAmount() {
+                return 1000L;
+            }
+
+            @Override
+            public Long getBalanceSnapshot() {
+                return 9000L;
+            }
+
+            @Override
+            public String getTransactionId() {
+                return transactionId;
+            }
+
+            @Override
+            public LocalDateTime getTransactedAt() {
+                return LocalDateTime.now().minusYears(3);
+            }
+        };
+    }
+}
@@ -11,38 +11,57 @@ import static kr.co.zerobase.account.type.ErrorCode.CANCEL_MUST_FULLY;
 import static kr.co.zerobase.account.type.ErrorCode.INVALID_REQUEST;
 import static kr.co.zerobase.account.type.ErrorCode.TRANSACTION_ACCOUNT_UN_MATCH;
 import static kr.co.zerobase.account.type.ErrorCode.TRANSACTION_ALREADY_CANCELED;
+import static kr.co.zerobase.account.type.ErrorCode.TRANSACTION_ARCHIVED;
 import static kr.co.zerobase.account.type.ErrorCode.TRANSACTION_NOT_FOUND;
+import static kr.co.zerobase.account.type.ErrorCode.TRANSFER_SAME_ACCOUNT;
 import static kr.co.zerobase.account.type.ErrorCode.USER_ACCOUNT_UN_MATCH;
 import static kr.co.zerobase.account.type.ErrorCode.USER_NOT_FOUND;
+import static kr.co.zerobase.account.type.OutboxEventType.TRANSACTION_CREATED;
 import static kr.co.zerobase.account.type.TransactionResultType.F;
 import static kr.co.zerobase.account.type.TransactionResultType.S;
 import static kr.co.zerobase.account.type.TransactionType.CANCEL;
+import static kr.co.zerobase.account.type.TransactionType.DEPOSIT;
+import static kr.co.zerobase.account.type.TransactionType.TRANSFER_DEPOSIT;
+import static kr.co.zerobase.account.type.TransactionType.TRANSFER_WITHDRAW;
 import static kr.co.zerobase.account.type.TransactionType.USE;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
+import jdk.jfr.consumer.RecordedEvent;
 import kr.co.zerobase.account.domain.Account;
 import kr.co.zerobase.account.domain.AccountUser;
+import kr.co.zerobase.account.domain.ArchivedTransaction;
 import kr.co.zerobase.account.domain.Transaction;
 import kr.co.zerobase.account.dto.TransactionDto;
+import kr.co.zerobase.account.dto.TransferDto;
 import kr.co.zerobase.account.exception.AccountException;
+import kr.co.zerobase.account.metrics.TransactionMetrics;
 import kr.co.zerobase.account.repository.AccountRepository;
 import kr.co.zerobase.account.repository.AccountUserRepository;
+import kr.co.zerobase.account.repository.ArchivedTransactionRepository;
 import kr.co.zerobase.account.repository.TransactionRepository;
+import kr.co.zerobase.account.segment.LedgerSegmentStore;
+import kr.co.zerobase.account.segment.SegmentRecord;
+import kr.co.zerobase.account.util.JfrEvents;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 @ExtendWith(MockitoExtension.class)
@@ -57,6 +76,26 @@ class TransactionServiceTest {
     @Mock
     private TransactionRepository transactionRepository;
 
+    @Mock
+    private ArchivedTransactionRepository archivedTransactionRepository;
+
+    @Mock
+    private LedgerSegmentStore ledgerSegmentStore;
+
+    @Mock
+    private BalanceShardService balanceShardService;
+
+    @Mock
+    private OutboxService outboxService;
+
+    @Mock
+    private DailySummaryService dailySummaryService;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Spy
+    private TransactionMetrics transactionMetrics = new TransactionMetrics(meterRegistry);
+
     @InjectMocks
     private TransactionService transactionService;
 
@@ -114,6 +153,12 @@ class TransactionServiceTest {
         assertEquals(1000L, transactionDto.getAmount());
         assertEquals(USE, transactionDto.getTransactionType());
         assertEquals(S, transactionDto.getTransactionResultType());
+        assertEquals(1, meterRegistry.get("account.transaction.phase")
+            .tags("operation", "use", "phase", "lookup").timer().count());
+        assertEquals(1, meterRegistry.get("account.transaction.phase")
+            .tags("operation", "use", "phase", "insert").timer().count());
+        assertEquals(1.0, meterRegistry.get("account.transaction.results")
+            .tags("type", "USE", "result", "S", "error_code", "NONE").counter().count());
     }
 
     @Test
@@ -242,10 +287,16 @@ class TransactionServiceTest {
 
         // then
         verify(transactionRepository, times(1)).save(captor.capture());
+        verify(outboxService, times(1)).append(eq(TRANSACTION_CREATED),
+            eq(captor.getValue().getTransactionId()), any());
+        verify(dailySummaryService, times(1)).accumulate(captor.getValue());
         assertEquals(2000L, captor.getValue().getAmount());
         assertEquals(10000L, captor.getValue().getBalanceSnapshot());
         assertEquals(F, captor.getValue().getTransactionResultType());
         assertEquals(INVALID_REQUEST, captor.getValue().getErrorCode());
+        assertEquals(1.0, meterRegistry.get("account.transaction.results")
+            .tags("type", "USE", "result", "F", "error_code", "INVALID_REQUEST")
+            .counter().count());
     }
 
     @Test
@@ -335,6 +386,23 @@ class TransactionServiceTest {
         assertEquals(TRANSACTION_NOT_FOUND, exception.getErrorCode());
     }
 
+    @Test
+    @DisplayName("거래 취소 실패 - 보관된 거래")
+    void failCancelBalance_TransactionArchived() {
+        // given
+        given(transactionRepository.findByTransactionId(anyString()))
+            .willReturn(Optional.empty());
+        given(archivedTransactionRepository.findVersionByTransactionId(anyString()))
+            .willReturn(Optional.of(0L));
+
+        // when
+        AccountException exception = assertThrows(AccountException.class,
+            () -> transactionService.cancelBalance("transactionId", "1234567890", 1000L));
+
+        // then
+        assertEquals(TRANSACTION_ARCHIVED, exception.getErrorCode());
+    }
+
     @Test
     @DisplayName("거래 취소 실패 - 계좌 불일치")
     void failCancelBalance_TransactionAccountUnMatch() {
@@ -508,6 +576,231 @@ class TransactionServiceTest {
         assertEquals(CANCEL_BALANCE_MUST_SUCCESS_TRANSACTION, exception.getErrorCode());
     }
 
+    @Test
+    @DisplayName("입금 성공 - 원자적 갱신 후 잔액 스냅샷 기록")
+    void successDepositBalance() {
+        // given
+        given(accountRepository.depositBalance(eq("1000000000"), eq(1000L), eq(IN_USE), any()))
+            .willReturn(1);
+
+        Account account = Account.builder()
+            .accountUser(pobi)
+            .accountStatus(IN_USE)
+            .balance(11000L)
+            .accountNumber("1000000000")
+            .build();
+
+        given(accountRepository.findByAccountNumber(anyString()))
+            .willReturn(Optional.of(account));
+        given(transactionRepository.save(any()))
+            .willAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        TransactionDto transactionDto = transactionService.depositBalance("1000000000", 1000L);
+
+        // then
+        assertEquals(DEPOSIT, transactionDto.getTransactionType());
+        assertEquals(S, transactionDto.getTransactionResultType());
+        assertEquals(1000L, transactionDto.getAmount());
+        assertEquals(11000L, transactionDto.getBalanceSnapshot());
+    }
+
+    @Test
+    @DisplayName("입금 실패 - 해지 계좌")
+    void failDepositBalance_AccountAlreadyUnregistered() {
+        // given
+        given(accountRepository.depositBalance(anyString(), anyLong(), any(), any()))
+            .willReturn(0);
+
+        Account account = Account.builder()
+            .accountUser(pobi)
+            .accountStatus(UNREGISTERED)
+            .balance(0L)
+            .accountNumber("1000000000")
+            .build();
+
+        given(accountRepository.findByAccountNumber(anyString()))
+            .willReturn(Optional.of(account));
+
+        // when
+        AccountException exception = assertThrows(AccountException.class,
+            () -> transactionService.depositBalance("1000000000", 1000L));
+
+        // then
+        assertEquals(ACCOUNT_ALREADY_UNREGISTERED, exception.getErrorCode());
+        verify(transactionRepository, times(0)).save(any());
+    }
+
+    @Test
+    @DisplayName("입금 실패 - 계좌 없음")
+    void failDepositBalance_AccountNotFound() {
+        // given
+        given(accountRepository.depositBalance(anyString(), anyLong(), any(), any()))
+            .willReturn(0);
+        given(accountRepository.findByAccountNumber(anyString()))
+            .willReturn(Optional.empty());
+
+        // when
+        AccountException exception = assertThrows(AccountException.class,
+            () -> transactionService.depositBalance("1000000000", 1000L));
+
+        // then
+        assertEquals(ACCOUNT_NOT_FOUND, exception.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("송금 성공 - 출금/입금 거래 연결")
+    void successTransferBalance() {
+        // given
+        given(accountUserRepository.findById(anyLong()))
+            .willReturn(Optional.of(pobi));
+
+        Account fromAccount = Account.builder()
+            .accountUser(pobi)
+            .accountStatus(IN_USE)
+            .balance(10000L)
+            .accountNumber("1000000000")
+            .build();
+
+        Account toAccount = Account.builder()
+            .accountUser(harry)
+            .accountStatus(IN_USE)
+            .balance(500L)
+            .accountNumber("2000000000")
+            .build();
+
+        given(accountRepository.findByAccountNumber("1000000000"))
+            .willReturn(Optional.of(fromAccount));
+        given(accountRepository.findByAccountNumber("2000000000"))
+            .willReturn(Optional.of(toAccount));
+        given(transactionRepository.save(any()))
+            .willAnswer(invocation -> invocation.getArgument(0));
+
+        ArgumentCaptor<Transaction> captor = ArgumentCaptor.forClass(Transaction.class);
+
+        // when
+        TransferDto transferDto = transactionService.transferBalance(1L,
+            "1000000000", "2000000000", 1000L);
+
+        // then
+        verify(transactionRepository, times(2)).save(captor.capture());
+        Transaction withdraw = captor.getAllValues().get(0);
+        Transaction deposit = captor.getAllValues().get(1);
+
+        assertEquals(TRANSFER_WITHDRAW, withdraw.getTransactionType());
+        assertEquals(9000L, withdraw.getBalanceSnapshot());
+        assertEquals(TRANSFER_DEPOSIT, deposit.getTransactionType());
+        assertEquals(1500L, deposit.getBalanceSnapshot());
+        assertEquals(withdraw, deposit.getLinkedTransaction());
+        assertEquals("1000000000", transferDto.getWithdrawTransaction().getAccountNumber());
+        assertEquals("2000000000", transferDto.getDepositTransaction().getAccountNumber());
+    }
+
+    @Test
+    @DisplayName("송금 성공 - 분할 계좌는 샤드에서 출금")
+    void successTransferBalance_ShardedAccount() {
+        // given
+        given(accountUserRepository.findById(anyLong()))
+            .willReturn(Optional.of(pobi));
+
+        Account fromAccount = Account.builder()
+            .accountUser(pobi)
+            .accountStatus(IN_USE)
+            .balance(0L)
+            .balanceShardCount(4)
+            .accountNumber("1000000000")
+            .build();
+
+        Account toAccount = Account.builder()
+            .accountUser(harry)
+            .accountStatus(IN_USE)
+            .balance(500L)
+            .accountNumber("2000000000")
+            .build();
+
+        given(accountRepository.findByAccountNumber("1000000000"))
+            .willReturn(Optional.of(fromAccount));
+        given(accountRepository.findByAccountNumber("2000000000"))
+            .willReturn(Optional.of(toAccount));
+        given(balanceShardService.getTotalBalance(fromAccount))
+            .willReturn(9000L);
+        given(transactionRepository.save(any()))
+            .willAnswer(invocation -> invocation.getArgument(0));
+
+        ArgumentCaptor<Transaction> captor = ArgumentCaptor.forClass(Transaction.class);
+
+        // when
+        transactionService.transferBalance(1L, "1000000000", "2000000000", 1000L);
+
+        // then
+        verify(balanceShardService).useBalance(fromAccount, 1000L);
+        verify(transactionRepository, times(2)).save(captor.capture());
+        assertEquals(0L, fromAccount.getBalance());
+        assertEquals(9000L, captor.getAllValues().get(0).getBalanceSnapshot());
+        assertEquals(1500L, toAccount.getBalance());
+    }
+
+    @Test
+    @DisplayName("송금 실패 - 같은 계좌")
+    void failTransferBalance_TransferSameAccount() {
+        // given
+        given(accountUserRepository.findById(anyLong()))
+            .willReturn(Optional.of(pobi));
+
+        Account account = Account.builder()
+            .accountUser(pobi)
+            .accountStatus(IN_USE)
+            .balance(10000L)
+            .accountNumber("1000000000")
+            .build();
+
+        given(accountRepository.findByAccountNumber(anyString()))
+            .willReturn(Optional.of(account));
+
+        // when
+        AccountException exception = assertThrows(AccountException.class,
+            () -> transactionService.transferBalance(1L, "1000000000", "1000000000", 1000L));
+
+        // then
+        assertEquals(TRANSFER_SAME_ACCOUNT, exception.getErrorCode());
+        verify(transactionRepository, times(0)).save(any());
+    }
+
+    @Test
+    @DisplayName("송금 실패 - 잔액 부족")
+    void failTransferBalance_AmountExceedBalance() {
+        // given
+        given(accountUserRepository.findById(anyLong()))
+            .willReturn(Optional.of(pobi));
+
+        Account fromAccount = Account.builder()
+            .accountUser(pobi)
+            .accountStatus(IN_USE)
+            .balance(100L)
+            .accountNumber("1000000000")
+            .build();
+
+        Account toAccount = Account.builder()
+            .accountUser(harry)
+            .accountStatus(IN_USE)
+            .balance(0L)
+            .accountNumber("2000000000")
+            .build();
+
+        given(accountRepository.findByAccountNumber("1000000000"))
+            .willReturn(Optional.of(fromAccount));
+        given(accountRepository.findByAccountNumber("2000000000"))
+            .willReturn(Optional.of(toAccount));
+
+        // when
+        AccountException exception = assertThrows(AccountException.class,
+            () -> transactionService.transferBalance(1L, "1000000000", "2000000000", 1000L));
+
+        // then
+        assertEquals(AMOUNT_EXCEED_BALANCE, exception.getErrorCode());
+        assertEquals(0L, toAccount.getBalance());
+    }
+
     @Test
     @DisplayName("거래 조회 성공")
     void successQueryTransaction() {
@@ -557,4 +850,108 @@ class TransactionServiceTest {
         // then
         assertEquals(TRANSACTION_NOT_FOUND, exception.getErrorCode());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("거래 조회 성공 - 보관된 거래")
+    void successQueryTransaction_Archived() {
+        // given
+        Account account = Account.builder()
+            .id(1L)
+            .accountUser(pobi)
+            .accountStatus(IN_USE)
+            .balance(1000L)
+            .accountNumber("1000000000")
+            .build();
+
+        ArchivedTransaction archivedTransaction = ArchivedTransaction.builder()
+            .id(10L)
+            .account(account)
+            .transactionType(USE)
+            .transactionResultType(S)
+            .transactionId("transactionId")
+            .transactedAt(LocalDateTime.now().minusYears(2))
+            .amount(CANCEL_AMOUNT)
+            .balanceSnapshot(9000L)
+            .archivedAt(LocalDateTime.now())
+            .build();
+
+        given(transactionRepository.findByTransactionId(anyString()))
+            .willReturn(Optional.empty());
+        given(archivedTransactionRepository.findByTransactionId(anyString()))
+            .willReturn(Optional.of(archivedTransaction));
+
+        // when
+        TransactionDto transactionDto = transactionService.queryTransaction("transactionId");
+
+        // then
+        assertEquals("1000000000", transactionDto.getAccountNumber());
+        assertEquals(USE, transactionDto.getTransactionType());
+        assertEquals(S, transactionDto.getTransactionResultType());
+        assertEquals(CANCEL_AMOUNT, transactionDto.getAmount());
+        assertEquals("transactionId", transactionDto.getTransactionId());
+    }
+
+    @Test
+    @DisplayName("거래 조회 성공 - 세그먼트 파일로 옮겨진 거래")
+    void successQueryTransaction_Segment() {
+        // given
+        SegmentRecord segmentRecord = SegmentRecord.builder()
+            .id(10L)
+            .accountId(1L)
+            .accountNumber("1000000000")
+            .transactionType(USE)
+            .transactionResultType(S)
+            .transactionId("transactionId")
+            .transactedAt(LocalDateTime.now().minusYears(3))
+            .amount(CANCEL_AMOUNT)
+            .balanceSnapshot(9000L)
+            .build();
+
+        given(transactionRepository.findByTransactionId(anyString()))
+            .willReturn(Optional.empty());
+        given(archivedTransactionRepository.findByTransactionId(anyString()))
+            .willReturn(Optional.empty());
+        given(ledgerSegmentStore.findByTransactionId(anyString()))
+            .willReturn(Optional.of(segmentRecord));
+
+        // when
+        TransactionDto transactionDto = transactionService.queryTransaction("transactionId");
+
+        // then
+        assertEquals("1000000000", transactionDto.getAccountNumber());
+        assertEquals(USE, transactionDto.getTransactionType());
+        assertEquals(CANCEL_AMOUNT, transactionDto.getAmount());
+        assertEquals("transactionId", transactionDto.getTransactionId());
+    }
+
+    @Test
+    @DisplayName("거래 저장 시 JFR 이벤트 기록")
+    void ledgerWriteEvent() throws Exception {
+        // given
+        given(accountUserRepository.findById(anyLong()))
+            .willReturn(Optional.of(pobi));
+
+        Account account = Account.builder()
+            .accountUser(pobi)
+            .accountStatus(IN_USE)
+            .balance(10000L)
+            .accountNumber("1000000000")
+            .build();
+
+        given(accountRepository.findByAccountNumber(anyString()))
+            .willReturn(Optional.of(account));
+
+        // when
+        List<RecordedEvent> events = JfrEvents.record(
+            () -> transactionService.useBalance(1L, "1000000000", 1000L),
+            "kr.co.zerobase.account.LedgerWrite");
+
+        // then
+        assertEquals(1, events.size());
+        RecordedEvent event = events.get(0);
+        assertEquals("USE", event.getString("transactionType"));
+        assertEquals("S", event.getString("transactionResultType"));
+        assertNull(event.getString("errorCode"));
+        assertEquals(1000L, event.getLong("amount"));
+    }
+}
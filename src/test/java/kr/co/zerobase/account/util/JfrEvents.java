@@ -0,0 +1,38 @@
+package kr.co.zerobase.account.util;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+public class JfrEvents {
+
+    private JfrEvents() {
+    }
+
+    // 지정한 이벤트만 켠 녹화 안에서 action 을 실행하고 커밋된 이벤트를 돌려준다.
+    public static List<RecordedEvent> record(Action action, String... eventNames)
+        throws Exception {
+        Path file = Files.createTempFile("account-events", ".jfr");
+        try (Recording recording = new Recording()) {
+            for (String eventName : eventNames) {
+                recording.enable(eventName);
+            }
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @FunctionalInterface
+    public interface Action {
+
+        void run() throws Exception;
+    }
+}
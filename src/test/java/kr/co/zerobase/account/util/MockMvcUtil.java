@@ -7,6 +7,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpHeaders;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
 
@@ -22,6 +23,15 @@ public class MockMvcUtil {
             .andDo(print());
     }
 
+    public static ResultActions performGet(MockMvc mockMvc, String url, HttpHeaders headers)
+        throws Exception {
+        return mockMvc.perform(
+                get(url)
+                    .contentType(APPLICATION_JSON)
+                    .headers(headers))
+            .andDo(print());
+    }
+
     public static ResultActions performPost(MockMvc mockMvc, String url, Object requestBody)
         throws Exception {
         return mockMvc.perform(
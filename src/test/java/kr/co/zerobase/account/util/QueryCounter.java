@@ -0,0 +1,42 @@
+package kr.co.zerobase.account.util;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import javax.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+
+public class QueryCounter implements AutoCloseable {
+
+    private final Statistics statistics;
+
+    public QueryCounter(EntityManagerFactory entityManagerFactory) {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    // 같은 SessionFactory 를 쓰는 다른 테스트에 통계 수집 비용을 남기지 않는다.
+    @Override
+    public void close() {
+        statistics.setStatisticsEnabled(false);
+    }
+
+    public long count(Action action) throws Exception {
+        statistics.clear();
+        action.run();
+        return statistics.getPrepareStatementCount();
+    }
+
+    public void assertAtMost(long budget, Action action) throws Exception {
+        long count = count(action);
+        assertTrue(count <= budget,
+            () -> String.format("SQL statement budget exceeded: expected <= %d but was %d",
+                budget, count));
+    }
+
+    @FunctionalInterface
+    public interface Action {
+
+        void run() throws Exception;
+    }
+}